@@ -0,0 +1,60 @@
+package com.koliving.api.auth.jwt;
+
+import com.koliving.api.properties.JwtProperties;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+/**
+ * author : haedoang date : 2023/10/11 description : 요청마다 수행되는 액세스 토큰 검증과 클레임 추출 성능 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtBenchmark {
+
+    private JwtProvider jwtProvider;
+    private JwtService jwtService;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        final String secret = Base64.getEncoder()
+            .encodeToString("koliving-benchmark-secret-key-for-hmac-sha256".getBytes(StandardCharsets.UTF_8));
+        final JwtProperties jwtProperties = new JwtProperties("HS256", secret, 1, 14);
+
+        jwtProvider = new JwtProvider(jwtProperties);
+        jwtService = new JwtService(null, null, null, null, jwtProvider);
+        accessToken = jwtProvider.generateAccessToken(
+            JwtVo.builder()
+                .email("benchmark@koliving.com")
+                .roles(List.of(new SimpleGrantedAuthority("ROLE_USER")))
+                .build()
+        );
+    }
+
+    @Benchmark
+    public VerifiedToken verifyToken() {
+        // JwtProvider.validateToken 은 결과를 버리므로, 같은 검증을 하는 verify 의 결과를 반환해 JIT 가 검증을 지우지 못하게 한다
+        return jwtProvider.verify(accessToken);
+    }
+
+    @Benchmark
+    public String getClaims() {
+        return jwtService.extractEmail(accessToken);
+    }
+
+    @Benchmark
+    public String authenticationFilterPath() {
+        return jwtProvider.verify(accessToken).getEmail();
+    }
+}
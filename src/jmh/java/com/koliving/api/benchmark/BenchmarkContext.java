@@ -0,0 +1,49 @@
+package com.koliving.api.benchmark;
+
+import com.koliving.api.config.MessageSourceConfig;
+import com.koliving.api.config.QueryDslConfig;
+import com.koliving.api.i18n.MessageSource;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceTransactionManagerAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+/**
+ * author : haedoang date : 2023/10/11 description : 벤치마크용 최소 스프링 컨텍스트. H2(MySQL 모드)와 JPA 리파지토리만 구성한다.
+ */
+@Configuration
+@EnableJpaAuditing
+@EntityScan("com.koliving.api")
+@EnableJpaRepositories("com.koliving.api")
+@ImportAutoConfiguration({
+    DataSourceAutoConfiguration.class,
+    DataSourceTransactionManagerAutoConfiguration.class,
+    HibernateJpaAutoConfiguration.class,
+    TransactionAutoConfiguration.class
+})
+@Import({QueryDslConfig.class, MessageSourceConfig.class, MessageSource.class})
+public class BenchmarkContext {
+
+    public static ConfigurableApplicationContext start(String name) {
+        return new SpringApplicationBuilder(BenchmarkContext.class)
+            .web(WebApplicationType.NONE)
+            .logStartupInfo(false)
+            .run(
+                "--spring.config.name=benchmark",
+                "--spring.datasource.url=jdbc:h2:mem:" + name + ";MODE=MySQL;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.username=sa",
+                "--spring.jpa.hibernate.ddl-auto=create",
+                "--spring.jpa.open-in-view=false",
+                "--logging.level.root=WARN"
+            );
+    }
+}
@@ -0,0 +1,131 @@
+package com.koliving.api.email;
+
+import com.koliving.api.properties.EmailTemplateProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.context.support.StaticMessageSource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+/**
+ * author : haedoang date : 2023/10/18 description : 메일 한 통을 만들어 MIME 으로 직렬화하기까지의 시간 측정.
+ * legacy 는 메일마다 문구 조회, Thymeleaf 렌더링, 로고 읽기와 인코딩을 하고, cached 는 캐시된 템플릿 조각과 인코딩된 로고를 쓴다.
+ * 문구는 StaticMessageSource 로 조회하므로 운영의 TB_LANGUAGE 조회 비용은 포함하지 않는다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EmailMessageBenchmark {
+
+    @Param({"AUTH", "CONTACT"})
+    private MailType type;
+
+    private JavaMailSenderImpl mailSender;
+    private StaticMessageSource messageSource;
+    private EmailTemplateUtil emailTemplateUtil;
+    private EmailLogo emailLogo;
+    private Map<String, Object> variables;
+
+    @Setup
+    public void setUp() throws IOException {
+        final ClassLoaderTemplateResolver templateResolver = new ClassLoaderTemplateResolver();
+        templateResolver.setPrefix("templates/");
+        templateResolver.setSuffix(".html");
+        templateResolver.setTemplateMode(TemplateMode.HTML);
+        templateResolver.setCharacterEncoding("UTF-8");
+
+        final SpringTemplateEngine templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(templateResolver);
+
+        messageSource = new StaticMessageSource();
+        messageSource.addMessage("auth_email_subject", Locale.ENGLISH, "Confirm your email");
+        messageSource.addMessage("auth_email_subtitle", Locale.ENGLISH, "Click the link below to proceed with authentication");
+        messageSource.addMessage("auth_email_link_guidance", Locale.ENGLISH, "If the button doesn't work, copy and paste the link below into url");
+        messageSource.addMessage("contact_email_subject", Locale.ENGLISH, "You have a new message");
+        messageSource.addMessage("contact_email_subtitle", Locale.ENGLISH, "Someone is interested in your room");
+
+        mailSender = new JavaMailSenderImpl();
+        emailTemplateUtil = new EmailTemplateUtil(templateEngine, messageSource,
+            new EmailTemplateProperties(100, Duration.ofMinutes(10)), new SimpleMeterRegistry());
+        emailLogo = new EmailLogo();
+
+        variables = new HashMap<>();
+        variables.put("authEmailLink", "https://koliving.com/signup/confirm?token=2f0c1a3e-8d6b-4b4e-9a77-0c1f3b7d5e21");
+        variables.put("contact", "+82 10-0000-0000");
+        variables.put("message", "Hello, is the room still available next month? I'd like to visit this weekend.");
+        variables.put("roomLink", "https://koliving.com/rooms/1");
+        variables.put("userName", "Benchmark User");
+        variables.put("userAge", 27);
+        variables.put("userImageProfile", "https://koliving.com/images/profile.png");
+        variables.put("userGender", "MALE");
+        variables.put("userDescription", "Quiet tenant who works from home");
+    }
+
+    @Benchmark
+    public MimeMessage legacy() throws MessagingException, IOException {
+        final Map<String, Object> model = new HashMap<>(variables);
+        model.put("title", "KOLIVING");
+
+        final String subject;
+        if (type == MailType.CONTACT) {
+            model.put("subtitle", messageSource.getMessage("contact_email_subtitle", null, Locale.ENGLISH));
+            subject = messageSource.getMessage("contact_email_subject", null, Locale.ENGLISH);
+        } else {
+            model.put("subtitle", messageSource.getMessage("auth_email_subtitle", null, Locale.ENGLISH));
+            model.put("linkGuidance", messageSource.getMessage("auth_email_link_guidance", null, Locale.ENGLISH));
+            subject = messageSource.getMessage("auth_email_subject", null, Locale.ENGLISH);
+        }
+
+        final MimeMessage mimeMessage = mailSender.createMimeMessage();
+        final MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, true, "UTF-8");
+        helper.setSubject(subject);
+        helper.setTo("benchmark@koliving.com");
+        helper.setText(emailTemplateUtil.generateEmail(type, model), true);
+        helper.setFrom("noreply@koliving.com");
+        helper.addInline("logo", new ClassPathResource("static/image/logo-black.jpg"));
+
+        return serialize(mimeMessage);
+    }
+
+    @Benchmark
+    public MimeMessage cached() throws MessagingException, IOException {
+        final EmailTemplate template = emailTemplateUtil.getTemplate(type, Locale.ENGLISH);
+
+        final MimeMessage mimeMessage = mailSender.createMimeMessage();
+        final MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, true, "UTF-8");
+        helper.setSubject(template.getSubject());
+        helper.setTo("benchmark@koliving.com");
+        helper.setText(emailTemplateUtil.render(template, variables), true);
+        helper.setFrom("noreply@koliving.com");
+        emailLogo.addTo(helper);
+
+        return serialize(mimeMessage);
+    }
+
+    // 전송 인코딩까지 측정하도록 SMTP 로 보낼 때처럼 MIME 본문을 끝까지 쓴다
+    private MimeMessage serialize(MimeMessage mimeMessage) throws MessagingException, IOException {
+        mimeMessage.saveChanges();
+        mimeMessage.writeTo(OutputStream.nullOutputStream());
+        return mimeMessage;
+    }
+}
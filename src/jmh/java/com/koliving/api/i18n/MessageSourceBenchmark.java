@@ -0,0 +1,53 @@
+package com.koliving.api.i18n;
+
+import com.koliving.api.benchmark.BenchmarkContext;
+import java.text.MessageFormat;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * author : haedoang date : 2023/10/11 description : 메시지 번들 조회와 TB_LANGUAGE 조회 경로의 resolveCode 성능 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MessageSourceBenchmark {
+
+    private static final String BUNDLE_KEY = "jakarta.validation.constraints.NotBlank.message";
+    private static final String DATABASE_KEY = "expired_token";
+
+    private ConfigurableApplicationContext context;
+    private MessageSource messageSource;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start("message-source");
+        context.getBean(LanguageRepository.class).save(Language.valueOf("en", DATABASE_KEY, "Access token has expired"));
+        messageSource = context.getBean(MessageSource.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public MessageFormat resolveFromBundle() {
+        return messageSource.resolveCode(BUNDLE_KEY, Locale.ENGLISH);
+    }
+
+    @Benchmark
+    public MessageFormat resolveFromDatabase() {
+        return messageSource.resolveCode(DATABASE_KEY, Locale.ENGLISH);
+    }
+}
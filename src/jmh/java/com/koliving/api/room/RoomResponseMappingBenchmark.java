@@ -0,0 +1,88 @@
+package com.koliving.api.room;
+
+import com.koliving.api.catalog.application.CatalogSnapshot;
+import com.koliving.api.file.domain.ImageFile;
+import com.koliving.api.location.domain.Location;
+import com.koliving.api.location.domain.LocationType;
+import com.koliving.api.room.application.dto.RoomResponse;
+import com.koliving.api.room.domain.Furnishing;
+import com.koliving.api.room.domain.FurnishingType;
+import com.koliving.api.room.domain.Maintenance;
+import com.koliving.api.room.domain.Money;
+import com.koliving.api.room.domain.Room;
+import com.koliving.api.room.domain.RoomType;
+import com.koliving.api.room.domain.info.RoomInfo;
+import com.koliving.api.user.domain.User;
+import java.lang.reflect.Field;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * author : haedoang date : 2023/10/11 description : Room 엔티티의 RoomResponse 변환 성능 측정. 지역과 가구는 스냅샷에서 id 로 찾는다
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RoomResponseMappingBenchmark {
+
+    private Room room;
+    private List<Long> furnishingIds;
+    private CatalogSnapshot catalog;
+
+    @Setup
+    public void setUp() {
+        final Location upperLocation = withId(Location.valueOf("seongdong", LocationType.GU), 1L);
+        final Location location = withId(Location.valueOf("seongsu", LocationType.DONG, upperLocation), 2L);
+        final User user = User.builder().email("benchmark@koliving.com").build();
+        final List<Furnishing> furnishings = Arrays.stream(FurnishingType.values())
+            .map(type -> withId(Furnishing.valueOf(type), (long) type.ordinal() + 1))
+            .toList();
+
+        furnishingIds = furnishings.stream()
+            .map(Furnishing::getId)
+            .toList();
+        catalog = CatalogSnapshot.of(1L, List.of(upperLocation, location), furnishings);
+        room = Room.valueOf(
+            location,
+            RoomInfo.valueOf(RoomType.ONE_BED_FLATS, 1, 1, 1),
+            Money.valueOf(1_000_000),
+            Money.valueOf(500_000),
+            Maintenance.empty(),
+            new HashSet<>(furnishings),
+            LocalDate.of(2023, 9, 1),
+            "benchmark room",
+            IntStream.range(0, 5)
+                .mapToObj(i -> ImageFile.valueOf("room-" + i + ".png", 100L))
+                .collect(Collectors.toSet())
+        ).by(user);
+    }
+
+    @Benchmark
+    public RoomResponse valueOf() {
+        return RoomResponse.valueOf(room, furnishingIds, catalog);
+    }
+
+    // 저장하지 않은 엔티티에 스냅샷 키로 쓸 id 를 채운다
+    private static <T> T withId(T entity, Long id) {
+        try {
+            final Field field = entity.getClass().getDeclaredField("id");
+            field.setAccessible(true);
+            field.set(entity, id);
+            return entity;
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
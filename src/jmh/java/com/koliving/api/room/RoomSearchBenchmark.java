@@ -0,0 +1,126 @@
+package com.koliving.api.room;
+
+import com.koliving.api.benchmark.BenchmarkContext;
+import com.koliving.api.location.domain.Location;
+import com.koliving.api.location.domain.LocationType;
+import com.koliving.api.location.infra.LocationRepository;
+import com.koliving.api.room.application.dto.RoomSearchCondition;
+import com.koliving.api.room.application.dto.RoomSummary;
+import com.koliving.api.room.domain.Furnishing;
+import com.koliving.api.room.domain.FurnishingType;
+import com.koliving.api.room.domain.Maintenance;
+import com.koliving.api.room.domain.Money;
+import com.koliving.api.room.domain.Room;
+import com.koliving.api.room.domain.RoomType;
+import com.koliving.api.room.domain.info.RoomInfo;
+import com.koliving.api.room.infra.FurnishingRepository;
+import com.koliving.api.room.infra.RoomRepository;
+import com.koliving.api.user.domain.User;
+import com.koliving.api.user.infra.UserRepository;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * author : haedoang date : 2023/10/11 description : N 개의 방이 저장된 H2 에서 RoomRepositoryImpl.search 성능 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RoomSearchBenchmark {
+
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 20);
+    private static final int LOCATION_COUNT = 20;
+
+    @Param({"1000", "10000"})
+    private int rooms;
+
+    private ConfigurableApplicationContext context;
+    private RoomRepository roomRepository;
+    private RoomSearchCondition emptyCondition;
+    private RoomSearchCondition filteredCondition;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start("room-search-" + rooms);
+        roomRepository = context.getBean(RoomRepository.class);
+
+        final LocationRepository locationRepository = context.getBean(LocationRepository.class);
+        final FurnishingRepository furnishingRepository = context.getBean(FurnishingRepository.class);
+        final UserRepository userRepository = context.getBean(UserRepository.class);
+
+        context.getBean(TransactionTemplate.class).executeWithoutResult(status -> {
+            final List<Furnishing> furnishings = furnishingRepository.saveAll(
+                Arrays.stream(FurnishingType.values())
+                    .map(Furnishing::valueOf)
+                    .collect(Collectors.toList())
+            );
+            final Location gu = locationRepository.save(Location.valueOf("seongdong", LocationType.GU));
+            final List<Location> dongs = new ArrayList<>();
+            for (int i = 0; i < LOCATION_COUNT; i++) {
+                dongs.add(locationRepository.save(Location.valueOf("dong" + i, LocationType.DONG, gu)));
+            }
+            final User user = userRepository.save(User.builder().email("benchmark@koliving.com").build());
+
+            final List<Room> entities = new ArrayList<>(rooms);
+            for (int i = 0; i < rooms; i++) {
+                entities.add(
+                    Room.valueOf(
+                        dongs.get(i % LOCATION_COUNT),
+                        i % 3 == 0 ? RoomInfo.valueOf(RoomType.STUDIO, 0, 1, 1) : RoomInfo.valueOf(RoomType.ONE_BED_FLATS, 1, 1, 1),
+                        Money.valueOf(100_000 * (i % 50)),
+                        Money.valueOf(10_000 * (i % 100)),
+                        Maintenance.empty(),
+                        new HashSet<>(furnishings.subList(0, i % 4)),
+                        LocalDate.of(2023, 9, 1).plusDays(i % 30),
+                        "benchmark room " + i,
+                        Collections.emptySet()
+                    ).by(user)
+                );
+            }
+            roomRepository.saveAll(entities);
+
+            emptyCondition = new RoomSearchCondition(null, null, null, null, null, null, null, null);
+            filteredCondition = new RoomSearchCondition(
+                List.of(dongs.get(0).getId(), dongs.get(1).getId()),
+                null, 3_000_000, 100_000, 500_000, null,
+                List.of(RoomType.STUDIO), List.of(furnishings.get(0).getId())
+            );
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<RoomSummary> searchAll() {
+        return roomRepository.search(FIRST_PAGE, emptyCondition);
+    }
+
+    @Benchmark
+    public Page<RoomSummary> searchFiltered() {
+        return roomRepository.search(FIRST_PAGE, filteredCondition);
+    }
+}
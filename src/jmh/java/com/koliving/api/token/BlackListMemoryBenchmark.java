@@ -0,0 +1,127 @@
+package com.koliving.api.token;
+
+import java.util.Base64;
+import java.util.Date;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.redisson.Redisson;
+import org.redisson.api.BatchOptions;
+import org.redisson.api.RBatch;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.redisnode.RedisNode.InfoSection;
+import org.redisson.api.redisnode.RedisNodes;
+import org.redisson.client.codec.LongCodec;
+import org.redisson.codec.SerializationCodec;
+import org.redisson.config.Config;
+
+/**
+ * author : haedoang date : 2023/10/14 description : 블랙리스트 저장 방식별 Redis 메모리 사용량 측정.
+ * 실행 중인 Redis 가 필요하다(-Dbenchmark.redis.address, 기본값 redis://localhost:6379). BENCH: 접두사 키만 쓰고 지운다.
+ * LEGACY_HASH 는 이전 BlackAccessToken 해시(JDK 직렬화 토큰 원문 -> Date), PER_TOKEN_KEY 는 BLACKLIST:{digest} 만료 키.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(1)
+public class BlackListMemoryBenchmark {
+
+    private static final String PREFIX = "BENCH:";
+    private static final String LEGACY_HASH_KEY = PREFIX + "BlackAccessToken";
+    private static final String KEY_PREFIX = PREFIX + "BLACKLIST:";
+    private static final int BATCH_SIZE = 10_000;
+    private static final int TOKEN_BYTES = 190;
+
+    public enum Layout {
+        LEGACY_HASH, PER_TOKEN_KEY
+    }
+
+    @Param({"1000000"})
+    private int entries;
+
+    @Param({"LEGACY_HASH", "PER_TOKEN_KEY"})
+    private Layout layout;
+
+    private RedissonClient redissonClient;
+    private String[] tokens;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Memory {
+
+        public long usedBytes;
+        public long bytesPerEntry;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final Config config = new Config();
+        config.useSingleServer().setAddress(System.getProperty("benchmark.redis.address", "redis://localhost:6379"));
+        redissonClient = Redisson.create(config);
+
+        final Random random = new Random(42);
+        final Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        tokens = new String[entries];
+        for (int i = 0; i < entries; i++) {
+            final byte[] bytes = new byte[TOKEN_BYTES];
+            random.nextBytes(bytes);
+            tokens[i] = encoder.encodeToString(bytes);
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void cleanUp() {
+        redissonClient.getKeys().deleteByPattern(PREFIX + "*");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        redissonClient.shutdown();
+    }
+
+    @Benchmark
+    public void store(Memory memory) {
+        final long before = usedMemory();
+        final Date expiration = new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1));
+
+        for (int from = 0; from < entries; from += BATCH_SIZE) {
+            final RBatch batch = redissonClient.createBatch(BatchOptions.defaults());
+            for (int i = from; i < Math.min(from + BATCH_SIZE, entries); i++) {
+                if (layout == Layout.LEGACY_HASH) {
+                    batch.<String, Date>getMap(LEGACY_HASH_KEY, new SerializationCodec()).fastPutAsync(tokens[i], expiration);
+                } else {
+                    batch.<Long>getBucket(KEY_PREFIX + TokenDigest.of(tokens[i]), LongCodec.INSTANCE)
+                        .setAsync(expiration.getTime(), 1, TimeUnit.HOURS);
+                }
+            }
+            batch.execute();
+        }
+
+        memory.usedBytes = usedMemory() - before;
+        memory.bytesPerEntry = memory.usedBytes / entries;
+    }
+
+    private long usedMemory() {
+        return Long.parseLong(
+            redissonClient.getRedisNodes(RedisNodes.SINGLE)
+                .getInstance()
+                .info(InfoSection.MEMORY)
+                .get("used_memory")
+        );
+    }
+}
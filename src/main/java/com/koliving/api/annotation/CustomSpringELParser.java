@@ -1,19 +1,74 @@
 package com.koliving.api.annotation;
 
-import org.springframework.expression.ExpressionParser;
+import org.springframework.context.expression.MethodBasedEvaluationContext;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelEvaluationException;
+import org.springframework.expression.spel.SpelMessage;
+import org.springframework.expression.spel.SpelParserConfiguration;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
-import org.springframework.expression.spel.support.StandardEvaluationContext;
 
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * author : haedoang date : 2023/10/16 description : 락 키 SpEL 표현식을 메서드별로 한 번만 파싱해 재사용한다.
+ * 표현식은 첫 평가 후 바이트코드로 컴파일하고, 컴파일된 코드가 실행에 실패하면 해당 메서드는 해석 모드로 되돌린다.
+ */
 public class CustomSpringELParser {
 
-    public static Object getDynamicValue(String[] parameterNames, Object[] args, String key) {
-        ExpressionParser parser = new SpelExpressionParser();
-        StandardEvaluationContext context = new StandardEvaluationContext();
+    private static final SpelExpressionParser COMPILING_PARSER = new SpelExpressionParser(
+        new SpelParserConfiguration(SpelCompilerMode.IMMEDIATE, CustomSpringELParser.class.getClassLoader())
+    );
+    private static final SpelExpressionParser INTERPRETING_PARSER = new SpelExpressionParser();
+    private static final ParameterNameDiscoverer PARAMETER_NAME_DISCOVERER = new CachingParameterNameDiscoverer();
+
+    private static final Map<Method, Expression> EXPRESSIONS = new ConcurrentHashMap<>();
+
+    private CustomSpringELParser() {
+    }
+
+    public static Object getDynamicValue(Method method, Object[] args, String key) {
+        final Expression expression = EXPRESSIONS.computeIfAbsent(method, ignored -> COMPILING_PARSER.parseExpression(key));
+        final MethodBasedEvaluationContext context = new MethodBasedEvaluationContext(null, method, args, PARAMETER_NAME_DISCOVERER);
+
+        try {
+            return expression.getValue(context, Object.class);
+        } catch (SpelEvaluationException e) {
+            if (e.getMessageCode() != SpelMessage.EXCEPTION_RUNNING_COMPILED_EXPRESSION) {
+                throw e;
+            }
+
+            final Expression interpreted = INTERPRETING_PARSER.parseExpression(key);
+            EXPRESSIONS.put(method, interpreted);
+            return interpreted.getValue(context, Object.class);
+        }
+    }
+
+    private static final class CachingParameterNameDiscoverer implements ParameterNameDiscoverer {
+
+        private static final String[] NONE = new String[0];
 
-        for (int i = 0; i < parameterNames.length; i++) {
-            context.setVariable(parameterNames[i], args[i]);
+        private final ParameterNameDiscoverer delegate = new DefaultParameterNameDiscoverer();
+        private final Map<Method, String[]> names = new ConcurrentHashMap<>();
+
+        @Override
+        public String[] getParameterNames(Method method) {
+            final String[] discovered = names.computeIfAbsent(method, key -> {
+                final String[] parameterNames = delegate.getParameterNames(key);
+                return parameterNames == null ? NONE : parameterNames;
+            });
+
+            return discovered == NONE ? null : discovered;
         }
 
-        return parser.parseExpression(key).getValue(context, Object.class);
+        @Override
+        public String[] getParameterNames(Constructor<?> ctor) {
+            return delegate.getParameterNames(ctor);
+        }
     }
 }
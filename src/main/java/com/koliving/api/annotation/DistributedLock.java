@@ -6,10 +6,16 @@ import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 import java.util.concurrent.TimeUnit;
 
+/**
+ * 락을 얻지 못하면 LockAcquisitionException 을 던진다.
+ * leaseTime 이 -1 이면 만료 시간을 두지 않고, 메서드가 끝날 때까지 Redisson watchdog 이 락을 연장한다.
+ */
 @Target(ElementType.METHOD)
 @Retention(RetentionPolicy.RUNTIME)
 
 public @interface DistributedLock {
+    long WATCHDOG = -1L;
+
     String key();
     TimeUnit timeUnit() default TimeUnit.SECONDS;
     long waitTime() default 5L;
@@ -1,5 +1,9 @@
 package com.koliving.api.annotation;
 
+import com.koliving.api.exception.LockAcquisitionException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
@@ -11,6 +15,9 @@ import org.redisson.api.RedissonClient;
 import org.springframework.stereotype.Component;
 
 import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
 
 @Slf4j
 @Aspect
@@ -19,6 +26,8 @@ import java.lang.reflect.Method;
 public class DistributedLockAop {
     private final RedissonClient redissonClient;
     private final AopForTransaction aopForTransaction;
+    private final LocalLocks localLocks;
+    private final MeterRegistry meterRegistry;
     private static final String REDISSION_LOCK_PREFIX = "LOCK:";
 
     @Around("@annotation(com.koliving.api.annotation.DistributedLock)")
@@ -27,24 +36,103 @@ public class DistributedLockAop {
         Method method = signature.getMethod();
         DistributedLock distributedLock = method.getAnnotation(DistributedLock.class);
 
-        String key = REDISSION_LOCK_PREFIX + CustomSpringELParser.getDynamicValue(signature.getParameterNames(), joinPoint.getArgs(), distributedLock.key());
+        String key = REDISSION_LOCK_PREFIX + CustomSpringELParser.getDynamicValue(method, joinPoint.getArgs(), distributedLock.key());
+        String lockName = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+        long startedAt = System.nanoTime();
+        long waitNanos = distributedLock.timeUnit().toNanos(distributedLock.waitTime());
+
         RLock rLock = redissonClient.getLock(key);
+        if (localLocks.isEnabled()) {
+            acquireThroughLocal(rLock, distributedLock, key, lockName, startedAt, waitNanos);
+        } else {
+            acquireRemote(rLock, distributedLock, key, lockName, startedAt, waitNanos);
+        }
+        acquireTimer(lockName, "acquired").record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
 
         try {
-            boolean available = rLock.tryLock(distributedLock.waitTime(), distributedLock.leaseTime(), distributedLock.timeUnit());
-            if (!available) {
-                return false;
-            }
-
             return aopForTransaction.proceed(joinPoint);
-        } catch (InterruptedException e) {
-            throw e;
         } finally {
-            try {
+            if (rLock.isHeldByCurrentThread()) {
                 rLock.unlock();
-            } catch (IllegalMonitorStateException e) {
-                log.error("Redisson Lock Already Unlock. " + method.getName() + " " + key);
+            } else {
+                // 메서드 실행 중에 leaseTime 이 지나 락이 풀렸다. 그동안 다른 요청이 같은 키로 실행되었을 수 있다
+                counter("distributed.lock.lease.expired", lockName).increment();
+                log.warn("distributed lock lease expired during execution. lock={} key={}", lockName, key);
             }
         }
     }
+
+    /**
+     * 같은 키를 기다리는 노드 내 스레드는 로컬 락에서 기다리고, 로컬 락을 잡은 스레드만 Redis 락을 시도한다.
+     * 로컬 락은 Redis 락을 얻거나 실패하는 즉시 풀어, 메서드 실행 중에는 잡고 있지 않는다.
+     */
+    private void acquireThroughLocal(RLock rLock, DistributedLock distributedLock, String key, String lockName,
+        long startedAt, long waitNanos) throws InterruptedException {
+        Lock localLock = localLocks.retain(key);
+        try {
+            if (!acquireLocal(localLock, lockName, waitNanos)) {
+                throw acquisitionFailure(lockName, key, "local", startedAt);
+            }
+
+            try {
+                acquireRemote(rLock, distributedLock, key, lockName, startedAt, waitNanos);
+            } finally {
+                localLock.unlock();
+            }
+        } finally {
+            localLocks.release(key);
+        }
+    }
+
+    private boolean acquireLocal(Lock localLock, String lockName, long waitNanos) throws InterruptedException {
+        if (localLock.tryLock()) {
+            return true;
+        }
+
+        counter("distributed.lock.contention", lockName).increment();
+        return localLock.tryLock(waitNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private void acquireRemote(RLock rLock, DistributedLock distributedLock, String key, String lockName,
+        long startedAt, long waitNanos) throws InterruptedException {
+        long remainingWaitMillis = Math.max(0, TimeUnit.NANOSECONDS.toMillis(waitNanos - (System.nanoTime() - startedAt)));
+
+        if (!tryLock(rLock, distributedLock, remainingWaitMillis)) {
+            throw acquisitionFailure(lockName, key, "redis", startedAt);
+        }
+    }
+
+    private boolean tryLock(RLock rLock, DistributedLock distributedLock, long waitMillis) throws InterruptedException {
+        if (distributedLock.leaseTime() == DistributedLock.WATCHDOG) {
+            return rLock.tryLock(waitMillis, TimeUnit.MILLISECONDS);
+        }
+
+        return rLock.tryLock(waitMillis, distributedLock.timeUnit().toMillis(distributedLock.leaseTime()), TimeUnit.MILLISECONDS);
+    }
+
+    private LockAcquisitionException acquisitionFailure(String lockName, String key, String stage, long startedAt) {
+        long waited = System.nanoTime() - startedAt;
+        acquireTimer(lockName, "failed").record(waited, TimeUnit.NANOSECONDS);
+        Counter.builder("distributed.lock.acquire.failures")
+            .tag("lock", lockName)
+            .tag("stage", stage)
+            .register(meterRegistry)
+            .increment();
+
+        return new LockAcquisitionException(key, Duration.ofNanos(waited));
+    }
+
+    private Timer acquireTimer(String lockName, String result) {
+        return Timer.builder("distributed.lock.acquire")
+            .tag("lock", lockName)
+            .tag("result", result)
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    }
+
+    private Counter counter(String name, String lockName) {
+        return Counter.builder(name)
+            .tag("lock", lockName)
+            .register(meterRegistry);
+    }
 }
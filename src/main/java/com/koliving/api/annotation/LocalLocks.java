@@ -0,0 +1,60 @@
+package com.koliving.api.annotation;
+
+import com.koliving.api.properties.LockProperties;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import org.springframework.stereotype.Component;
+
+/**
+ * author : haedoang date : 2023/10/16 description : 분산 락 키별 노드 내 락.
+ * 같은 키를 기다리는 스레드는 노드 안에서 먼저 줄을 서고, 한 스레드만 Redis 락을 시도한다.
+ * 키마다 락을 따로 두고 참조 수를 세어, 마지막 스레드가 release 하면 맵에서 지운다. 서로 다른 키는 락을 공유하지 않는다.
+ */
+@Component
+public class LocalLocks {
+
+    private final Map<String, RefCountedLock> locks = new ConcurrentHashMap<>();
+    private final boolean enabled;
+    private final boolean fair;
+
+    public LocalLocks(LockProperties properties) {
+        this.enabled = properties.isEnabled();
+        this.fair = properties.isFair();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * key 의 락을 참조한다. 락을 잡았는지와 관계없이 반드시 release 로 참조를 돌려줘야 한다.
+     */
+    public Lock retain(String key) {
+        return locks.compute(key, (ignored, current) -> {
+            final RefCountedLock lock = current == null ? new RefCountedLock(fair) : current;
+            lock.references++;
+            return lock;
+        }).lock;
+    }
+
+    public void release(String key) {
+        locks.computeIfPresent(key, (ignored, current) -> --current.references == 0 ? null : current);
+    }
+
+    int size() {
+        return locks.size();
+    }
+
+    // references 는 ConcurrentHashMap.compute 안에서만 바꾼다
+    private static final class RefCountedLock {
+
+        private final ReentrantLock lock;
+        private int references;
+
+        private RefCountedLock(boolean fair) {
+            this.lock = new ReentrantLock(fair);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.koliving.api.auth;
 
+import com.koliving.api.auth.application.dto.TokenRefreshRequest;
 import com.koliving.api.auth.application.dto.TokenRequest;
 import com.koliving.api.auth.application.dto.TokenResponse;
 import com.koliving.api.base.ErrorResponse;
@@ -330,6 +331,30 @@ public class AuthController {
             .body(response);
     }
 
+    @PostMapping("token/refresh")
+    @Operation(
+        summary = "토큰 재발급",
+        description = "리프레시 토큰으로 액세스 토큰과 리프레시 토큰을 재발급한다. 사용한 리프레시 토큰은 폐기된다",
+        responses = {
+            @ApiResponse(
+                responseCode = "200",
+                description = "토큰 재발급 성공",
+                content = @Content(schema = @Schema(implementation = TokenResponse.class))
+            ),
+            @ApiResponse(
+                responseCode = "401",
+                description = "유효하지 않거나 재사용된 리프레시 토큰",
+                content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+        }
+    )
+    public ResponseEntity<TokenResponse> refreshToken(
+        @Valid @RequestBody TokenRefreshRequest request) {
+        TokenResponse response = authFacade.refreshTokens(request);
+        return ResponseEntity.ok()
+            .body(response);
+    }
+
 
 
     private void checkEmailDuplication(AuthEmailRequestDto authEmailRequestDto, Validator validator) {
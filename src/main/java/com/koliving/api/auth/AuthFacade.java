@@ -1,23 +1,30 @@
 package com.koliving.api.auth;
 
+import static com.koliving.api.base.ServiceError.INVALID_REFRESH_TOKEN;
+import static com.koliving.api.base.ServiceError.REFRESH_TOKEN_REUSED;
 import static com.koliving.api.base.ServiceError.UNAUTHORIZED;
 
+import com.koliving.api.auth.application.dto.TokenRefreshRequest;
 import com.koliving.api.auth.application.dto.TokenRequest;
 import com.koliving.api.auth.application.dto.TokenResponse;
 import com.koliving.api.auth.jwt.IJwtService;
 import com.koliving.api.auth.jwt.JwtProvider;
 import com.koliving.api.auth.jwt.JwtVo;
+import com.koliving.api.auth.jwt.VerifiedToken;
 import com.koliving.api.base.exception.KolivingServiceException;
 import com.koliving.api.dto.JwtTokenDto;
 import com.koliving.api.event.ConfirmationTokenCreatedEvent;
 import com.koliving.api.exception.ConfirmationTokenException;
-import com.koliving.api.token.blacklist.BlackAccessToken;
-import com.koliving.api.token.blacklist.BlackListRepository;
 import com.koliving.api.token.confirmation.ConfirmationToken;
 import com.koliving.api.token.confirmation.ConfirmationTokenType;
 import com.koliving.api.token.confirmation.IConfirmationTokenService;
+import com.koliving.api.token.refresh.RefreshToken;
+import com.koliving.api.token.refresh.RefreshTokenRotation;
 import com.koliving.api.user.domain.User;
 import com.koliving.api.user.infra.UserRepository;
+import io.jsonwebtoken.JwtException;
+import java.util.Objects;
+import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -37,7 +44,6 @@ public class AuthFacade {
     private final IConfirmationTokenService confirmationTokenService;
     private final JwtProvider jwtProvider;
     private final IJwtService jwtService;
-    private final BlackListRepository blackListRepository;
     private final PasswordEncoder passwordEncoder;
     private final ApplicationEventPublisher eventPublisher;
 
@@ -61,8 +67,10 @@ public class AuthFacade {
 
     @Transactional(readOnly = true)
     public JwtTokenDto issueAuthTokens(UserDetails userDetails) {
-        String accessToken = issueAccessToken(userDetails);
-        String refreshToken = jwtService.getRefreshToken(userDetails.getUsername());
+        String deviceId = newDeviceId();
+        String accessToken = issueAccessToken(userDetails, deviceId);
+        String refreshToken = issueRefreshToken(userDetails, deviceId);
+        jwtService.saveRefreshToken(userDetails.getUsername(), deviceId, refreshToken);
 
         return JwtTokenDto.builder()
             .accessToken(accessToken)
@@ -76,9 +84,10 @@ public class AuthFacade {
 
         this.setAuthentication(user);
 
-        String accessToken = issueAccessToken(user);
-        String refreshToken = issueRefreshToken(user);
-        jwtService.saveRefreshToken(user.getEmail(), refreshToken);
+        String deviceId = newDeviceId();
+        String accessToken = issueAccessToken(user, deviceId);
+        String refreshToken = issueRefreshToken(user, deviceId);
+        jwtService.saveRefreshToken(user.getEmail(), deviceId, refreshToken);
 
         return JwtTokenDto.builder()
             .accessToken(accessToken)
@@ -86,37 +95,57 @@ public class AuthFacade {
             .build();
     }
 
-    public void addToBlackList(String accessToken) {
-        blackListRepository.save(parseBlackAccessToken(accessToken));
+    /**
+     * 액세스 토큰을 블랙리스트에 올리고, 토큰을 발급한 기기의 리프레시 세션을 폐기한다.
+     * 기기 식별자가 없는 이전 형식의 토큰은 어느 기기인지 알 수 없으므로 회원의 모든 세션을 폐기한다.
+     */
+    public void logout(String accessToken) {
+        final VerifiedToken verified = jwtProvider.verify(accessToken);
+        jwtService.registerBlackList(accessToken, verified.getExpiration());
+
+        if (Objects.isNull(verified.getDeviceId())) {
+            jwtService.deleteRefreshToken(verified.getEmail());
+            return;
+        }
+        jwtService.revokeRefreshToken(verified.getEmail(), verified.getDeviceId());
     }
 
-    private String issueAccessToken(UserDetails userDetails) {
+    private String issueAccessToken(UserDetails userDetails, String deviceId) {
         JwtVo jwtVo = JwtVo.builder()
+            .id(userDetails instanceof User user ? user.getId() : null)
             .email(userDetails.getUsername())
             .roles(userDetails.getAuthorities())
+            .enabled(userDetails.isEnabled())
+            .locked(!userDetails.isAccountNonLocked())
+            .deviceId(deviceId)
             .build();
 
         return jwtProvider.generateAccessToken(jwtVo);
     }
 
-    private String issueRefreshToken(UserDetails userDetails) {
+    private String issueRefreshToken(UserDetails userDetails, String deviceId) {
+        return issueRefreshToken(userDetails.getUsername(), deviceId);
+    }
+
+    private String issueRefreshToken(String email, String deviceId) {
         JwtVo jwtVo = JwtVo.builder()
-            .email(userDetails.getUsername())
+            .email(email)
+            .deviceId(deviceId)
             .build();
 
         return jwtProvider.generateRefreshToken(jwtVo);
     }
 
+    private String newDeviceId() {
+        return UUID.randomUUID().toString();
+    }
+
     private void setAuthentication(UserDetails userDetails) {
         Authentication authentication = new UsernamePasswordAuthenticationToken(userDetails, "",
             userDetails.getAuthorities());
         SecurityContextHolder.getContext().setAuthentication(authentication);
     }
 
-    private BlackAccessToken parseBlackAccessToken(String accessToken) {
-        return new BlackAccessToken(accessToken, jwtService.extractExpirationDate(accessToken));
-    }
-
     public TokenResponse createToken(TokenRequest request) {
         final User user = userRepository.findByEmail(request.email())
             .orElseThrow(() -> new KolivingServiceException(UNAUTHORIZED));
@@ -127,4 +156,46 @@ public class AuthFacade {
 
         return TokenResponse.valueOf(jwtTokenDto.getAccessToken(), jwtTokenDto.getRefreshToken());
     }
+
+    /**
+     * 리프레시 토큰을 교체하고 새 액세스 토큰을 발급한다. 이미 교체된 토큰이 다시 제시되면 해당 회원의 모든 세션을 만료시킨다.
+     * 기기 식별자가 없는 이전 형식의 토큰은 새 기기 세션으로 옮긴다. 비활성화되었거나 잠긴 회원은 교체하지 않고 거절한다.
+     */
+    public TokenResponse refreshTokens(TokenRefreshRequest request) {
+        final VerifiedToken verified = verifyRefreshToken(request.refreshToken());
+        final String email = verified.getEmail();
+        final User user = userRepository.findByEmail(email)
+            .filter(found -> found.isEnabled() && found.isAccountNonLocked())
+            .orElseThrow(() -> new KolivingServiceException(INVALID_REFRESH_TOKEN));
+
+        final String deviceId = Objects.requireNonNullElseGet(verified.getDeviceId(), this::newDeviceId);
+
+        final String nextToken = issueRefreshToken(email, deviceId);
+        final RefreshTokenRotation rotation = jwtService.rotateRefreshToken(
+            new RefreshToken(email, verified.getDeviceId(), request.refreshToken()),
+            new RefreshToken(email, deviceId, nextToken)
+        );
+
+        if (rotation == RefreshTokenRotation.REUSED) {
+            throw new KolivingServiceException(REFRESH_TOKEN_REUSED);
+        }
+        if (rotation == RefreshTokenRotation.NOT_FOUND) {
+            throw new KolivingServiceException(INVALID_REFRESH_TOKEN);
+        }
+
+        return TokenResponse.valueOf(issueAccessToken(user, deviceId), nextToken);
+    }
+
+    private VerifiedToken verifyRefreshToken(String refreshToken) {
+        try {
+            final VerifiedToken verified = jwtProvider.verify(refreshToken);
+            if (Objects.isNull(verified.getEmail())) {
+                throw new KolivingServiceException(INVALID_REFRESH_TOKEN);
+            }
+
+            return verified;
+        } catch (JwtException e) {
+            throw new KolivingServiceException(INVALID_REFRESH_TOKEN);
+        }
+    }
 }
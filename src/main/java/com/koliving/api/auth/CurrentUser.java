@@ -0,0 +1,21 @@
+package com.koliving.api.auth;
+
+import io.swagger.v3.oas.annotations.Parameter;
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+
+/**
+ * author : haedoang date : 2023/10/12 description : 인증 주체를 회원 엔티티로 주입한다. 엔티티가 필요한 핸들러에서만 UserCache 로 조회한다.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Parameter(hidden = true)
+@AuthenticationPrincipal(expression = "@userCache.resolve(#this)")
+public @interface CurrentUser {
+
+}
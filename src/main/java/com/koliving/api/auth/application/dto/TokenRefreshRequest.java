@@ -0,0 +1,12 @@
+package com.koliving.api.auth.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+
+@Schema(description = "토큰 재발급 요청")
+public record TokenRefreshRequest(
+    @Schema(description = "리프레시 토큰", example = "eyJhbGciOiJIUzI1NiJ9...")
+    @NotEmpty String refreshToken
+) {
+
+}
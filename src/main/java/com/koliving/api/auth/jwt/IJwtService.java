@@ -1,8 +1,11 @@
 package com.koliving.api.auth.jwt;
 
+import com.koliving.api.token.refresh.RefreshToken;
+import com.koliving.api.token.refresh.RefreshTokenRotation;
 import org.springframework.security.core.Authentication;
 
 import java.util.Date;
+import java.util.concurrent.CompletionStage;
 
 public interface IJwtService {
 
@@ -12,15 +15,21 @@ public interface IJwtService {
 
     Authentication createAuthentication(String accessToken);
 
+    Authentication createAuthentication(VerifiedToken verifiedToken);
+
     boolean isBlackList(String accessToken);
 
+    CompletionStage<Boolean> isBlackListAsync(String accessToken);
+
     void registerBlackList(String accessToken, Date expirationDate);
 
-    String getRefreshToken(String email);
+    RefreshTokenRotation rotateRefreshToken(RefreshToken presented, RefreshToken next);
 
     boolean isExistsRefreshToken(String email);
 
     void deleteRefreshToken(String email);
 
-    String saveRefreshToken(String email, String newRefreshTokenValue);
+    void revokeRefreshToken(String email, String deviceId);
+
+    String saveRefreshToken(String email, String deviceId, String newRefreshTokenValue);
 }
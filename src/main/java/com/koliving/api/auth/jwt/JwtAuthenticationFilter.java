@@ -15,6 +15,8 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -27,18 +29,27 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException, AuthenticationException, JwtException {
         String accessToken = httpUtils.resolveToken(request);
-        jwtProvider.validateToken(accessToken);
-        if (jwtService.isBlackList(accessToken)) {
-            throw new BlackListTokenException(jwtService.extractEmail(accessToken));
+        VerifiedToken verifiedToken = jwtProvider.verify(accessToken);
+        // 블랙리스트 조회가 Redis 로 가는 동안 인증 정보를 만든다
+        CompletableFuture<Boolean> blackListed = jwtService.isBlackListAsync(accessToken).toCompletableFuture();
+        Authentication authentication = jwtService.createAuthentication(verifiedToken);
+        if (join(blackListed)) {
+            throw new BlackListTokenException(verifiedToken.getEmail());
         }
 
-        this.setAuthentication(accessToken);
+        SecurityContextHolder.getContext().setAuthentication(authentication);
 
         filterChain.doFilter(request, response);
     }
 
-    private void setAuthentication(String accessToken) {
-        Authentication authentication = jwtService.createAuthentication(accessToken);
-        SecurityContextHolder.getContext().setAuthentication(authentication);
+    private boolean join(CompletableFuture<Boolean> blackListed) {
+        try {
+            return blackListed.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
     }
 }
@@ -0,0 +1,94 @@
+package com.koliving.api.auth.jwt;
+
+import io.jsonwebtoken.Claims;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.util.StringUtils;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * author : haedoang date : 2023/10/12 description : 액세스 토큰 클레임으로 만든 인증 주체. 요청마다 회원 엔티티를 조회하지 않는다.
+ */
+@Getter
+@EqualsAndHashCode(of = "id")
+public class JwtPrincipal implements UserDetails {
+
+    static final String ID = "id";
+    static final String EMAIL = "email";
+    static final String ROLE = "role";
+    static final String ENABLED = "enabled";
+    static final String LOCKED = "locked";
+
+    private final Long id;
+    private final String email;
+    private final List<GrantedAuthority> authorities;
+    private final boolean enabled;
+    private final boolean locked;
+
+    private JwtPrincipal(Long id, String email, List<GrantedAuthority> authorities, boolean enabled, boolean locked) {
+        this.id = id;
+        this.email = email;
+        this.authorities = authorities;
+        this.enabled = enabled;
+        this.locked = locked;
+    }
+
+    static boolean supports(Claims claims) {
+        return claims.containsKey(ID);
+    }
+
+    static JwtPrincipal of(Claims claims) {
+        return new JwtPrincipal(
+            claims.get(ID, Long.class),
+            claims.get(EMAIL, String.class),
+            AuthorityUtils.commaSeparatedStringToAuthorityList(StringUtils.trimAllWhitespace(claims.get(ROLE, String.class))),
+            Boolean.TRUE.equals(claims.get(ENABLED, Boolean.class)),
+            Boolean.TRUE.equals(claims.get(LOCKED, Boolean.class))
+        );
+    }
+
+    static JwtPrincipal of(Long id, UserDetails userDetails) {
+        return new JwtPrincipal(
+            id,
+            userDetails.getUsername(),
+            List.copyOf(userDetails.getAuthorities()),
+            userDetails.isEnabled(),
+            !userDetails.isAccountNonLocked()
+        );
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public String getPassword() {
+        return "";
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+
+    @Override
+    public boolean isAccountNonExpired() {
+        return true;
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return !locked;
+    }
+
+    @Override
+    public boolean isCredentialsNonExpired() {
+        return true;
+    }
+}
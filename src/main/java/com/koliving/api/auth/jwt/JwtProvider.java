@@ -1,6 +1,7 @@
 package com.koliving.api.auth.jwt;
 
 import com.koliving.api.properties.JwtProperties;
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtBuilder;
 import io.jsonwebtoken.JwtException;
@@ -9,7 +10,6 @@ import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.SignatureException;
 import io.jsonwebtoken.UnsupportedJwtException;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
@@ -21,18 +21,38 @@ import java.time.temporal.ChronoUnit;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class JwtProvider {
 
     private final JwtProperties jwtProperties;
+    private final SignatureAlgorithm signatureAlgorithm;
+    private final Key signingKey;
+
+    public JwtProvider(JwtProperties jwtProperties) {
+        this.jwtProperties = jwtProperties;
+        this.signatureAlgorithm = SignatureAlgorithm.forName(jwtProperties.getAlgorithm());
+
+        // 서명 키는 기동 시 한 번만 디코딩한다
+        byte[] apiKeySecretBytes = DatatypeConverter.parseBase64Binary(jwtProperties.getSecret());
+        this.signingKey = new SecretKeySpec(apiKeySecretBytes, signatureAlgorithm.getJcaName());
+    }
 
     public String generateAccessToken(JwtVo jwtVo) {
         Map<String, Object> payloads = new HashMap<>();
-        payloads.put("email", jwtVo.getEmail());
-        payloads.put("role", jwtVo.joinRolesToString());
+        payloads.put(JwtPrincipal.EMAIL, jwtVo.getEmail());
+        payloads.put(JwtPrincipal.ROLE, jwtVo.joinRolesToString());
+        if (Objects.nonNull(jwtVo.getId())) {
+            payloads.put(JwtPrincipal.ID, jwtVo.getId());
+            payloads.put(JwtPrincipal.ENABLED, jwtVo.isEnabled());
+            payloads.put(JwtPrincipal.LOCKED, jwtVo.isLocked());
+        }
+        // 로그아웃할 때 같은 기기의 리프레시 세션만 폐기할 수 있도록 기기 식별자를 함께 싣는다
+        if (Objects.nonNull(jwtVo.getDeviceId())) {
+            payloads.put(VerifiedToken.DEVICE_ID, jwtVo.getDeviceId());
+        }
 
         return generateJwtBuilder(payloads)
                 .setSubject("Access Token (" + jwtVo.getEmail() + ")")
@@ -42,7 +62,10 @@ public class JwtProvider {
 
     public String generateRefreshToken(JwtVo jwtVo) {
         Map<String, Object> payloads = new HashMap<>();
-        payloads.put("email", jwtVo.getEmail());
+        payloads.put(JwtPrincipal.EMAIL, jwtVo.getEmail());
+        if (Objects.nonNull(jwtVo.getDeviceId())) {
+            payloads.put(VerifiedToken.DEVICE_ID, jwtVo.getDeviceId());
+        }
 
         return generateJwtBuilder(payloads)
                 .setSubject("Refresh Token (" + jwtVo.getEmail() + ")")
@@ -51,13 +74,17 @@ public class JwtProvider {
     }
 
     public void validateToken(String token) {
-        byte[] apiKeySecretBytes = DatatypeConverter.parseBase64Binary(jwtProperties.getSecret());
+        verify(token);
+    }
 
+    public VerifiedToken verify(String token) {
         try {
-            Jwts.parser()
-                .setSigningKey(apiKeySecretBytes)
+            Claims claims = Jwts.parser()
+                .setSigningKey(signingKey)
                 .parseClaimsJws(token)
                 .getBody();
+
+            return new VerifiedToken(token, claims);
         } catch (ExpiredJwtException e) {
 
             log.error("access token has expired");
@@ -79,17 +106,11 @@ public class JwtProvider {
         headers.put("typ", "JWT");
         headers.put("alg", jwtProperties.getAlgorithm());
 
-        SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.forName(jwtProperties.getAlgorithm());
-
-        // 서명에 담을 데이터
-        byte[] apiKeySecretBytes = DatatypeConverter.parseBase64Binary(jwtProperties.getSecret());
-        Key signKey = new SecretKeySpec(apiKeySecretBytes, signatureAlgorithm.getJcaName());
-
         return Jwts.builder()
                 .setHeader(headers)
                 .setClaims(payloads)
                 .setIssuedAt(Date.from(Instant.now()))
-                .signWith(signatureAlgorithm, signKey);
+                .signWith(signatureAlgorithm, signingKey);
     }
 
     private Date calculateExpiryDate(long validityHour) {
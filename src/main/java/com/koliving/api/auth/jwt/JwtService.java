@@ -1,21 +1,23 @@
 package com.koliving.api.auth.jwt;
 
-import com.koliving.api.properties.JwtProperties;
+import com.koliving.api.token.TokenDigest;
 import com.koliving.api.token.blacklist.BlackAccessToken;
+import com.koliving.api.token.blacklist.BlackListFilter;
 import com.koliving.api.token.blacklist.BlackListRepository;
 import com.koliving.api.token.refresh.RefreshToken;
 import com.koliving.api.token.refresh.RefreshTokenRepository;
+import com.koliving.api.token.refresh.RefreshTokenRotation;
+import com.koliving.api.user.domain.User;
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jwts;
-import jakarta.xml.bind.DatatypeConverter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Service;
 
 import java.util.Date;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 
 @Service
 @RequiredArgsConstructor
@@ -24,7 +26,8 @@ public class JwtService implements IJwtService {
     private final UserDetailsService userService;
     private final RefreshTokenRepository refreshTokenRepository;
     private final BlackListRepository blackListRepository;
-    private final JwtProperties jwtProperties;
+    private final BlackListFilter blackListFilter;
+    private final JwtProvider jwtProvider;
 
     @Override
     public Date extractExpirationDate(String token) {
@@ -38,19 +41,38 @@ public class JwtService implements IJwtService {
 
     @Override
     public Authentication createAuthentication(String accessToken) {
-        UserDetails userDetails = userService.loadUserByUsername(this.extractEmail(accessToken));
+        return createAuthentication(jwtProvider.verify(accessToken));
+    }
+
+    @Override
+    public Authentication createAuthentication(VerifiedToken verifiedToken) {
+        JwtPrincipal principal = verifiedToken.hasPrincipal()
+            ? verifiedToken.toPrincipal()
+            : loadPrincipal(verifiedToken.getEmail());
 
-        return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
+        return new UsernamePasswordAuthenticationToken(principal, "", principal.getAuthorities());
     }
 
     @Override
     public boolean isBlackList(String accessToken) {
-        return blackListRepository.existByToken(accessToken);
+        String digest = TokenDigest.of(accessToken);
+        return blackListFilter.mightContain(digest) && blackListRepository.existByToken(accessToken);
+    }
+
+    @Override
+    public CompletionStage<Boolean> isBlackListAsync(String accessToken) {
+        String digest = TokenDigest.of(accessToken);
+        if (!blackListFilter.mightContain(digest)) {
+            return CompletableFuture.completedFuture(false);
+        }
+
+        return blackListRepository.existByTokenAsync(accessToken);
     }
 
     @Override
     public void registerBlackList(String accessToken, Date expirationDate) {
         blackListRepository.save(new BlackAccessToken(accessToken, expirationDate));
+        blackListFilter.add(TokenDigest.of(accessToken));
     }
 
     @Override
@@ -59,8 +81,8 @@ public class JwtService implements IJwtService {
     }
 
     @Override
-    public String getRefreshToken(String email) {
-        return refreshTokenRepository.findByEmail(email);
+    public RefreshTokenRotation rotateRefreshToken(RefreshToken presented, RefreshToken next) {
+        return refreshTokenRepository.rotate(presented, next);
     }
 
     @Override
@@ -69,14 +91,21 @@ public class JwtService implements IJwtService {
     }
 
     @Override
-    public String saveRefreshToken(String email, String newRTValue) {
-        return refreshTokenRepository.save(new RefreshToken(email, newRTValue));
+    public void revokeRefreshToken(String email, String deviceId) {
+        refreshTokenRepository.revoke(email, deviceId);
+    }
+
+    @Override
+    public String saveRefreshToken(String email, String deviceId, String newRTValue) {
+        return refreshTokenRepository.save(new RefreshToken(email, deviceId, newRTValue));
+    }
+
+    private JwtPrincipal loadPrincipal(String email) {
+        User user = (User) userService.loadUserByUsername(email);
+        return JwtPrincipal.of(user.getId(), user);
     }
 
     private Claims getClaims(String token) {
-        return Jwts.parser()
-                .setSigningKey(DatatypeConverter.parseBase64Binary(jwtProperties.getSecret()))
-                .parseClaimsJws(token)
-                .getBody();
+        return jwtProvider.verify(token).getClaims();
     }
 }
@@ -10,13 +10,22 @@ import java.util.stream.Collectors;
 @Getter
 public class JwtVo {
 
+    private Long id;
     private String email;
     private Collection<? extends GrantedAuthority> roles;
+    private boolean enabled;
+    private boolean locked;
+    private String deviceId;
 
     @Builder
-    public JwtVo(String email, Collection<? extends GrantedAuthority> roles) {
+    public JwtVo(Long id, String email, Collection<? extends GrantedAuthority> roles, boolean enabled, boolean locked,
+        String deviceId) {
+        this.id = id;
         this.email = email;
         this.roles = roles;
+        this.enabled = enabled;
+        this.locked = locked;
+        this.deviceId = deviceId;
     }
 
     public String joinRolesToString() {
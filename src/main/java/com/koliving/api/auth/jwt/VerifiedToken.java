@@ -0,0 +1,47 @@
+package com.koliving.api.auth.jwt;
+
+import io.jsonwebtoken.Claims;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Date;
+
+/**
+ * author : haedoang date : 2023/10/12 description : 서명 검증을 마친 토큰. 요청당 한 번 파싱한 클레임을 이후 단계에서 재사용한다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public class VerifiedToken {
+
+    static final String DEVICE_ID = "did";
+
+    private final String token;
+    private final Claims claims;
+
+    public String getEmail() {
+        return claims.get("email", String.class);
+    }
+
+    /**
+     * 토큰을 발급한 기기의 식별자. 기기별 저장 이전에 발급된 토큰이면 null
+     */
+    public String getDeviceId() {
+        return claims.get(DEVICE_ID, String.class);
+    }
+
+    public Date getExpiration() {
+        return claims.getExpiration();
+    }
+
+    /**
+     * 회원 정보 클레임이 없는 이전 형식의 토큰이면 false
+     */
+    public boolean hasPrincipal() {
+        return JwtPrincipal.supports(claims);
+    }
+
+    public JwtPrincipal toPrincipal() {
+        return JwtPrincipal.of(claims);
+    }
+}
@@ -23,7 +23,7 @@ public class LogoutSuccessHandler extends SimpleUrlLogoutSuccessHandler {
     @Override
     public void onLogoutSuccess(HttpServletRequest request, HttpServletResponse response, Authentication authentication) throws IOException {
         String accessToken = httpUtils.resolveToken(request);
-        authFacade.addToBlackList(accessToken);
+        authFacade.logout(accessToken);
 
         SecurityContextHolder.clearContext();
 
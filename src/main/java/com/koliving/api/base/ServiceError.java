@@ -18,7 +18,12 @@ public enum ServiceError {
     ILLEGAL_ROOM_INFO(BAD_REQUEST, "0006", "방 정보 객체 생성 유효성 실패"),
     UPLOAD_FAIL(BAD_REQUEST, "0007", "파일 업로드 실패"),
     UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "0008", "사용자 인증 실패"),
-    FORBIDDEN(HttpStatus.FORBIDDEN, "0009", "사용자 권한 없음");
+    FORBIDDEN(HttpStatus.FORBIDDEN, "0009", "사용자 권한 없음"),
+    INVALID_CURSOR(BAD_REQUEST, "0010", "유효하지 않은 커서 정보"),
+    INVALID_REFRESH_TOKEN(HttpStatus.UNAUTHORIZED, "0011", "유효하지 않은 리프레시 토큰"),
+    REFRESH_TOKEN_REUSED(HttpStatus.UNAUTHORIZED, "0012", "재사용된 리프레시 토큰. 모든 세션이 만료됨"),
+    LOCK_ACQUISITION_FAILED(HttpStatus.CONFLICT, "0013", "다른 요청이 처리 중. 잠시 후 다시 시도"),
+    TOO_MANY_CONTACT_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "0014", "연락 요청이 너무 많음. 잠시 후 다시 시도");
 
     private final HttpStatus status;
     private final String code;
@@ -0,0 +1,91 @@
+package com.koliving.api.catalog.application;
+
+import com.koliving.api.catalog.infra.CatalogChangedEvent;
+import com.koliving.api.location.infra.LocationRepository;
+import com.koliving.api.room.infra.FurnishingRepository;
+import jakarta.annotation.PostConstruct;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.RedisException;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * author : haedoang date : 2023/10/10 description : 지역/가구 스냅샷 관리. 변경 커밋 후 스냅샷을 교체하고 Redis 토픽으로 다른 인스턴스에 전파한다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class CatalogService {
+
+    private static final String CHANGED_TOPIC = "CATALOG:CHANGED";
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final AtomicLong version = new AtomicLong();
+    private final AtomicReference<CatalogSnapshot> snapshot = new AtomicReference<>();
+
+    private final LocationRepository locationRepository;
+    private final FurnishingRepository furnishingRepository;
+    private final RedissonClient redissonClient;
+
+    @PostConstruct
+    void subscribe() {
+        changedTopic().addListener(String.class, (channel, source) -> {
+            if (!instanceId.equals(source)) {
+                reload();
+            }
+        });
+    }
+
+    public CatalogSnapshot current() {
+        final CatalogSnapshot current = snapshot.get();
+        if (Objects.nonNull(current)) {
+            return current;
+        }
+
+        return reload();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        reload();
+    }
+
+    @TransactionalEventListener(classes = CatalogChangedEvent.class, phase = TransactionPhase.AFTER_COMMIT)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        reload();
+        try {
+            changedTopic().publish(instanceId);
+        } catch (RedisException e) {
+            log.warn("catalog change broadcast failed. source={}", event.getSource(), e);
+        }
+    }
+
+    private CatalogSnapshot reload() {
+        final CatalogSnapshot loaded = CatalogSnapshot.of(
+            version.incrementAndGet(),
+            locationRepository.findAll(),
+            furnishingRepository.findAll()
+        );
+        snapshot.accumulateAndGet(loaded, (prev, next) -> Objects.isNull(prev) || prev.version() < next.version() ? next : prev);
+
+        log.info("catalog snapshot loaded. version={}", loaded.version());
+        return snapshot.get();
+    }
+
+    private RTopic changedTopic() {
+        return redissonClient.getTopic(CHANGED_TOPIC, StringCodec.INSTANCE);
+    }
+}
@@ -0,0 +1,121 @@
+package com.koliving.api.catalog.application;
+
+import com.koliving.api.location.application.dto.LocationResponse;
+import com.koliving.api.location.domain.Location;
+import com.koliving.api.room.application.dto.FurnishingResponse;
+import com.koliving.api.room.domain.Furnishing;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * author : haedoang date : 2023/10/10 description : 지역 트리와 가구 목록의 불변 스냅샷. 관리자 수정 시 새 스냅샷으로 교체된다.
+ */
+public final class CatalogSnapshot {
+
+    private final long version;
+    private final Map<Long, LocationResponse> locations;
+    private final Map<Long, List<Long>> childrenByParent;
+    private final Map<Long, Set<Long>> descendantsByLocation;
+    private final Map<Long, FurnishingResponse> furnishings;
+
+    private CatalogSnapshot(long version, Map<Long, LocationResponse> locations,
+        Map<Long, List<Long>> childrenByParent, Map<Long, FurnishingResponse> furnishings) {
+        this.version = version;
+        this.locations = locations;
+        this.childrenByParent = childrenByParent;
+        this.descendantsByLocation = locations.keySet()
+            .stream()
+            .collect(Collectors.toUnmodifiableMap(Function.identity(), this::collectDescendants));
+        this.furnishings = furnishings;
+    }
+
+    public static CatalogSnapshot of(long version, Collection<Location> locations, Collection<Furnishing> furnishings) {
+        final Map<Long, LocationResponse> locationById = locations.stream()
+            .collect(Collectors.toUnmodifiableMap(Location::getId, LocationResponse::valueOf));
+
+        final Map<Long, List<Long>> childrenByParent = locations.stream()
+            .filter(location -> Objects.nonNull(location.getUpperLocationId()))
+            .sorted(Comparator.comparing(Location::getId))
+            .collect(Collectors.collectingAndThen(
+                Collectors.groupingBy(Location::getUpperLocationId, Collectors.mapping(Location::getId, Collectors.toUnmodifiableList())),
+                Map::copyOf
+            ));
+
+        final Map<Long, FurnishingResponse> furnishingById = furnishings.stream()
+            .collect(Collectors.toUnmodifiableMap(Furnishing::getId, FurnishingResponse::valueOf));
+
+        return new CatalogSnapshot(version, locationById, childrenByParent, furnishingById);
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public Optional<LocationResponse> findLocation(Long id) {
+        return Optional.ofNullable(locations.get(id));
+    }
+
+    public List<LocationResponse> locations() {
+        return sortedById(locations, LocationResponse::id);
+    }
+
+    public List<Long> childrenOf(Long id) {
+        return childrenByParent.getOrDefault(id, List.of());
+    }
+
+    /**
+     * 지역 id 를 자기 자신과 모든 하위 지역 id 로 확장한다. ex) 구 id -> 구 id + 소속된 동 id
+     */
+    public List<Long> expandLocationIds(Collection<Long> ids) {
+        final Set<Long> expanded = new LinkedHashSet<>();
+        for (Long id : ids) {
+            expanded.add(id);
+            expanded.addAll(descendantsByLocation.getOrDefault(id, Set.of()));
+        }
+
+        return List.copyOf(expanded);
+    }
+
+    public Optional<FurnishingResponse> findFurnishing(Long id) {
+        return Optional.ofNullable(furnishings.get(id));
+    }
+
+    public boolean containsFurnishings(Collection<Long> ids) {
+        return furnishings.keySet().containsAll(ids);
+    }
+
+    public List<FurnishingResponse> furnishings() {
+        return sortedById(furnishings, FurnishingResponse::id);
+    }
+
+    private Set<Long> collectDescendants(Long id) {
+        final Set<Long> descendants = new LinkedHashSet<>();
+        final Deque<Long> pending = new ArrayDeque<>(childrenOf(id));
+        while (!pending.isEmpty()) {
+            final Long child = pending.poll();
+            if (descendants.add(child)) {
+                pending.addAll(childrenOf(child));
+            }
+        }
+
+        return Collections.unmodifiableSet(descendants);
+    }
+
+    private static <T> List<T> sortedById(Map<Long, T> values, Function<T, Long> idOf) {
+        return values.values()
+            .stream()
+            .sorted(Comparator.comparing(idOf))
+            .collect(Collectors.toUnmodifiableList());
+    }
+}
@@ -0,0 +1,14 @@
+package com.koliving.api.catalog.infra;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * author : haedoang date : 2023/10/10 description : 지역/가구 정보 변경 커밋 이후 발행되는 이벤트
+ */
+@Getter
+@AllArgsConstructor
+public class CatalogChangedEvent {
+
+    private final String source;
+}
@@ -1,5 +1,11 @@
 package com.koliving.api.config;
 
+import com.koliving.api.executor.BoundedVirtualThreadExecutor;
+import com.koliving.api.properties.MailExecutorProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
 import org.springframework.context.annotation.Bean;
@@ -9,22 +15,51 @@ import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
 @Slf4j
 @EnableAsync
 @Configuration
+@RequiredArgsConstructor
 public class AsyncConfig implements AsyncConfigurer {
 
-    @Bean(name = "mailExecutor")
+    private static final String MAIL_EXECUTOR = "mailExecutor";
+
+    private final MailExecutorProperties mailExecutorProperties;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * VIRTUAL 모드에서는 SMTP 응답을 기다리는 동안 플랫폼 스레드를 점유하지 않는다.
+     * 다만 Jakarta Mail 의 SMTPTransport 는 synchronized 로 I/O 를 해 그동안 캐리어 스레드에 고정되므로,
+     * 실제 SMTP 동시성은 email.transport-pool.max-connections 로 제한하고 나머지 작업은 연결을 기다린다.
+     */
+    @Bean(name = MAIL_EXECUTOR)
     @Override
     public Executor getAsyncExecutor() {
+        if (mailExecutorProperties.getMode() == MailExecutorProperties.Mode.VIRTUAL) {
+            return new BoundedVirtualThreadExecutor(MAIL_EXECUTOR, mailExecutorProperties.getMaxConcurrency(),
+                mailExecutorProperties.getAcquireTimeout(), meterRegistry);
+        }
+
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(5);
-        executor.setMaxPoolSize(15);
-        executor.setQueueCapacity(30);
+        executor.setCorePoolSize(mailExecutorProperties.getCorePoolSize());
+        executor.setMaxPoolSize(mailExecutorProperties.getMaxPoolSize());
+        executor.setQueueCapacity(mailExecutorProperties.getQueueCapacity());
         executor.setThreadNamePrefix("MailExecutor-");
+
+        Counter rejected = Counter.builder("async.executor.rejected")
+            .tag("name", MAIL_EXECUTOR)
+            .register(meterRegistry);
+        executor.setRejectedExecutionHandler((task, pool) -> {
+            rejected.increment();
+            throw new RejectedExecutionException("Executor [" + MAIL_EXECUTOR + "] is full");
+        });
         executor.initialize();
 
+        Gauge.builder("async.executor.in-flight", executor, ThreadPoolTaskExecutor::getActiveCount)
+            .tag("name", MAIL_EXECUTOR)
+            .register(meterRegistry);
+
         return executor;
     }
 
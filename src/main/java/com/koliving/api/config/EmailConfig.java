@@ -1,6 +1,9 @@
 package com.koliving.api.config;
 
+import com.koliving.api.email.transport.PooledJavaMailSender;
 import com.koliving.api.properties.EmailProperties;
+import com.koliving.api.properties.MailTransportPoolProperties;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -14,10 +17,13 @@ import java.util.Properties;
 public class EmailConfig {
 
     private final EmailProperties emailProperties;
+    private final MailTransportPoolProperties mailTransportPoolProperties;
 
     @Bean
-    public JavaMailSender javaMailSender() {
-        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+    public JavaMailSender javaMailSender(MeterRegistry meterRegistry) {
+        JavaMailSenderImpl mailSender = mailTransportPoolProperties.isEnabled()
+            ? new PooledJavaMailSender(mailTransportPoolProperties, meterRegistry)
+            : new JavaMailSenderImpl();
         mailSender.setHost(emailProperties.getHost());
         mailSender.setPort(emailProperties.getPort());
         mailSender.setUsername(emailProperties.getUsername());
@@ -0,0 +1,22 @@
+package com.koliving.api.config;
+
+import org.springframework.boot.autoconfigure.flyway.FlywayConfigurationCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * author : haedoang date : 2023/10/10 description : 스키마 마이그레이션 설정. 기존 운영 DB 는 버전 0 으로 baseline 처리한다.
+ */
+@Configuration
+public class FlywayConfig {
+
+    public static final String MIGRATION_LOCATION = "classpath:com/koliving/api/migration";
+
+    @Bean
+    public FlywayConfigurationCustomizer flywayConfigurationCustomizer() {
+        return configuration -> configuration
+            .locations(MIGRATION_LOCATION)
+            .baselineOnMigrate(true)
+            .baselineVersion("0");
+    }
+}
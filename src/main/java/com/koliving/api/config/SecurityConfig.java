@@ -75,7 +75,9 @@ public class SecurityConfig {
             "/api-docs/**",
             "/swagger-ui/**",
             "/swagger-resources/**",
-            "/api/v1/rooms/search"
+            "/api/v1/rooms/search",
+            "/api/v1/rooms/search/slice",
+            "/api/v1/rooms/search/cursor"
         };
 
         AUTHORIZATION_WHITELIST = new String[]{
@@ -0,0 +1,85 @@
+package com.koliving.api.email;
+
+import jakarta.activation.DataHandler;
+import jakarta.activation.DataSource;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Part;
+import jakarta.mail.internet.MimeBodyPart;
+import jakarta.mail.internet.PreencodedMimeBodyPart;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Base64;
+
+/**
+ * author : haedoang date : 2023/10/18 description : 메일 본문의 cid:logo 이미지. 시작할 때 한 번 읽어 base64 로 인코딩해 두고
+ * 메일마다 인코딩된 바이트를 그대로 붙인다.
+ */
+@Component
+public class EmailLogo {
+
+    private static final String CONTENT_ID = "<logo>";
+    private static final String ENCODING = "base64";
+
+    private final DataSource encoded;
+
+    public EmailLogo() throws IOException {
+        ClassPathResource resource = new ClassPathResource("static/image/logo-black.jpg");
+        try (InputStream inputStream = resource.getInputStream()) {
+            this.encoded = new EncodedDataSource(Base64.getMimeEncoder().encode(inputStream.readAllBytes()),
+                "image/jpeg", resource.getFilename());
+        }
+    }
+
+    public void addTo(MimeMessageHelper helper) throws MessagingException {
+        MimeBodyPart logo = new PreencodedMimeBodyPart(ENCODING);
+        logo.setDisposition(Part.INLINE);
+        logo.setContentID(CONTENT_ID);
+        logo.setDataHandler(new DataHandler(encoded));
+        // 인코딩을 미리 지정해야 전송 인코딩을 정하려고 내용을 다시 읽지 않는다
+        logo.setHeader("Content-Transfer-Encoding", ENCODING);
+
+        helper.getMimeMultipart().addBodyPart(logo);
+    }
+
+    /**
+     * 여러 메일이 함께 읽는 읽기 전용 DataSource. 읽을 때마다 새 스트림을 만든다.
+     */
+    private static final class EncodedDataSource implements DataSource {
+
+        private final byte[] bytes;
+        private final String contentType;
+        private final String name;
+
+        private EncodedDataSource(byte[] bytes, String contentType, String name) {
+            this.bytes = bytes;
+            this.contentType = contentType;
+            this.name = name;
+        }
+
+        @Override
+        public InputStream getInputStream() {
+            return new ByteArrayInputStream(bytes);
+        }
+
+        @Override
+        public OutputStream getOutputStream() throws IOException {
+            throw new IOException("read-only data source : " + name);
+        }
+
+        @Override
+        public String getContentType() {
+            return contentType;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.koliving.api.email;
+
+import com.koliving.api.properties.EmailProperties;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailParseException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * author : haedoang date : 2023/10/17 description : 메일 본문을 만들고 SMTP 로 발송한다. 메일 아웃박스 디스패처가 호출한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmailSender {
+
+    private final JavaMailSender mailSender;
+    private final EmailTemplateUtil emailTemplateUtil;
+    private final EmailLogo emailLogo;
+    private final EmailProperties emailProperties;
+
+    public void send(MailType type, String to, Locale locale, Map<String, Object> variables) {
+        try {
+            EmailTemplate template = emailTemplateUtil.getTemplate(type, locale);
+
+            MimeMessage mimeMessage = mailSender.createMimeMessage();
+            MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, true, "UTF-8");
+
+            helper.setSubject(template.getSubject());
+            helper.setTo(to);
+            helper.setText(emailTemplateUtil.render(template, variables), true);
+            helper.setFrom(emailProperties.getUsername());
+            emailLogo.addTo(helper);
+
+            mailSender.send(mimeMessage);
+        } catch (MessagingException e) {
+            log.error("failed to generate email", e);
+            throw new MailParseException("failed to generate email", e);
+        } catch (MailException e) {
+            log.error("failed to send email", e);
+            throw new MailSendException("Failed to send email", e);
+        }
+    }
+}
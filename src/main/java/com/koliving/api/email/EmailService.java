@@ -1,113 +1,84 @@
 package com.koliving.api.email;
 
-import com.koliving.api.properties.EmailProperties;
-import com.koliving.api.properties.FrontProperties;
-import com.koliving.api.room.infra.RoomContactEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.koliving.api.clock.IClock;
+import com.koliving.api.email.outbox.EmailOutbox;
+import com.koliving.api.email.outbox.EmailOutboxRepository;
 import com.koliving.api.user.domain.User;
 import com.koliving.api.utils.HttpUtils;
-import jakarta.mail.MessagingException;
-import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.MessageSource;
-import org.springframework.context.event.EventListener;
 import org.springframework.context.i18n.LocaleContextHolder;
-import org.springframework.core.io.ClassPathResource;
-import org.springframework.mail.MailException;
 import org.springframework.mail.MailParseException;
-import org.springframework.mail.MailSendException;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
 
-
+/**
+ * 메일을 바로 보내지 않고 호출한 트랜잭션 안에서 아웃박스에 저장한다. 발송은 EmailOutboxDispatcher 가 맡는다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class EmailService implements IEmailService {
 
-    private final JavaMailSender mailSender;
-    private final MessageSource messageSource;
-    private final EmailTemplateUtil emailTemplateUtil;
-    private final EmailProperties emailProperties;
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final ObjectMapper objectMapper;
     private final HttpUtils httpUtils;
+    private final IClock clock;
 
-    @Async("mailExecutor")
+    @Transactional
     @Override
     public void sendRoomContact(String to, String contact, String message, User sender, String link) {
-        try {
-            Locale currentLocale = httpUtils.getLocaleForLanguage(LocaleContextHolder.getLocale());
-
-            Map<String, Object> variables = new HashMap<>();
-            variables.put("title", "KOLIVING");
-            variables.put("subtitle", messageSource.getMessage("contact_email_subtitle", null, currentLocale));
-            variables.put("contact", contact);
-            variables.put("message", message);
-            variables.put("roomLink", link);
-            variables.put("userName", sender.getFullName());
-            variables.put("userAge", sender.getAge());
-            variables.put("userImageProfile", sender.getImageProfile());
-            variables.put("userGender", sender.getGender());
-            variables.put("userDescription", sender.getDescription());
-
-            MimeMessage mimeMessage = mailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, true, "UTF-8");
-
-            helper.setSubject(messageSource.getMessage("contact_email_subject", null, currentLocale));
-            helper.setTo(to);
-            helper.setText(emailTemplateUtil.generateEmail(MailType.CONTACT, variables), true);
-            helper.setFrom(emailProperties.getUsername());
-            helper.addInline("logo", new ClassPathResource("static/image/logo-black.jpg"));
+        enqueue(MailType.CONTACT, to, contactVariables(contact, message, sender, link));
+    }
 
-            mailSender.send(mimeMessage);
-        } catch (MessagingException e) {
-            log.error("failed to generate email", e);
-            throw new MailParseException("failed to generate email", e);
-        } catch (MailException e) {
-            log.error("failed to send email", e);
-            throw new MailSendException("Failed to send email", e);
-        }
+    @Transactional
+    @Override
+    public void holdRoomContact(String to, String contact, String message, User sender, String link) {
+        Locale currentLocale = httpUtils.getLocaleForLanguage(LocaleContextHolder.getLocale());
+        emailOutboxRepository.save(
+            EmailOutbox.held(MailType.CONTACT, to, currentLocale, toJson(contactVariables(contact, message, sender, link)), clock.now())
+        );
     }
 
-    @Async("mailExecutor")
+    @Transactional
     @Override
     public void send(MailType type, String to, String link) {
-        try {
-            Locale currentLocale = httpUtils.getLocaleForLanguage(LocaleContextHolder.getLocale());
-
-            String title = "KOLIVING";
-            String subtitle = messageSource.getMessage("auth_email_subtitle", null, currentLocale);
-            String linkGuidance = messageSource.getMessage("auth_email_link_guidance", null, currentLocale);
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("authEmailLink", link);
 
-            Map<String, Object> variables = new HashMap<>();
-            variables.put("title", title);
-            variables.put("subtitle", subtitle);
-            variables.put("linkGuidance", linkGuidance);
-            variables.put("authEmailLink", link);
+        enqueue(type, to, variables);
+    }
 
-            MimeMessage mimeMessage = mailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, true, "UTF-8");
-            String mailContent = emailTemplateUtil.generateEmail(type, variables);
-            String subject = messageSource.getMessage("auth_email_subject", null, currentLocale);
+    private Map<String, Object> contactVariables(String contact, String message, User sender, String link) {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("contact", contact);
+        variables.put("message", message);
+        variables.put("roomLink", link);
+        variables.put("userName", sender.getFullName());
+        variables.put("userAge", sender.getAge());
+        variables.put("userImageProfile", sender.getImageProfile());
+        variables.put("userGender", sender.getGender());
+        variables.put("userDescription", sender.getDescription());
+        return variables;
+    }
 
-            helper.setSubject(subject);
-            helper.setTo(to);
-            helper.setText(mailContent, true);
-            helper.setFrom(emailProperties.getUsername());
-            helper.addInline("logo", new ClassPathResource("static/image/logo-black.jpg"));
+    private void enqueue(MailType type, String to, Map<String, Object> variables) {
+        Locale currentLocale = httpUtils.getLocaleForLanguage(LocaleContextHolder.getLocale());
+        emailOutboxRepository.save(EmailOutbox.of(type, to, currentLocale, toJson(variables), clock.now()));
+    }
 
-            mailSender.send(mimeMessage);
-        } catch (MessagingException e) {
+    private String toJson(Map<String, Object> variables) {
+        try {
+            return objectMapper.writeValueAsString(variables);
+        } catch (JsonProcessingException e) {
             log.error("failed to generate email", e);
             throw new MailParseException("failed to generate email", e);
-        } catch (MailException e) {
-            log.error("failed to send email", e);
-            throw new MailSendException("Failed to send email", e);
         }
     }
 }
@@ -0,0 +1,102 @@
+package com.koliving.api.email;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.unbescape.html.HtmlEscape;
+
+/**
+ * author : haedoang date : 2023/10/18 description : 메일 종류와 언어별로 한 번 렌더링해 둔 메일 템플릿.
+ * 수신자별 변수 자리에 표식을 넣어 렌더링한 결과를 고정 조각으로 나눠 두고, 발송할 때는 조각 사이에 이스케이프한 값만 채운다.
+ */
+public class EmailTemplate {
+
+    private static final Pattern SLOT = Pattern.compile("@@koliving:(\\w+)@@");
+
+    private final MailType type;
+    private final String subject;
+    private final Map<String, Object> constants;
+    private final String[] fragments;
+    private final String[] slots;
+    private final int length;
+
+    private EmailTemplate(MailType type, String subject, Map<String, Object> constants, List<String> fragments, List<String> slots) {
+        this.type = type;
+        this.subject = subject;
+        this.constants = Map.copyOf(constants);
+        this.fragments = fragments.toArray(String[]::new);
+        this.slots = slots.toArray(String[]::new);
+        this.length = fragments.stream().mapToInt(String::length).sum();
+    }
+
+    /**
+     * 제목과 고정 문구만 캐시하고 본문은 메일마다 Thymeleaf 로 렌더링하는 템플릿.
+     */
+    public static EmailTemplate uncompiled(MailType type, String subject, Map<String, Object> constants) {
+        return new EmailTemplate(type, subject, constants, List.of(), List.of());
+    }
+
+    /**
+     * renderer 는 Thymeleaf 로 템플릿을 렌더링한다. 표식은 HTML 이스케이프 대상 문자가 없어 렌더링 결과에 그대로 남는다.
+     */
+    public static EmailTemplate compile(MailType type, String subject, Map<String, Object> constants,
+        Function<Map<String, Object>, String> renderer) {
+        final Map<String, Object> model = new HashMap<>(constants);
+        type.getVariables().forEach(variable -> model.put(variable, "@@koliving:" + variable + "@@"));
+
+        final String rendered = renderer.apply(model);
+        final List<String> fragments = new ArrayList<>();
+        final List<String> slots = new ArrayList<>();
+        final Matcher matcher = SLOT.matcher(rendered);
+        int start = 0;
+        while (matcher.find()) {
+            fragments.add(rendered.substring(start, matcher.start()));
+            slots.add(matcher.group(1));
+            start = matcher.end();
+        }
+        fragments.add(rendered.substring(start));
+
+        return new EmailTemplate(type, subject, constants, fragments, slots);
+    }
+
+    public MailType getType() {
+        return type;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    /**
+     * 미리 렌더링하지 않은 템플릿은 조각이 없다. 값이 없는 변수는 Thymeleaf 가 속성 자체를 지우는 등 결과가 달라 조각으로 채울 수 없다.
+     */
+    public boolean isRenderable(Map<String, Object> variables) {
+        return fragments.length > 0 && type.getVariables().stream().allMatch(variable -> Objects.nonNull(variables.get(variable)));
+    }
+
+    /**
+     * th:text 와 th:href 가 쓰는 것과 같은 HTML 이스케이프로 값을 채운다.
+     */
+    public String render(Map<String, Object> variables) {
+        final StringBuilder html = new StringBuilder(length + slots.length * 64);
+        for (int i = 0; i < slots.length; i++) {
+            html.append(fragments[i]).append(HtmlEscape.escapeHtml4Xml(String.valueOf(variables.get(slots[i]))));
+        }
+
+        return html.append(fragments[slots.length]).toString();
+    }
+
+    /**
+     * Thymeleaf 로 직접 렌더링할 때 쓰는 전체 변수.
+     */
+    public Map<String, Object> model(Map<String, Object> variables) {
+        final Map<String, Object> model = new HashMap<>(variables);
+        model.putAll(constants);
+        return model;
+    }
+}
@@ -1,17 +1,41 @@
 package com.koliving.api.email;
 
-import lombok.RequiredArgsConstructor;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.koliving.api.properties.EmailTemplateProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import org.springframework.context.MessageSource;
 import org.springframework.stereotype.Component;
 import org.thymeleaf.TemplateEngine;
 import org.thymeleaf.context.Context;
 
+import java.util.HashMap;
+import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
 
 @Component
-@RequiredArgsConstructor
 public class EmailTemplateUtil {
 
     private final TemplateEngine templateEngine;
+    private final MessageSource messageSource;
+    private final Cache<TemplateKey, EmailTemplate> templates;
+
+    public EmailTemplateUtil(TemplateEngine templateEngine, MessageSource messageSource, EmailTemplateProperties properties,
+        MeterRegistry meterRegistry) {
+        this.templateEngine = templateEngine;
+        this.messageSource = messageSource;
+        // TB_LANGUAGE 의 문구 변경은 TTL 이 지나면 반영된다
+        this.templates = CacheBuilder.newBuilder()
+            .maximumSize(properties.getMaximumSize())
+            .expireAfterWrite(properties.getTtl())
+            .recordStats()
+            .build();
+
+        GuavaCacheMetrics.monitor(meterRegistry, templates, "email.template");
+    }
 
     public String generateEmail(MailType type, Map<String, Object> args) {
         String templateName = type.getTemplateName();
@@ -21,4 +45,54 @@ public class EmailTemplateUtil {
 
         return templateEngine.process(templateName, context);
     }
+
+    /**
+     * 제목과 고정 문구를 포함한 메일 템플릿을 메일 종류와 언어별로 한 번만 만든다.
+     */
+    public EmailTemplate getTemplate(MailType type, Locale locale) {
+        try {
+            return templates.get(new TemplateKey(type, locale), () -> compile(type, locale));
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    public String render(EmailTemplate template, Map<String, Object> variables) {
+        if (template.isRenderable(variables)) {
+            return template.render(variables);
+        }
+
+        return generateEmail(template.getType(), template.model(variables));
+    }
+
+    private EmailTemplate compile(MailType type, Locale locale) {
+        Map<String, Object> constants = new HashMap<>();
+        constants.put("title", "KOLIVING");
+
+        String subject;
+        if (type == MailType.CONTACT) {
+            constants.put("subtitle", messageSource.getMessage("contact_email_subtitle", null, locale));
+            subject = messageSource.getMessage("contact_email_subject", null, locale);
+        } else if (type == MailType.CONTACT_DIGEST) {
+            constants.put("subtitle", messageSource.getMessage("contact_digest_email_subtitle", null, locale));
+            subject = messageSource.getMessage("contact_digest_email_subject", null, locale);
+        } else {
+            constants.put("subtitle", messageSource.getMessage("auth_email_subtitle", null, locale));
+            constants.put("linkGuidance", messageSource.getMessage("auth_email_link_guidance", null, locale));
+            subject = messageSource.getMessage("auth_email_subject", null, locale);
+        }
+
+        if (!type.isPrecompiled()) {
+            return EmailTemplate.uncompiled(type, subject, constants);
+        }
+
+        return EmailTemplate.compile(type, subject, constants, model -> generateEmail(type, model));
+    }
+
+    private record TemplateKey(MailType type, Locale locale) {
+
+    }
 }
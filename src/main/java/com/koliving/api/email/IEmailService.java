@@ -7,4 +7,9 @@ public interface IEmailService {
     void send(MailType type, String to, String url);
 
     void sendRoomContact(String to, String contactInfo, String message, User sender, String link);
+
+    /**
+     * 바로 보내지 않고 다이제스트 메일로 묶어 보낸다.
+     */
+    void holdRoomContact(String to, String contactInfo, String message, User sender, String link);
 }
@@ -1,16 +1,39 @@
 package com.koliving.api.email;
 
+import java.util.List;
+
 public enum MailType {
-    AUTH("auth-email-template"),
-    CONTACT("contact-email-template");
+    AUTH("auth-email-template", true, "authEmailLink"),
+    CONTACT("contact-email-template", true, "contact", "message", "roomLink", "userName", "userAge", "userImageProfile",
+        "userGender", "userDescription"),
+    // 문의 목록(contacts)을 반복해 그리므로 고정 조각으로 나누지 않는다
+    CONTACT_DIGEST("contact-digest-email-template", false, "contacts");
 
     private final String template;
+    private final boolean precompiled;
+    private final List<String> variables;
 
-    MailType(String template) {
+    MailType(String template, boolean precompiled, String... variables) {
         this.template = template;
+        this.precompiled = precompiled;
+        this.variables = List.of(variables);
     }
 
     public String getTemplateName() {
         return this.template;
     }
+
+    /**
+     * 템플릿을 미리 렌더링해 고정 조각으로 캐시할 수 있는지 여부. 아니면 메일마다 Thymeleaf 로 렌더링한다.
+     */
+    public boolean isPrecompiled() {
+        return this.precompiled;
+    }
+
+    /**
+     * 수신자마다 달라지는 템플릿 변수. 나머지 변수는 언어별로 고정된 값이다.
+     */
+    public List<String> getVariables() {
+        return this.variables;
+    }
 }
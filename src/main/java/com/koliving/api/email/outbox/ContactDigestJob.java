@@ -0,0 +1,98 @@
+package com.koliving.api.email.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.koliving.api.clock.IClock;
+import com.koliving.api.email.MailType;
+import com.koliving.api.properties.RoomContactProperties;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * author : haedoang date : 2023/10/18 description : 보류된 방 연락 메일을 수신자와 언어별로 모아 다이제스트 메일 한 통으로 만든다.
+ * 다이제스트 메일은 일반 메일처럼 아웃박스에 PENDING 으로 저장해 EmailOutboxDispatcher 가 보내고, 묶인 메일은 DIGESTED 로 끝낸다.
+ */
+@Component
+public class ContactDigestJob {
+
+    private static final TypeReference<Map<String, Object>> VARIABLES = new TypeReference<>() {
+    };
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final RoomContactProperties properties;
+    private final ObjectMapper objectMapper;
+    private final IClock clock;
+
+    public ContactDigestJob(EmailOutboxRepository emailOutboxRepository, TransactionTemplate transactionTemplate,
+        RoomContactProperties properties, ObjectMapper objectMapper, IClock clock) {
+        this.emailOutboxRepository = emailOutboxRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+    }
+
+    @Scheduled(fixedDelayString = "${room.contact.digest-interval:PT15M}")
+    public void digest() {
+        Integer digested;
+        do {
+            digested = transactionTemplate.execute(status -> digestBatch());
+        } while (Objects.nonNull(digested) && digested == properties.getDigestBatchSize());
+    }
+
+    int digestBatch() {
+        final LocalDateTime now = clock.now();
+        // 보류된 메일도 같은 SKIP LOCKED 조회로 선점해 여러 노드가 같은 메일을 두 번 묶지 않는다
+        final List<EmailOutbox> held = emailOutboxRepository.findDispatchable(
+            EmailOutboxStatus.HELD, now, PageRequest.of(0, properties.getDigestBatchSize())
+        );
+
+        held.stream()
+            .collect(Collectors.groupingBy(DigestKey::of, LinkedHashMap::new, Collectors.toList()))
+            .forEach((key, contacts) -> {
+                emailOutboxRepository.save(
+                    EmailOutbox.of(MailType.CONTACT_DIGEST, key.recipient(), key.locale(), digestVariables(contacts), now)
+                );
+                contacts.forEach(contact -> contact.digested(now));
+            });
+
+        return held.size();
+    }
+
+    private String digestVariables(List<EmailOutbox> contacts) {
+        try {
+            final List<Map<String, Object>> variables = contacts.stream()
+                .map(this::variables)
+                .toList();
+            return objectMapper.writeValueAsString(Map.of("contacts", variables));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("failed to build contact digest", e);
+        }
+    }
+
+    private Map<String, Object> variables(EmailOutbox outbox) {
+        try {
+            return objectMapper.readValue(outbox.getVariables(), VARIABLES);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("invalid email outbox variables. outboxId=" + outbox.getId(), e);
+        }
+    }
+
+    private record DigestKey(String recipient, Locale locale) {
+
+        static DigestKey of(EmailOutbox outbox) {
+            return new DigestKey(outbox.getRecipient(), outbox.toLocale());
+        }
+    }
+}
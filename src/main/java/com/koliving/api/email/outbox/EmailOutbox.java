@@ -0,0 +1,138 @@
+package com.koliving.api.email.outbox;
+
+import com.koliving.api.email.MailType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.CreationTimestamp;
+
+/**
+ * author : haedoang date : 2023/10/17 description : 발송할 메일. 메일을 요청한 트랜잭션에서 함께 저장하고, 커밋된 메일만 디스패처가 발송한다.
+ * nextAttemptAt 이 지난 PENDING 메일이 발송 대상이며, 디스패처는 가져간 메일의 nextAttemptAt 을 선점 만료 시각으로 미룬다.
+ */
+@Entity(name = "TB_EMAIL_OUTBOX")
+@Table(indexes = @Index(name = "idx_email_outbox_status_next_attempt", columnList = "status, next_attempt_at"))
+@Getter
+@ToString(exclude = "variables")
+@EqualsAndHashCode(of = "id", callSuper = false)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class EmailOutbox {
+
+    private static final int ERROR_LENGTH = 500;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private MailType type;
+
+    @Column(nullable = false)
+    private String recipient;
+
+    @Column(nullable = false, length = 20)
+    private String locale;
+
+    @Lob
+    @Column(nullable = false)
+    private String variables;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private EmailOutboxStatus status;
+
+    private int attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = ERROR_LENGTH)
+    private String lastError;
+
+    private LocalDateTime sentAt;
+
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+
+    private EmailOutbox(MailType type, String recipient, Locale locale, String variables, EmailOutboxStatus status,
+        LocalDateTime now) {
+        this.type = type;
+        this.recipient = recipient;
+        this.locale = locale.toLanguageTag();
+        this.variables = variables;
+        this.status = status;
+        this.nextAttemptAt = now;
+    }
+
+    public static EmailOutbox of(MailType type, String recipient, Locale locale, String variables, LocalDateTime now) {
+        return new EmailOutbox(type, recipient, locale, variables, EmailOutboxStatus.PENDING, now);
+    }
+
+    /**
+     * 다이제스트 메일로 묶어 보낼 메일. ContactDigestJob 이 수신자별로 모아 한 통의 메일로 만든다.
+     */
+    public static EmailOutbox held(MailType type, String recipient, Locale locale, String variables, LocalDateTime now) {
+        return new EmailOutbox(type, recipient, locale, variables, EmailOutboxStatus.HELD, now);
+    }
+
+    public Locale toLocale() {
+        return Locale.forLanguageTag(locale);
+    }
+
+    /**
+     * 발송 결과를 기록하지 못하고 노드가 중단되어도 선점 만료 시각이 지나면 다시 발송 대상이 된다.
+     */
+    public void claim(LocalDateTime leaseUntil) {
+        this.nextAttemptAt = leaseUntil;
+    }
+
+    /**
+     * 발송을 시도하지 못하고 돌려놓는다. 시도 횟수는 늘리지 않는다.
+     */
+    public void release(LocalDateTime now) {
+        this.nextAttemptAt = now;
+    }
+
+    public void digested(LocalDateTime now) {
+        this.status = EmailOutboxStatus.DIGESTED;
+        this.sentAt = now;
+    }
+
+    public void sent(LocalDateTime now) {
+        this.status = EmailOutboxStatus.SENT;
+        this.sentAt = now;
+        this.lastError = null;
+    }
+
+    /**
+     * 실패할 때마다 대기 시간을 initialBackoff 부터 두 배씩 maxBackoff 까지 늘리고, maxAttempts 번 실패하면 FAILED 로 끝낸다.
+     */
+    public void failed(String error, LocalDateTime now, int maxAttempts, Duration initialBackoff, Duration maxBackoff) {
+        this.attempts++;
+        this.lastError = error == null || error.length() <= ERROR_LENGTH ? error : error.substring(0, ERROR_LENGTH);
+
+        if (attempts >= maxAttempts) {
+            this.status = EmailOutboxStatus.FAILED;
+            return;
+        }
+
+        final Duration backoff = initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 30));
+        this.nextAttemptAt = now.plus(backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff);
+    }
+}
@@ -0,0 +1,128 @@
+package com.koliving.api.email.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.koliving.api.clock.IClock;
+import com.koliving.api.email.EmailSender;
+import com.koliving.api.properties.EmailOutboxProperties;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * author : haedoang date : 2023/10/17 description : 아웃박스의 발송 대상 메일을 배치로 선점해 mailExecutor 에서 발송한다.
+ * 선점은 SKIP LOCKED 로 다른 노드가 잡은 행을 건너뛰고 바로 커밋하므로, SMTP 발송 중에는 행 잠금을 들고 있지 않는다.
+ * 동시 발송 수는 mailExecutor 의 동시 실행 한도로 제한되고, 실패한 메일은 지수 백오프로 다시 시도한다.
+ */
+@Slf4j
+@Component
+public class EmailOutboxDispatcher {
+
+    private static final TypeReference<Map<String, Object>> VARIABLES = new TypeReference<>() {
+    };
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final EmailSender emailSender;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor mailExecutor;
+    private final EmailOutboxProperties properties;
+    private final ObjectMapper objectMapper;
+    private final IClock clock;
+
+    public EmailOutboxDispatcher(EmailOutboxRepository emailOutboxRepository, EmailSender emailSender,
+        TransactionTemplate transactionTemplate, @Qualifier("mailExecutor") Executor mailExecutor,
+        EmailOutboxProperties properties, ObjectMapper objectMapper, IClock clock) {
+        this.emailOutboxRepository = emailOutboxRepository;
+        this.emailSender = emailSender;
+        this.transactionTemplate = transactionTemplate;
+        this.mailExecutor = mailExecutor;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.clock = clock;
+    }
+
+    @Scheduled(fixedDelayString = "${email.outbox.poll-interval:PT1S}")
+    public void dispatch() {
+        List<EmailOutbox> claimed;
+        do {
+            claimed = claim();
+            deliver(claimed);
+        } while (claimed.size() == properties.getBatchSize());
+    }
+
+    List<EmailOutbox> claim() {
+        final LocalDateTime now = clock.now();
+        final List<EmailOutbox> claimed = transactionTemplate.execute(status -> {
+            final List<EmailOutbox> dispatchable = emailOutboxRepository.findDispatchable(
+                EmailOutboxStatus.PENDING, now, PageRequest.of(0, properties.getBatchSize())
+            );
+            dispatchable.forEach(outbox -> outbox.claim(now.plus(properties.getClaimTimeout())));
+            return dispatchable;
+        });
+
+        return Objects.requireNonNullElse(claimed, List.of());
+    }
+
+    private void deliver(List<EmailOutbox> claimed) {
+        CompletableFuture.allOf(
+            claimed.stream()
+                .map(this::deliver)
+                .toArray(CompletableFuture[]::new)
+        ).join();
+    }
+
+    private CompletableFuture<Void> deliver(EmailOutbox outbox) {
+        try {
+            return CompletableFuture
+                .runAsync(() -> emailSender.send(outbox.getType(), outbox.getRecipient(), outbox.toLocale(), variables(outbox)), mailExecutor)
+                .handle((ignored, error) -> {
+                    complete(outbox.getId(), error);
+                    return null;
+                });
+        } catch (RejectedExecutionException e) {
+            update(outbox.getId(), saved -> saved.release(clock.now()));
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    private void complete(Long id, Throwable error) {
+        if (Objects.isNull(error)) {
+            update(id, saved -> saved.sent(clock.now()));
+            return;
+        }
+
+        final Throwable cause = Objects.requireNonNullElse(error.getCause(), error);
+        log.warn("failed to dispatch email. outboxId={}", id, cause);
+        update(id, saved -> saved.failed(cause.toString(), clock.now(), properties.getMaxAttempts(),
+            properties.getInitialBackoff(), properties.getMaxBackoff()));
+    }
+
+    private void update(Long id, Consumer<EmailOutbox> change) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> emailOutboxRepository.findById(id).ifPresent(change));
+        } catch (RuntimeException e) {
+            // 결과를 기록하지 못한 메일은 선점 만료 후 다시 발송 대상이 된다
+            log.error("failed to update email outbox. outboxId={}", id, e);
+        }
+    }
+
+    private Map<String, Object> variables(EmailOutbox outbox) {
+        try {
+            return objectMapper.readValue(outbox.getVariables(), VARIABLES);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("invalid email outbox variables. outboxId=" + outbox.getId(), e);
+        }
+    }
+}
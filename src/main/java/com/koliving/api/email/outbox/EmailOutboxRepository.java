@@ -0,0 +1,21 @@
+package com.koliving.api.email.outbox;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, Long> {
+
+    // lock timeout -2 : Hibernate 가 SELECT ... FOR UPDATE SKIP LOCKED 로 실행한다 (지원하지 않는 DB 는 FOR UPDATE)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select o from TB_EMAIL_OUTBOX o where o.status = :status and o.nextAttemptAt <= :now order by o.id")
+    List<EmailOutbox> findDispatchable(@Param("status") EmailOutboxStatus status, @Param("now") LocalDateTime now, Pageable pageable);
+}
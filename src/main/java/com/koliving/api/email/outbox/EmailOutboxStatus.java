@@ -0,0 +1,11 @@
+package com.koliving.api.email.outbox;
+
+public enum EmailOutboxStatus {
+    PENDING,
+    SENT,
+    FAILED,
+    // 다이제스트 메일로 묶일 때까지 보내지 않고 보류한다
+    HELD,
+    // 다이제스트 메일에 포함되어 따로 보내지 않는다
+    DIGESTED
+}
@@ -0,0 +1,246 @@
+package com.koliving.api.email.transport;
+
+import com.koliving.api.properties.MailTransportPoolProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.mail.AuthenticationFailedException;
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.lang.Nullable;
+import org.springframework.mail.MailAuthenticationException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+/**
+ * author : haedoang date : 2023/10/18 description : 인증까지 마친 SMTP 연결을 최대 maxConnections 개까지 보관해 재사용한다.
+ * 기본 JavaMailSenderImpl 은 send 마다 연결, TLS, AUTH 를 새로 하고 끊는다.
+ * 오래 쉰 연결은 꺼낼 때 NOOP 으로 확인하고, 수명이나 발송 수를 넘긴 연결은 닫고 새로 맺는다.
+ */
+@Slf4j
+public class PooledJavaMailSender extends JavaMailSenderImpl implements DisposableBean {
+
+    private static final String HEADER_MESSAGE_ID = "Message-ID";
+    private static final String METRIC_PREFIX = "mail.transport.pool.";
+
+    private final MailTransportPoolProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final BlockingDeque<PooledTransport> idle = new LinkedBlockingDeque<>();
+    private final Semaphore permits;
+    private final AtomicInteger open = new AtomicInteger();
+    private final Timer borrowTimer;
+    private volatile boolean closed;
+
+    public PooledJavaMailSender(MailTransportPoolProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.permits = new Semaphore(properties.getMaxConnections(), true);
+        this.borrowTimer = Timer.builder(METRIC_PREFIX + "borrow")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+
+        Gauge.builder(METRIC_PREFIX + "connections", open, AtomicInteger::get).tag("state", "open").register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + "connections", idle, BlockingDeque::size).tag("state", "idle").register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + "connections", permits, it -> properties.getMaxConnections() - it.availablePermits())
+            .tag("state", "active")
+            .register(meterRegistry);
+    }
+
+    /**
+     * JavaMailSenderImpl 과 같은 방식으로 메시지별 실패를 모아 MailSendException 으로 던지되, 연결은 풀에서 빌려 쓴다.
+     * 여러 메시지를 한 번에 넘기면 한 연결로 이어서 보낸다.
+     */
+    @Override
+    protected void doSend(MimeMessage[] mimeMessages, @Nullable Object[] originalMessages) {
+        final Map<Object, Exception> failedMessages = new LinkedHashMap<>();
+        final Lease lease = borrow();
+
+        try {
+            lease.open();
+        } catch (AuthenticationFailedException e) {
+            lease.close();
+            throw new MailAuthenticationException(e);
+        } catch (MessagingException e) {
+            lease.close();
+            for (int i = 0; i < mimeMessages.length; i++) {
+                failedMessages.put(original(mimeMessages, originalMessages, i), e);
+            }
+            throw new MailSendException("Mail server connection failed", e, failedMessages);
+        }
+
+        try {
+            for (int i = 0; i < mimeMessages.length; i++) {
+                try {
+                    lease.send(prepare(mimeMessages[i]));
+                } catch (MessagingException e) {
+                    failedMessages.put(original(mimeMessages, originalMessages, i), e);
+                }
+            }
+        } finally {
+            lease.close();
+        }
+
+        if (!failedMessages.isEmpty()) {
+            throw new MailSendException(failedMessages);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        closed = true;
+        PooledTransport pooled;
+        while (Objects.nonNull(pooled = idle.pollFirst())) {
+            discard(pooled, "shutdown");
+        }
+    }
+
+    private Lease borrow() {
+        final long startedAt = System.nanoTime();
+        try {
+            if (!permits.tryAcquire(properties.getBorrowTimeout().toNanos(), TimeUnit.NANOSECONDS)) {
+                counter("borrow.timeouts").increment();
+                throw new MailSendException("Timed out waiting for a pooled SMTP connection");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MailSendException("Interrupted while waiting for a pooled SMTP connection", e);
+        } finally {
+            borrowTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+
+        return new Lease();
+    }
+
+    private PooledTransport take() throws MessagingException {
+        PooledTransport pooled;
+        // 가장 최근에 쓴 연결부터 꺼내야 서버가 끊었을 가능성이 낮다
+        while (Objects.nonNull(pooled = idle.pollFirst())) {
+            if (pooled.isExpired(properties.getMaxLifetime(), properties.getMaxMessagesPerConnection())) {
+                discard(pooled, "expired");
+            } else if (pooled.isIdleFor(properties.getValidateAfterIdle()) && !pooled.isConnected()) {
+                discard(pooled, "stale");
+            } else {
+                return pooled;
+            }
+        }
+
+        return connect();
+    }
+
+    private PooledTransport connect() throws MessagingException {
+        final Transport transport = connectTransport();
+        open.incrementAndGet();
+        counter("connections.created").increment();
+
+        return new PooledTransport(transport);
+    }
+
+    private void giveBack(PooledTransport pooled) {
+        if (closed || pooled.isExpired(properties.getMaxLifetime(), properties.getMaxMessagesPerConnection())) {
+            discard(pooled, closed ? "shutdown" : "expired");
+            return;
+        }
+
+        pooled.touch();
+        idle.offerFirst(pooled);
+    }
+
+    private void discard(PooledTransport pooled, String reason) {
+        open.decrementAndGet();
+        Counter.builder(METRIC_PREFIX + "connections.closed")
+            .tag("reason", reason)
+            .register(meterRegistry)
+            .increment();
+
+        try {
+            pooled.close();
+        } catch (MessagingException e) {
+            log.debug("failed to close SMTP connection. reason={}", reason, e);
+        }
+    }
+
+    private Counter counter(String name) {
+        return Counter.builder(METRIC_PREFIX + name).register(meterRegistry);
+    }
+
+    private static MimeMessage prepare(MimeMessage mimeMessage) throws MessagingException {
+        if (Objects.isNull(mimeMessage.getSentDate())) {
+            mimeMessage.setSentDate(new Date());
+        }
+
+        final String messageId = mimeMessage.getMessageID();
+        mimeMessage.saveChanges();
+        if (Objects.nonNull(messageId)) {
+            // saveChanges 가 새로 만든 Message-ID 대신 호출자가 지정한 값을 유지한다
+            mimeMessage.setHeader(HEADER_MESSAGE_ID, messageId);
+        }
+
+        return mimeMessage;
+    }
+
+    private static Object original(MimeMessage[] mimeMessages, @Nullable Object[] originalMessages, int index) {
+        return Objects.nonNull(originalMessages) ? originalMessages[index] : mimeMessages[index];
+    }
+
+    /**
+     * doSend 한 번 동안 쥐는 풀 자리. 보내는 중에 연결이 끊기면 같은 자리에서 연결을 바꿔 끼운다.
+     */
+    private final class Lease {
+
+        private PooledTransport current;
+
+        void open() throws MessagingException {
+            current = take();
+        }
+
+        void send(MimeMessage mimeMessage) throws MessagingException {
+            for (int attempt = 0; ; attempt++) {
+                if (Objects.isNull(current)) {
+                    current = connect();
+                }
+
+                final boolean reused = current.getSent() > 0;
+                try {
+                    current.send(mimeMessage);
+                    return;
+                } catch (MessagingException e) {
+                    // 수신자 거부처럼 서버가 응답한 실패면 연결을 계속 쓴다. 끊긴 연결도 SendFailedException 으로 올 수 있어 확인한다
+                    if (e instanceof SendFailedException && current.isConnected()) {
+                        throw e;
+                    }
+
+                    discard(current, "broken");
+                    current = null;
+
+                    // 이미 쓰던 연결이 서버 쪽에서 끊겼을 수 있어 새 연결로 한 번만 다시 보낸다
+                    if (!reused || attempt > 0) {
+                        throw e;
+                    }
+                    log.debug("retrying on a new SMTP connection after a reused one failed", e);
+                }
+            }
+        }
+
+        void close() {
+            if (Objects.nonNull(current)) {
+                giveBack(current);
+                current = null;
+            }
+            permits.release();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.koliving.api.email.transport;
+
+import jakarta.mail.Address;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * 풀에 보관하는 SMTP 연결. 한 번에 한 스레드만 빌려 쓰므로 동기화하지 않는다.
+ */
+class PooledTransport {
+
+    private static final Address[] NO_ADDRESSES = new Address[0];
+
+    private final Transport transport;
+    private final long createdAt;
+    private long lastUsedAt;
+    private int sent;
+
+    PooledTransport(Transport transport) {
+        this.transport = transport;
+        this.createdAt = System.nanoTime();
+        this.lastUsedAt = createdAt;
+    }
+
+    void send(MimeMessage mimeMessage) throws MessagingException {
+        final Address[] addresses = mimeMessage.getAllRecipients();
+        transport.sendMessage(mimeMessage, Objects.requireNonNullElse(addresses, NO_ADDRESSES));
+        sent++;
+    }
+
+    /**
+     * SMTP Transport 는 NOOP 을 보내 서버 연결이 살아 있는지 확인한다.
+     */
+    boolean isConnected() {
+        return transport.isConnected();
+    }
+
+    boolean isIdleFor(Duration duration) {
+        return System.nanoTime() - lastUsedAt >= duration.toNanos();
+    }
+
+    boolean isExpired(Duration maxLifetime, int maxMessages) {
+        return sent >= maxMessages || System.nanoTime() - createdAt >= maxLifetime.toNanos();
+    }
+
+    void touch() {
+        this.lastUsedAt = System.nanoTime();
+    }
+
+    int getSent() {
+        return sent;
+    }
+
+    void close() throws MessagingException {
+        transport.close();
+    }
+}
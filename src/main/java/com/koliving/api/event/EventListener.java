@@ -2,7 +2,6 @@ package com.koliving.api.event;
 
 import com.koliving.api.token.confirmation.IConfirmationTokenService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
@@ -13,10 +12,10 @@ public class EventListener {
 
     private final IConfirmationTokenService confirmationTokenService;
 
-    @Async
+    // 메일 아웃박스를 인증 토큰과 같은 트랜잭션에 저장한다
     @TransactionalEventListener(
         classes = ConfirmationTokenCreatedEvent.class,
-        phase = TransactionPhase.AFTER_COMMIT
+        phase = TransactionPhase.BEFORE_COMMIT
     )
     public void onConfirmationTokenCreated(ConfirmationTokenCreatedEvent event) {
         confirmationTokenService.sendEmail(event.getEmail(), event.getToken(), event.getLinkPathResource());
@@ -0,0 +1,22 @@
+package com.koliving.api.exception;
+
+import com.koliving.api.base.ServiceError;
+import com.koliving.api.base.exception.KolivingServiceException;
+import java.time.Duration;
+import lombok.Getter;
+
+/**
+ * author : haedoang date : 2023/10/16 description : @DistributedLock 메서드가 대기 시간 안에 락을 얻지 못함
+ */
+@Getter
+public class LockAcquisitionException extends KolivingServiceException {
+
+    private final String key;
+    private final Duration waited;
+
+    public LockAcquisitionException(String key, Duration waited) {
+        super(ServiceError.LOCK_ACQUISITION_FAILED);
+        this.key = key;
+        this.waited = waited;
+    }
+}
@@ -0,0 +1,87 @@
+package com.koliving.api.executor;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+
+/**
+ * author : haedoang date : 2023/10/18 description : 작업마다 가상 스레드를 만들어 실행하는 실행기. 스레드 수 대신 세마포어로 동시 실행 수를 제한한다.
+ * 한도가 차면 제출한 스레드가 acquireTimeout 만큼 기다리고, 그래도 자리가 나지 않으면 TaskRejectedException 을 던진다.
+ */
+public class BoundedVirtualThreadExecutor implements AsyncTaskExecutor {
+
+    private final ThreadFactory threadFactory;
+    private final Semaphore permits;
+    private final Duration acquireTimeout;
+    private final String name;
+    private final int maxConcurrency;
+    private final Counter rejected;
+
+    public BoundedVirtualThreadExecutor(String name, int maxConcurrency, Duration acquireTimeout, MeterRegistry meterRegistry) {
+        this.threadFactory = Thread.ofVirtual().name(name + "-", 0).factory();
+        this.permits = new Semaphore(maxConcurrency);
+        this.acquireTimeout = acquireTimeout;
+        this.name = name;
+        this.maxConcurrency = maxConcurrency;
+        this.rejected = Counter.builder("async.executor.rejected")
+            .tag("name", name)
+            .register(meterRegistry);
+
+        Gauge.builder("async.executor.in-flight", permits, it -> maxConcurrency - it.availablePermits())
+            .tag("name", name)
+            .register(meterRegistry);
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        acquire();
+        try {
+            threadFactory.newThread(() -> {
+                try {
+                    task.run();
+                } finally {
+                    permits.release();
+                }
+            }).start();
+        } catch (RuntimeException | Error e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Future<?> submit(Runnable task) {
+        final FutureTask<Object> future = new FutureTask<>(task, null);
+        execute(future);
+        return future;
+    }
+
+    @Override
+    public <T> Future<T> submit(Callable<T> task) {
+        final FutureTask<T> future = new FutureTask<>(task);
+        execute(future);
+        return future;
+    }
+
+    private void acquire() {
+        try {
+            if (permits.tryAcquire(acquireTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        rejected.increment();
+        throw new TaskRejectedException("Executor [" + name + "] reached its concurrency limit of " + maxConcurrency);
+    }
+}
@@ -1,18 +1,20 @@
 package com.koliving.api.location.application;
 
 import com.koliving.api.base.exception.KolivingServiceException;
+import com.koliving.api.catalog.application.CatalogService;
+import com.koliving.api.catalog.infra.CatalogChangedEvent;
 import com.koliving.api.location.application.dto.LocationResponse;
 import com.koliving.api.location.application.dto.LocationSaveRequest;
 import com.koliving.api.location.application.dto.LocationUpdateRequest;
 import com.koliving.api.location.domain.Location;
 import com.koliving.api.location.infra.LocationRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Objects;
-import java.util.stream.Collectors;
 
 import static com.koliving.api.base.ServiceError.RECORD_NOT_EXIST;
 
@@ -22,12 +24,15 @@ import static com.koliving.api.base.ServiceError.RECORD_NOT_EXIST;
 public class LocationService {
 
     private final LocationRepository locationRepository;
+    private final CatalogService catalogService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public Long save(LocationSaveRequest request) {
         final Location savedLocation = locationRepository.save(
             request.toEntity(getUpperLocation(request))
         );
+        eventPublisher.publishEvent(new CatalogChangedEvent("location"));
         return savedLocation.getId();
     }
 
@@ -39,26 +44,27 @@ public class LocationService {
     }
 
     public LocationResponse findOne(Long id) {
-        final Location location = findById(id);
-        return LocationResponse.valueOf(location);
+        return catalogService.current()
+            .findLocation(id)
+            .orElseThrow(() -> new KolivingServiceException(RECORD_NOT_EXIST));
     }
 
     public List<LocationResponse> findAll() {
-        return locationRepository.findAll()
-            .stream()
-            .map(LocationResponse::valueOf)
-            .collect(Collectors.toList());
+        return catalogService.current()
+            .locations();
     }
 
     @Transactional
     public void update(Long id, LocationUpdateRequest request) {
         final Location location = findById(id);
         location.update(request.name());
+        eventPublisher.publishEvent(new CatalogChangedEvent("location"));
     }
 
     @Transactional
     public void deleteById(Long id) {
         locationRepository.deleteById(id);
+        eventPublisher.publishEvent(new CatalogChangedEvent("location"));
     }
 
     private Location findById(Long id) {
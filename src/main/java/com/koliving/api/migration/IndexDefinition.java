@@ -0,0 +1,41 @@
+package com.koliving.api.migration;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * author : haedoang date : 2023/10/10 description : 마이그레이션이 만드는 인덱스 정의. 엔티티의 @Table 인덱스와 같은 정의를 유지한다.
+ */
+public record IndexDefinition(String table, String name, String columns) {
+
+    String toDdl() {
+        return String.format("CREATE INDEX %s ON %s (%s)", name, table, columns);
+    }
+
+    boolean tableExists(DatabaseMetaData metaData) throws SQLException {
+        try (ResultSet tables = metaData.getTables(null, null, identifier(metaData, table), new String[]{"TABLE"})) {
+            return tables.next();
+        }
+    }
+
+    boolean exists(DatabaseMetaData metaData) throws SQLException {
+        try (ResultSet indexes = metaData.getIndexInfo(null, null, identifier(metaData, table), false, false)) {
+            while (indexes.next()) {
+                if (name.equalsIgnoreCase(indexes.getString("INDEX_NAME"))) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    private static String identifier(DatabaseMetaData metaData, String name) throws SQLException {
+        if (metaData.storesUpperCaseIdentifiers()) {
+            return name.toUpperCase();
+        }
+
+        return metaData.storesLowerCaseIdentifiers() ? name.toLowerCase() : name;
+    }
+}
@@ -0,0 +1,32 @@
+package com.koliving.api.migration;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.Statement;
+import java.util.List;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+/**
+ * author : haedoang date : 2023/10/10 description : 인덱스만 추가하는 마이그레이션. 이미 있는 인덱스는 건너뛴다.
+ * 테이블은 JPA 스키마 생성으로 만들어지고 Flyway 는 그보다 먼저 실행되므로, 새 DB 에서는 테이블이 아직 없다.
+ * 이때는 JPA 가 엔티티의 @Table 인덱스로 테이블과 함께 만들고, 기동 후 SchemaIndexVerifier 가 모든 인덱스가 있는지 다시 확인한다.
+ */
+public abstract class IndexMigration extends BaseJavaMigration {
+
+    public abstract List<IndexDefinition> indexes();
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        final Connection connection = context.getConnection();
+        final DatabaseMetaData metaData = connection.getMetaData();
+
+        try (Statement statement = connection.createStatement()) {
+            for (IndexDefinition index : indexes()) {
+                if (index.tableExists(metaData) && !index.exists(metaData)) {
+                    statement.execute(index.toDdl());
+                }
+            }
+        }
+    }
+}
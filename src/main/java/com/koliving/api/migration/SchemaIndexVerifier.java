@@ -0,0 +1,54 @@
+package com.koliving.api.migration;
+
+import jakarta.annotation.PostConstruct;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.stereotype.Component;
+
+/**
+ * author : haedoang date : 2023/10/10 description : 마이그레이션이 정의한 인덱스가 모두 있는지 JPA 스키마 생성 뒤에 다시 확인한다.
+ * 마이그레이션이 테이블이 없어 건너뛴 인덱스를 JPA 도 만들지 않았다면(엔티티 @Table 정의와 어긋난 경우) 기동을 멈춘다.
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class SchemaIndexVerifier {
+
+    static final List<IndexMigration> MIGRATIONS = List.of(
+        new V1__RoomSearchIndexes(),
+        new V2__EmailOutboxIndexes(),
+        new V3__NotificationIndexes()
+    );
+
+    private final DataSource dataSource;
+
+    @PostConstruct
+    void verify() {
+        final List<String> missing = new ArrayList<>();
+        try (Connection connection = dataSource.getConnection()) {
+            final DatabaseMetaData metaData = connection.getMetaData();
+            for (IndexMigration migration : MIGRATIONS) {
+                for (IndexDefinition index : migration.indexes()) {
+                    if (!index.exists(metaData)) {
+                        missing.add(index.table() + "." + index.name());
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("schema index verification failed", e);
+        }
+
+        if (!missing.isEmpty()) {
+            throw new IllegalStateException("schema indexes missing after migration: " + missing);
+        }
+        log.info("schema indexes verified. migrations={}", MIGRATIONS.size());
+    }
+}
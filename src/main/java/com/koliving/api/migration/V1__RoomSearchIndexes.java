@@ -0,0 +1,22 @@
+package com.koliving.api.migration;
+
+import java.util.List;
+
+/**
+ * author : haedoang date : 2023/10/10 description : 방 검색 조건 컬럼 복합 인덱스.
+ */
+public class V1__RoomSearchIndexes extends IndexMigration {
+
+    @Override
+    public List<IndexDefinition> indexes() {
+        return List.of(
+            new IndexDefinition("TB_ROOM", "idx_room_location_rent", "location_id, deleted, monthly_rent"),
+            new IndexDefinition("TB_ROOM", "idx_room_rent", "deleted, monthly_rent, id"),
+            new IndexDefinition("TB_ROOM", "idx_room_available_date", "deleted, available_date, id"),
+            new IndexDefinition("TB_ROOM", "idx_room_deposit", "deleted, deposit"),
+            new IndexDefinition("TB_ROOM", "idx_room_type_location", "room_type, deleted, location_id"),
+            new IndexDefinition("TB_ROOM_FURNISHINGS", "idx_room_furnishings_furnishing", "furnishing_id, room_id"),
+            new IndexDefinition("TB_ROOM_LIKE", "idx_room_like_user", "user_id, deleted, room_id")
+        );
+    }
+}
@@ -0,0 +1,16 @@
+package com.koliving.api.migration;
+
+import java.util.List;
+
+/**
+ * author : haedoang date : 2023/10/17 description : 메일 디스패처가 발송 대상(PENDING, nextAttemptAt 경과)을 찾는 인덱스.
+ */
+public class V2__EmailOutboxIndexes extends IndexMigration {
+
+    @Override
+    public List<IndexDefinition> indexes() {
+        return List.of(
+            new IndexDefinition("TB_EMAIL_OUTBOX", "idx_email_outbox_status_next_attempt", "status, next_attempt_at")
+        );
+    }
+}
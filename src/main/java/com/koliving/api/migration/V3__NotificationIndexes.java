@@ -0,0 +1,16 @@
+package com.koliving.api.migration;
+
+import java.util.List;
+
+/**
+ * author : haedoang date : 2023/11/05 description : 수신자별 최근 알림 조회 인덱스.
+ */
+public class V3__NotificationIndexes extends IndexMigration {
+
+    @Override
+    public List<IndexDefinition> indexes() {
+        return List.of(
+            new IndexDefinition("TB_NOTIFICATION", "idx_notification_receiver_created", "receiver_id, created_at")
+        );
+    }
+}
@@ -1,14 +1,16 @@
 package com.koliving.api.my.ui;
 
+import com.koliving.api.auth.jwt.JwtPrincipal;
 import com.koliving.api.base.ErrorResponse;
 import com.koliving.api.my.application.dto.UserProfileUpdateRequest;
 import com.koliving.api.room.application.RoomService;
-import com.koliving.api.room.application.dto.RoomResponse;
+import com.koliving.api.room.application.dto.RoomCursorResponse;
+import com.koliving.api.room.application.dto.RoomSummary;
 import com.koliving.api.user.application.dto.NotificationResponse;
-import com.koliving.api.user.domain.User;
 import com.koliving.api.user.application.UserService;
 import com.koliving.api.user.application.dto.UserResponse;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -17,12 +19,14 @@ import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 
@@ -51,8 +55,8 @@ public class MyController {
         })
     @PutMapping("/profile")
     public ResponseEntity<Void> updateProfile(@RequestBody UserProfileUpdateRequest request,
-        @AuthenticationPrincipal User user) {
-        userService.updateProfile(request, user.getId());
+        @AuthenticationPrincipal JwtPrincipal principal) {
+        userService.updateProfile(request, principal.getId());
         return ResponseEntity.noContent().build();
     }
 
@@ -73,8 +77,8 @@ public class MyController {
             ),
         })
     @GetMapping
-    public ResponseEntity<UserResponse> myProfile(@AuthenticationPrincipal User user) {
-        UserResponse response = userService.findById(user.getId());
+    public ResponseEntity<UserResponse> myProfile(@AuthenticationPrincipal JwtPrincipal principal) {
+        UserResponse response = userService.findById(principal.getId());
 
         return ResponseEntity.ok()
             .body(response);
@@ -95,8 +99,55 @@ public class MyController {
             ),
         })
     @GetMapping("/rooms/like")
-    public ResponseEntity<Page<RoomResponse>> getLikedRooms(Pageable pageable, @AuthenticationPrincipal User user) {
-        final Page<RoomResponse> responses = roomService.findLikeRoomByUser(pageable, user);
+    public ResponseEntity<Page<RoomSummary>> getLikedRooms(Pageable pageable, @AuthenticationPrincipal JwtPrincipal principal) {
+        final Page<RoomSummary> responses = roomService.findLikeRoomByUser(pageable, principal.getId());
+
+        return ResponseEntity.ok()
+            .body(responses);
+    }
+
+    @Operation(
+        summary = "좋아요 게시글 조회 (전체 건수 미포함)",
+        description = "전체 건수 조회 없이 좋아요 한 게시글 리스트를 조회합니다",
+        responses = {
+            @ApiResponse(
+                responseCode = "200",
+                description = "좋아요 게시글 조회 성공"
+            ),
+            @ApiResponse(
+                responseCode = "400",
+                description = "좋아요 게시글 조회 실패",
+                content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            ),
+        })
+    @GetMapping("/rooms/like/slice")
+    public ResponseEntity<Slice<RoomSummary>> getLikedRoomsSlice(Pageable pageable, @AuthenticationPrincipal JwtPrincipal principal) {
+        final Slice<RoomSummary> responses = roomService.findLikeRoomSliceByUser(pageable, principal.getId());
+
+        return ResponseEntity.ok()
+            .body(responses);
+    }
+
+    @Operation(
+        summary = "좋아요 게시글 조회 (커서 기반)",
+        description = "이전 응답의 커서 이후의 좋아요 한 게시글 리스트를 조회합니다",
+        responses = {
+            @ApiResponse(
+                responseCode = "200",
+                description = "좋아요 게시글 조회 성공"
+            ),
+            @ApiResponse(
+                responseCode = "400",
+                description = "좋아요 게시글 조회 실패",
+                content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            ),
+        })
+    @GetMapping("/rooms/like/cursor")
+    public ResponseEntity<RoomCursorResponse> getLikedRoomsByCursor(
+        @Parameter(description = "이전 응답의 nextCursor. 첫 페이지는 생략") @RequestParam(required = false) String cursor,
+        @Parameter(description = "조회 건수") @RequestParam(defaultValue = "10") int size,
+        @AuthenticationPrincipal JwtPrincipal principal) {
+        final RoomCursorResponse responses = roomService.findLikeRoomByUser(cursor, size, principal.getId());
 
         return ResponseEntity.ok()
             .body(responses);
@@ -117,8 +168,8 @@ public class MyController {
             ),
         })
     @GetMapping("/notification")
-    public ResponseEntity<List<NotificationResponse>> getNotifications(@AuthenticationPrincipal User user) {
-        List<NotificationResponse> responses = userService.getNotifications(user);
+    public ResponseEntity<List<NotificationResponse>> getNotifications(@AuthenticationPrincipal JwtPrincipal principal) {
+        List<NotificationResponse> responses = userService.getNotifications(principal.getId());
         return ResponseEntity.ok()
             .body(responses);
     }
@@ -0,0 +1,19 @@
+package com.koliving.api.properties;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+@Getter
+@Validated
+@ConfigurationProperties(prefix = "blacklist.legacy")
+public class BlackListLegacyProperties {
+
+    // 롤링 배포 중 이전 노드와 단일 해시(BlackAccessToken)로 블랙리스트를 주고받는다. 모든 노드가 바뀐 다음 릴리스에서 끈다
+    private final boolean enabled;
+
+    public BlackListLegacyProperties(@DefaultValue("true") boolean enabled) {
+        this.enabled = enabled;
+    }
+}
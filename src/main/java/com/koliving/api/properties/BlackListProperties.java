@@ -0,0 +1,27 @@
+package com.koliving.api.properties;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+@Getter
+@Validated
+@ConfigurationProperties(prefix = "blacklist.filter")
+public class BlackListProperties {
+
+    @Positive
+    private final long expectedInsertions;
+
+    @Positive
+    @DecimalMax("0.1")
+    private final double falsePositiveProbability;
+
+    public BlackListProperties(@DefaultValue("1000000") long expectedInsertions,
+        @DefaultValue("0.001") double falsePositiveProbability) {
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveProbability = falsePositiveProbability;
+    }
+}
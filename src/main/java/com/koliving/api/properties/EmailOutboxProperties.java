@@ -0,0 +1,42 @@
+package com.koliving.api.properties;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.Duration;
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+@Getter
+@Validated
+@ConfigurationProperties(prefix = "email.outbox")
+public class EmailOutboxProperties {
+
+    @Positive
+    private final int batchSize;
+
+    @NotNull
+    private final Duration claimTimeout;
+
+    @Positive
+    private final int maxAttempts;
+
+    @NotNull
+    private final Duration initialBackoff;
+
+    @NotNull
+    private final Duration maxBackoff;
+
+    public EmailOutboxProperties(@DefaultValue("20") int batchSize,
+        @DefaultValue("5m") Duration claimTimeout,
+        @DefaultValue("8") int maxAttempts,
+        @DefaultValue("30s") Duration initialBackoff,
+        @DefaultValue("1h") Duration maxBackoff) {
+        this.batchSize = batchSize;
+        this.claimTimeout = claimTimeout;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+    }
+}
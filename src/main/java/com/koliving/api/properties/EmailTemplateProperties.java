@@ -0,0 +1,27 @@
+package com.koliving.api.properties;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.Duration;
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+@Getter
+@Validated
+@ConfigurationProperties(prefix = "email.template-cache")
+public class EmailTemplateProperties {
+
+    @Positive
+    private final long maximumSize;
+
+    @NotNull
+    private final Duration ttl;
+
+    public EmailTemplateProperties(@DefaultValue("100") long maximumSize,
+        @DefaultValue("10m") Duration ttl) {
+        this.maximumSize = maximumSize;
+        this.ttl = ttl;
+    }
+}
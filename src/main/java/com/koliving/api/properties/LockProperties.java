@@ -0,0 +1,22 @@
+package com.koliving.api.properties;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+@Getter
+@Validated
+@ConfigurationProperties(prefix = "lock.local")
+public class LockProperties {
+
+    private final boolean enabled;
+
+    private final boolean fair;
+
+    public LockProperties(@DefaultValue("true") boolean enabled,
+        @DefaultValue("false") boolean fair) {
+        this.enabled = enabled;
+        this.fair = fair;
+    }
+}
@@ -0,0 +1,55 @@
+package com.koliving.api.properties;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import java.time.Duration;
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+@Getter
+@Validated
+@ConfigurationProperties(prefix = "async.mail-executor")
+public class MailExecutorProperties {
+
+    @NotNull
+    private final Mode mode;
+
+    @Positive
+    private final int corePoolSize;
+
+    @Positive
+    private final int maxPoolSize;
+
+    @PositiveOrZero
+    private final int queueCapacity;
+
+    @Positive
+    private final int maxConcurrency;
+
+    @NotNull
+    private final Duration acquireTimeout;
+
+    public MailExecutorProperties(@DefaultValue("PLATFORM") Mode mode,
+        @DefaultValue("5") int corePoolSize,
+        @DefaultValue("15") int maxPoolSize,
+        @DefaultValue("30") int queueCapacity,
+        @DefaultValue("100") int maxConcurrency,
+        @DefaultValue("5s") Duration acquireTimeout) {
+        this.mode = mode;
+        this.corePoolSize = corePoolSize;
+        this.maxPoolSize = maxPoolSize;
+        this.queueCapacity = queueCapacity;
+        this.maxConcurrency = maxConcurrency;
+        this.acquireTimeout = acquireTimeout;
+    }
+
+    public enum Mode {
+        // corePoolSize, maxPoolSize, queueCapacity 를 쓰는 스레드 풀
+        PLATFORM,
+        // 작업마다 가상 스레드를 만들고 동시 실행 수를 maxConcurrency 로 제한한다
+        VIRTUAL
+    }
+}
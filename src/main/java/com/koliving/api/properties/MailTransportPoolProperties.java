@@ -0,0 +1,46 @@
+package com.koliving.api.properties;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.Duration;
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+@Getter
+@Validated
+@ConfigurationProperties(prefix = "email.transport-pool")
+public class MailTransportPoolProperties {
+
+    private final boolean enabled;
+
+    @Positive
+    private final int maxConnections;
+
+    @Positive
+    private final int maxMessagesPerConnection;
+
+    @NotNull
+    private final Duration maxLifetime;
+
+    @NotNull
+    private final Duration validateAfterIdle;
+
+    @NotNull
+    private final Duration borrowTimeout;
+
+    public MailTransportPoolProperties(@DefaultValue("true") boolean enabled,
+        @DefaultValue("5") int maxConnections,
+        @DefaultValue("100") int maxMessagesPerConnection,
+        @DefaultValue("10m") Duration maxLifetime,
+        @DefaultValue("30s") Duration validateAfterIdle,
+        @DefaultValue("30s") Duration borrowTimeout) {
+        this.enabled = enabled;
+        this.maxConnections = maxConnections;
+        this.maxMessagesPerConnection = maxMessagesPerConnection;
+        this.maxLifetime = maxLifetime;
+        this.validateAfterIdle = validateAfterIdle;
+        this.borrowTimeout = borrowTimeout;
+    }
+}
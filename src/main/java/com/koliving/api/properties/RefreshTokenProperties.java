@@ -0,0 +1,20 @@
+package com.koliving.api.properties;
+
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+@Getter
+@Validated
+@ConfigurationProperties(prefix = "jwt.refresh")
+public class RefreshTokenProperties {
+
+    @Positive
+    private final int maxDevices;
+
+    public RefreshTokenProperties(@DefaultValue("5") int maxDevices) {
+        this.maxDevices = maxDevices;
+    }
+}
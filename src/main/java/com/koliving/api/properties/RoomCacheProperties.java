@@ -0,0 +1,32 @@
+package com.koliving.api.properties;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.Duration;
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+@Getter
+@Validated
+@ConfigurationProperties(prefix = "room.cache")
+public class RoomCacheProperties {
+
+    @Positive
+    private final long localMaximumSize;
+
+    @NotNull
+    private final Duration localTtl;
+
+    @NotNull
+    private final Duration redisTtl;
+
+    public RoomCacheProperties(@DefaultValue("1000") long localMaximumSize,
+        @DefaultValue("1m") Duration localTtl,
+        @DefaultValue("10m") Duration redisTtl) {
+        this.localMaximumSize = localMaximumSize;
+        this.localTtl = localTtl;
+        this.redisTtl = redisTtl;
+    }
+}
@@ -0,0 +1,51 @@
+package com.koliving.api.properties;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.Duration;
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+@Getter
+@Validated
+@ConfigurationProperties(prefix = "room.contact")
+public class RoomContactProperties {
+
+    // 같은 회원이 같은 방에 이 시간 안에 다시 연락하면 하나로 합친다
+    @NotNull
+    private final Duration dedupWindow;
+
+    // 회원별 토큰 버킷 크기. 한 번에 보낼 수 있는 연락 수
+    @Positive
+    private final int rateCapacity;
+
+    // 토큰 하나가 다시 채워지는 시간
+    @NotNull
+    private final Duration rateRefillInterval;
+
+    // 호스트가 digestWindow 안에 이만큼 연락을 받았으면 이후 연락은 다이제스트 메일로 묶는다
+    @Positive
+    private final int digestThreshold;
+
+    @NotNull
+    private final Duration digestWindow;
+
+    @Positive
+    private final int digestBatchSize;
+
+    public RoomContactProperties(@DefaultValue("30s") Duration dedupWindow,
+        @DefaultValue("5") int rateCapacity,
+        @DefaultValue("1m") Duration rateRefillInterval,
+        @DefaultValue("3") int digestThreshold,
+        @DefaultValue("1h") Duration digestWindow,
+        @DefaultValue("500") int digestBatchSize) {
+        this.dedupWindow = dedupWindow;
+        this.rateCapacity = rateCapacity;
+        this.rateRefillInterval = rateRefillInterval;
+        this.digestThreshold = digestThreshold;
+        this.digestWindow = digestWindow;
+        this.digestBatchSize = digestBatchSize;
+    }
+}
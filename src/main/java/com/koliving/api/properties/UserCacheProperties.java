@@ -0,0 +1,27 @@
+package com.koliving.api.properties;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.Duration;
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+@Getter
+@Validated
+@ConfigurationProperties(prefix = "user.cache")
+public class UserCacheProperties {
+
+    @Positive
+    private final long maximumSize;
+
+    @NotNull
+    private final Duration ttl;
+
+    public UserCacheProperties(@DefaultValue("10000") long maximumSize,
+        @DefaultValue("30s") Duration ttl) {
+        this.maximumSize = maximumSize;
+        this.ttl = ttl;
+    }
+}
@@ -0,0 +1,75 @@
+package com.koliving.api.room.application;
+
+import static com.koliving.api.base.ServiceError.TOO_MANY_CONTACT_REQUESTS;
+
+import com.koliving.api.base.exception.KolivingServiceException;
+import com.koliving.api.clock.IClock;
+import com.koliving.api.email.IEmailService;
+import com.koliving.api.properties.RoomContactProperties;
+import com.koliving.api.room.domain.Room;
+import com.koliving.api.room.infra.RoomContactAdmission;
+import com.koliving.api.room.infra.RoomContactLimiter;
+import com.koliving.api.user.domain.Notification;
+import com.koliving.api.user.domain.User;
+import com.koliving.api.user.infra.NotificationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * author : haedoang date : 2023/10/18 description : 방 연락 요청 처리.
+ * 같은 방에 대한 중복 연락은 하나로 합치고 회원별 요청 수를 제한한 뒤, 알림을 호스트의 알림 목록을 읽지 않고 바로 저장한다.
+ * 최근에 연락을 많이 받은 호스트에게는 연락마다 메일을 보내지 않고 다이제스트 메일로 묶어 보낸다.
+ */
+@Service
+@RequiredArgsConstructor
+public class RoomContactService {
+
+    private final RoomContactLimiter roomContactLimiter;
+    private final NotificationRepository notificationRepository;
+    private final IEmailService emailService;
+    private final RoomContactProperties properties;
+    private final IClock clock;
+
+    @Transactional
+    public void contact(Room room, User sender, String contactInfo, String message, String roomLink) {
+        final RoomContactAdmission admission = roomContactLimiter.admit(sender.getId(), room.getId());
+        if (admission == RoomContactAdmission.DUPLICATE) {
+            return;
+        }
+        if (admission == RoomContactAdmission.RATE_LIMITED) {
+            throw new KolivingServiceException(TOO_MANY_CONTACT_REQUESTS);
+        }
+        releaseOnRollback(sender.getId(), room.getId());
+
+        final User host = room.getUser();
+        final long recentContacts = notificationRepository.countByReceiverIdAndCreatedAtAfter(
+            host.getId(), clock.now().minus(properties.getDigestWindow())
+        );
+        notificationRepository.save(Notification.of(sender, host));
+
+        if (recentContacts < properties.getDigestThreshold()) {
+            emailService.sendRoomContact(host.getEmail(), contactInfo, message, sender, roomLink);
+            return;
+        }
+
+        emailService.holdRoomContact(host.getEmail(), contactInfo, message, sender, roomLink);
+    }
+
+    private void releaseOnRollback(Long senderId, Long roomId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    roomContactLimiter.release(senderId, roomId);
+                }
+            }
+        });
+    }
+}
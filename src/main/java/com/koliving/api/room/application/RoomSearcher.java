@@ -0,0 +1,17 @@
+package com.koliving.api.room.application;
+
+import com.koliving.api.room.application.dto.RoomSearchCondition;
+import com.koliving.api.room.application.dto.RoomSummary;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+/**
+ * author : haedoang date : 2023/10/07 description : 방 검색 엔진. room.search.engine 프로퍼티로 구현체를 선택한다.
+ */
+public interface RoomSearcher {
+
+    Page<RoomSummary> search(Pageable pageable, RoomSearchCondition condition);
+
+    Slice<RoomSummary> searchSlice(Pageable pageable, RoomSearchCondition condition);
+}
@@ -7,24 +7,31 @@ import static com.koliving.api.base.ServiceError.UNAUTHORIZED;
 import com.google.common.collect.Sets;
 import com.koliving.api.base.ServiceError;
 import com.koliving.api.base.exception.KolivingServiceException;
-import com.koliving.api.email.IEmailService;
+import com.koliving.api.catalog.application.CatalogService;
 import com.koliving.api.file.domain.ImageFile;
 import com.koliving.api.file.infra.ImageFileRepository;
+import com.koliving.api.location.application.dto.LocationResponse;
 import com.koliving.api.location.domain.Location;
 import com.koliving.api.location.infra.LocationRepository;
 import com.koliving.api.properties.FrontProperties;
 import com.koliving.api.room.application.dto.RoomContactRequest;
+import com.koliving.api.room.application.dto.RoomCursor;
+import com.koliving.api.room.application.dto.RoomCursorResponse;
+import com.koliving.api.room.application.dto.RoomCursorSort;
 import com.koliving.api.room.application.dto.RoomResponse;
 import com.koliving.api.room.application.dto.RoomSaveRequest;
 import com.koliving.api.room.application.dto.RoomSearchCondition;
+import com.koliving.api.room.application.dto.RoomSummary;
 import com.koliving.api.room.domain.Furnishing;
 import com.koliving.api.room.domain.Like;
 import com.koliving.api.room.domain.Room;
 import com.koliving.api.room.infra.RoomContactEvent;
+import com.koliving.api.room.infra.RoomDeletedEvent;
 import com.koliving.api.room.infra.FurnishingRepository;
 import com.koliving.api.room.infra.LikeRepository;
 import com.koliving.api.room.infra.RoomRepository;
-import com.koliving.api.user.domain.Notification;
+import com.koliving.api.room.infra.RoomSavedEvent;
+import com.koliving.api.room.infra.cache.RoomDetailCache;
 import com.koliving.api.user.domain.User;
 import com.koliving.api.user.infra.UserRepository;
 import java.util.Collections;
@@ -35,6 +42,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.CollectionUtils;
@@ -47,19 +55,22 @@ import org.springframework.util.CollectionUtils;
 @RequiredArgsConstructor
 public class RoomService {
 
+    private static final int MAX_CURSOR_SIZE = 100;
+
     private final FurnishingRepository furnishingRepository;
     private final LocationRepository locationRepository;
     private final RoomRepository roomRepository;
     private final ImageFileRepository imageFileRepository;
     private final LikeRepository likeRepository;
-    private final IEmailService emailService;
+    private final RoomContactService roomContactService;
     private final FrontProperties frontProperties;
+    private final RoomSearcher roomSearcher;
+    private final RoomDetailCache roomDetailCache;
+    private final CatalogService catalogService;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public List<RoomResponse> list() {
-        return roomRepository.findAllWithUser()
-            .stream()
-            .map(RoomResponse::valueOf)
-            .collect(Collectors.toList());
+    public List<RoomSummary> list() {
+        return roomRepository.summaries();
     }
 
     @Transactional
@@ -70,6 +81,7 @@ public class RoomService {
             getImageFiles(request.imageIds())
         ).by(user);
         final Room savedRoom = roomRepository.save(room);
+        eventPublisher.publishEvent(new RoomSavedEvent(savedRoom.getId()));
 
         return savedRoom.getId();
     }
@@ -88,38 +100,69 @@ public class RoomService {
             return Collections.emptySet();
         }
 
-        final List<Furnishing> furnishings = furnishingRepository.findAllById(furnishingIds);
-
-        if (furnishings.size() != furnishingIds.size()) {
+        if (!catalogService.current().containsFurnishings(furnishingIds)) {
             throw new KolivingServiceException(ServiceError.RECORD_NOT_EXIST);
         }
 
-        return Sets.newHashSet(furnishings);
+        return furnishingIds.stream()
+            .map(furnishingRepository::getReferenceById)
+            .collect(Collectors.toSet());
     }
 
     private Location getLocationById(Long locationId) {
-        final Location location = locationRepository.findById(locationId)
+        final LocationResponse location = catalogService.current()
+            .findLocation(locationId)
             .orElseThrow(() -> new KolivingServiceException(RECORD_NOT_EXIST));
 
-        if (location.getLocationType().isTopLocation()) {
+        if (location.locationType().isTopLocation()) {
             throw new KolivingServiceException(ServiceError.INVALID_LOCATION);
         }
 
-        return location;
+        return locationRepository.getReferenceById(locationId);
+    }
+
+    public Page<RoomSummary> search(Pageable pageable, RoomSearchCondition condition) {
+        return roomSearcher.search(pageable, expandLocations(condition));
+    }
+
+    public Slice<RoomSummary> searchSlice(Pageable pageable, RoomSearchCondition condition) {
+        return roomSearcher.searchSlice(pageable, expandLocations(condition));
+    }
+
+    public RoomCursorResponse searchByCursor(RoomSearchCondition condition, String cursor, RoomCursorSort sort, int size) {
+        return roomRepository.searchByCursor(expandLocations(condition), RoomCursor.decode(cursor, sort), cursorSize(size));
+    }
+
+    /**
+     * 방은 하위 지역(동)에만 등록되므로, 상위 지역(구) id 는 소속된 하위 지역 id 로 확장하여 검색한다.
+     */
+    private RoomSearchCondition expandLocations(RoomSearchCondition condition) {
+        if (CollectionUtils.isEmpty(condition.locationIds())) {
+            return condition;
+        }
+
+        return condition.withLocationIds(
+            catalogService.current().expandLocationIds(condition.locationIds())
+        );
     }
 
-    public Page<RoomResponse> search(Pageable pageable, RoomSearchCondition condition) {
-        return roomRepository.search(pageable, condition);
+    private int cursorSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_CURSOR_SIZE);
     }
 
     public RoomResponse findOne(Long id) {
-        return RoomResponse.valueOf(getRoom(id));
+        return roomDetailCache.get(id, roomId -> RoomResponse.valueOf(
+            getRoom(roomId),
+            roomRepository.findFurnishingIds(roomId),
+            catalogService.current()
+        ));
     }
 
     @Transactional
     public void deleteRoomById(Long id) {
         Room room = getRoom(id);
         room.delete();
+        eventPublisher.publishEvent(new RoomDeletedEvent(id));
     }
 
     @Transactional
@@ -130,6 +173,7 @@ public class RoomService {
         }
 
         room.delete();
+        eventPublisher.publishEvent(new RoomDeletedEvent(id));
     }
 
     @Transactional
@@ -145,8 +189,16 @@ public class RoomService {
         ;
     }
 
-    public Page<RoomResponse> findLikeRoomByUser(Pageable pageable, User user) {
-        return roomRepository.likedRooms(pageable, user.getId());
+    public Page<RoomSummary> findLikeRoomByUser(Pageable pageable, Long userId) {
+        return roomRepository.likedRooms(pageable, userId);
+    }
+
+    public Slice<RoomSummary> findLikeRoomSliceByUser(Pageable pageable, Long userId) {
+        return roomRepository.likedRoomsSlice(pageable, userId);
+    }
+
+    public RoomCursorResponse findLikeRoomByUser(String cursor, int size, Long userId) {
+        return roomRepository.likedRoomsByCursor(userId, RoomCursor.decode(cursor, RoomCursorSort.ID), cursorSize(size));
     }
 
     private Room getRoom(Long id) {
@@ -157,9 +209,7 @@ public class RoomService {
     @Transactional
     public void contact(RoomContactRequest request, User user) {
         final Room room = getRoom(request.roomId());
-        final Notification notification = Notification.of(user, room.getUser());
-        room.getUser().addReceivedNotification(notification);
-        emailService.sendRoomContact(room.getUser().getEmail(), request.contactInfo(), request.message(), user, getRoomDetailUrl(room.getId()));
+        roomContactService.contact(room, user, request.contactInfo(), request.message(), getRoomDetailUrl(room.getId()));
     }
 
     public String getRoomDetailUrl(Long roomId) {
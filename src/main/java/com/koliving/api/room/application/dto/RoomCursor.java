@@ -0,0 +1,92 @@
+package com.koliving.api.room.application.dto;
+
+import static com.koliving.api.base.ServiceError.INVALID_CURSOR;
+
+import com.koliving.api.base.exception.KolivingServiceException;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.Objects;
+import org.springframework.util.StringUtils;
+
+/**
+ * author : haedoang date : 2023/10/03 description : 마지막으로 조회한 방의 정렬 키(정렬 값 + id)를 담는 커서. 클라이언트에는 불투명한 문자열로 전달된다.
+ */
+public record RoomCursor(RoomCursorSort sort, String value, Long id) {
+
+    private static final String DELIMITER = "|";
+
+    public static RoomCursor first(RoomCursorSort sort) {
+        return new RoomCursor(sort, null, null);
+    }
+
+    public static RoomCursor next(RoomCursorSort sort, RoomSummary room) {
+        return switch (sort) {
+            case ID -> new RoomCursor(sort, "", room.id());
+            case MONTHLY_RENT -> new RoomCursor(sort, String.valueOf(room.monthlyRent()), room.id());
+            case AVAILABLE_DATE -> new RoomCursor(sort, room.availableDate().toString(), room.id());
+        };
+    }
+
+    public static RoomCursor decode(String token, RoomCursorSort sort) {
+        if (!StringUtils.hasText(token)) {
+            return first(sort);
+        }
+
+        final String[] parts = decodeParts(token);
+        if (parts.length != 3) {
+            throw new KolivingServiceException(INVALID_CURSOR);
+        }
+
+        try {
+            final RoomCursor cursor = new RoomCursor(RoomCursorSort.valueOf(parts[0]), parts[1], Long.valueOf(parts[2]));
+            cursor.validate();
+
+            if (cursor.sort != sort) {
+                throw new KolivingServiceException(INVALID_CURSOR);
+            }
+
+            return cursor;
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new KolivingServiceException(INVALID_CURSOR);
+        }
+    }
+
+    private static String[] decodeParts(String token) {
+        try {
+            return new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8)
+                .split("\\" + DELIMITER, -1);
+        } catch (IllegalArgumentException e) {
+            throw new KolivingServiceException(INVALID_CURSOR);
+        }
+    }
+
+    public String encode() {
+        final String raw = sort.name() + DELIMITER + value + DELIMITER + id;
+        return Base64.getUrlEncoder()
+            .withoutPadding()
+            .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public boolean isFirst() {
+        return Objects.isNull(id);
+    }
+
+    public Integer monthlyRent() {
+        return Integer.valueOf(value);
+    }
+
+    public LocalDate availableDate() {
+        return LocalDate.parse(value);
+    }
+
+    private void validate() {
+        switch (sort) {
+            case MONTHLY_RENT -> monthlyRent();
+            case AVAILABLE_DATE -> availableDate();
+            default -> {
+            }
+        }
+    }
+}
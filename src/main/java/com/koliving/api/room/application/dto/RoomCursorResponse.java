@@ -0,0 +1,18 @@
+package com.koliving.api.room.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+
+@Schema(description = "커서 기반 방 목록 응답")
+public record RoomCursorResponse(
+    @Schema(description = "방 목록")
+    List<RoomSummary> contents,
+
+    @Schema(description = "다음 페이지 조회용 커서. 마지막 페이지인 경우 null")
+    String nextCursor,
+
+    @Schema(description = "다음 페이지 존재 여부")
+    boolean hasNext
+) {
+
+}
@@ -0,0 +1,10 @@
+package com.koliving.api.room.application.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "커서 페이징 정렬 기준")
+public enum RoomCursorSort {
+    ID,
+    MONTHLY_RENT,
+    AVAILABLE_DATE
+}
@@ -1,8 +1,8 @@
 package com.koliving.api.room.application.dto;
 
+import com.koliving.api.catalog.application.CatalogSnapshot;
 import com.koliving.api.file.domain.ImageFile;
 import com.koliving.api.location.application.dto.LocationResponse;
-import com.koliving.api.room.domain.Furnishing;
 import com.koliving.api.room.domain.Maintenance;
 import com.koliving.api.room.domain.Money;
 import com.koliving.api.room.domain.Room;
@@ -10,6 +10,8 @@ import com.koliving.api.room.domain.info.RoomInfo;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 /**
@@ -37,7 +39,7 @@ public record RoomResponse(
     RoomInfo roomInfo,
 
     @Schema(description = "방 가구 정보")
-    Set<Furnishing> furnishings,
+    List<FurnishingResponse> furnishings,
 
     @Schema(description = "방문 가능 일자")
     LocalDate availableDate,
@@ -52,15 +54,23 @@ public record RoomResponse(
     Set<ImageFile> images
 ) {
 
-    public static RoomResponse valueOf(Room entity) {
+    /**
+     * 지역과 가구는 엔티티 연관을 따라가지 않고 스냅샷에서 id 로 찾는다. 가구 id 는 조인 테이블에서 따로 조회해 넘긴다.
+     * 스냅샷에 아직 없는 지역(다른 노드에서 방금 추가된 경우)만 엔티티로 변환하고, 스냅샷에 없는 가구는 삭제된 가구이므로 제외한다.
+     */
+    public static RoomResponse valueOf(Room entity, List<Long> furnishingIds, CatalogSnapshot catalog) {
         return new RoomResponse(
             entity.getId(),
-            LocationResponse.valueOf(entity.getLocation()),
+            catalog.findLocation(entity.getLocation().getId())
+                .orElseGet(() -> LocationResponse.valueOf(entity.getLocation())),
             entity.getDeposit(),
             entity.getMonthlyRent(),
             entity.getMaintenance(),
             entity.getRoomInfo(),
-            entity.getFurnishings(),
+            furnishingIds.stream()
+                .map(catalog::findFurnishing)
+                .flatMap(Optional::stream)
+                .toList(),
             entity.getAvailableDate(),
             entity.getDescription(),
             WriterResponse.of(entity.getUser()),
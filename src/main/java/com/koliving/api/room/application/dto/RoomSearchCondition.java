@@ -32,4 +32,8 @@ public record RoomSearchCondition(
     List<Long> furnishingTypes
 ) {
 
+    public RoomSearchCondition withLocationIds(List<Long> locationIds) {
+        return new RoomSearchCondition(locationIds, minDeposit, maxDeposit, minMonthlyRent, maxMonthlyRent,
+            availableDate, types, furnishingTypes);
+    }
 }
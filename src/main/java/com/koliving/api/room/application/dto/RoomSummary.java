@@ -0,0 +1,40 @@
+package com.koliving.api.room.application.dto;
+
+import com.koliving.api.room.domain.RoomType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDate;
+
+/**
+ * author : haedoang date : 2023/10/05 description : 목록 화면용 방 요약 정보. 필요한 컬럼만 projection 으로 조회한다.
+ */
+@Schema(description = "방 목록 정보")
+public record RoomSummary(
+    @Schema(description = "방 고유 키")
+    Long id,
+
+    @Schema(description = "지역 이름")
+    String locationName,
+
+    @Schema(description = "보증금")
+    Integer deposit,
+
+    @Schema(description = "월세")
+    Integer monthlyRent,
+
+    @Schema(description = "룸 타입")
+    RoomType roomType,
+
+    @Schema(description = "입주 가능 일자")
+    LocalDate availableDate,
+
+    @Schema(description = "대표 이미지 경로")
+    String thumbnail,
+
+    @Schema(description = "작성자 이름")
+    String writerFirstName,
+
+    @Schema(description = "작성자 성")
+    String writerLastName
+) {
+
+}
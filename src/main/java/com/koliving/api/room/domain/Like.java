@@ -9,8 +9,10 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -22,6 +24,7 @@ import org.hibernate.annotations.Where;
  */
 @Getter
 @Entity(name = "TB_ROOM_LIKE")
+@Table(indexes = @Index(name = "idx_room_like_user", columnList = "user_id, deleted, room_id"))
 @SQLDelete(sql = "UPDATE TB_ROOM_LIKE SET deleted = true WHERE id = ?")
 @Where(clause = "deleted = false")
 @EqualsAndHashCode(of = "id", callSuper = false)
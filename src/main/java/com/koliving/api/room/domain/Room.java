@@ -12,11 +12,13 @@ import jakarta.persistence.Embedded;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.Lob;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.Table;
 import jakarta.persistence.Transient;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -36,6 +38,13 @@ import static lombok.AccessLevel.PROTECTED;
 
 @Getter
 @Entity(name = "TB_ROOM")
+@Table(indexes = {
+    @Index(name = "idx_room_location_rent", columnList = "location_id, deleted, monthly_rent"),
+    @Index(name = "idx_room_rent", columnList = "deleted, monthly_rent, id"),
+    @Index(name = "idx_room_available_date", columnList = "deleted, available_date, id"),
+    @Index(name = "idx_room_deposit", columnList = "deleted, deposit"),
+    @Index(name = "idx_room_type_location", columnList = "room_type, deleted, location_id")
+})
 @SQLDelete(sql = "UPDATE TB_ROOM SET deleted = true WHERE id = ?")
 @Where(clause = "deleted = false")
 @EqualsAndHashCode(of = "id", callSuper = false)
@@ -78,7 +87,8 @@ public class Room extends BaseEntity {
     @JoinTable(
         name = "TB_ROOM_FURNISHINGS",
         joinColumns = @JoinColumn(name = "room_id"),
-        inverseJoinColumns = @JoinColumn(name = "furnishing_id")
+        inverseJoinColumns = @JoinColumn(name = "furnishing_id"),
+        indexes = @Index(name = "idx_room_furnishings_furnishing", columnList = "furnishing_id, room_id")
     )
     private Set<Furnishing> furnishings = new HashSet<>();
 
@@ -0,0 +1,9 @@
+package com.koliving.api.room.infra;
+
+public enum RoomContactAdmission {
+    ACCEPTED,
+    // 같은 방에 대한 연락이 중복 제거 시간 안에 이미 접수되었다
+    DUPLICATE,
+    // 회원의 토큰 버킷이 비었다
+    RATE_LIMITED
+}
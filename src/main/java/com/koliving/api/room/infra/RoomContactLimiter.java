@@ -0,0 +1,104 @@
+package com.koliving.api.room.infra;
+
+import com.koliving.api.properties.RoomContactProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.redisson.api.RScript;
+import org.redisson.api.RScript.Mode;
+import org.redisson.api.RScript.ReturnType;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Repository;
+
+/**
+ * author : haedoang date : 2023/10/18 description : 방 연락 요청의 중복 제거와 회원별 요청 수 제한.
+ * CONTACT:{senderId}:room:{roomId} 중복 제거 키. dedupWindow 동안 같은 방에 대한 연락을 하나로 합친다
+ * CONTACT:{senderId}:bucket        회원별 토큰 버킷(tokens, ts). rateRefillInterval 마다 토큰 하나가 채워진다
+ * 두 키는 {senderId} 해시 태그로 같은 슬롯에 두고, 확인과 차감은 Lua 스크립트 한 번으로 원자적으로 처리한다.
+ * 중복 요청은 토큰을 쓰지 않고, 시각은 노드 간 시계 차이가 없도록 Redis 서버 시각을 쓴다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RoomContactLimiter {
+
+    private static final String KEY_PREFIX = "CONTACT:";
+
+    private static final String ADMIT_SCRIPT = """
+        if redis.call('EXISTS', KEYS[1]) == 1 then
+            return 0
+        end
+        local time = redis.call('TIME')
+        local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+        local capacity = tonumber(ARGV[2])
+        local interval = tonumber(ARGV[3])
+        local bucket = redis.call('HMGET', KEYS[2], 'tokens', 'ts')
+        local tokens = tonumber(bucket[1]) or capacity
+        local ts = tonumber(bucket[2]) or now
+        tokens = math.min(capacity, tokens + (now - ts) / interval)
+        local admitted = tokens >= 1
+        if admitted then
+            tokens = tokens - 1
+        end
+        redis.call('HSET', KEYS[2], 'tokens', tostring(tokens), 'ts', tostring(now))
+        redis.call('PEXPIRE', KEYS[2], capacity * interval)
+        if not admitted then
+            return -1
+        end
+        redis.call('SET', KEYS[1], '1', 'PX', ARGV[1])
+        return 1
+        """;
+
+    private final RedissonClient redissonClient;
+    private final RoomContactProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public RoomContactAdmission admit(Long senderId, Long roomId) {
+        final Long result = script().eval(
+            bucketKey(senderId),
+            Mode.READ_WRITE,
+            ADMIT_SCRIPT,
+            ReturnType.INTEGER,
+            List.<Object>of(dedupKey(senderId, roomId), bucketKey(senderId)),
+            String.valueOf(properties.getDedupWindow().toMillis()),
+            String.valueOf(properties.getRateCapacity()),
+            String.valueOf(properties.getRateRefillInterval().toMillis())
+        );
+
+        final RoomContactAdmission admission = admission(result);
+        Counter.builder("room.contact.requests")
+            .tag("result", admission.name().toLowerCase())
+            .register(meterRegistry)
+            .increment();
+
+        return admission;
+    }
+
+    /**
+     * 접수한 연락의 트랜잭션이 롤백되면 중복 제거 키를 지워 다시 보낼 수 있게 한다. 쓴 토큰은 돌려주지 않는다.
+     */
+    public void release(Long senderId, Long roomId) {
+        redissonClient.getBucket(dedupKey(senderId, roomId), StringCodec.INSTANCE).delete();
+    }
+
+    private RScript script() {
+        return redissonClient.getScript(StringCodec.INSTANCE);
+    }
+
+    private static RoomContactAdmission admission(Long result) {
+        if (result == 1L) {
+            return RoomContactAdmission.ACCEPTED;
+        }
+
+        return result == 0L ? RoomContactAdmission.DUPLICATE : RoomContactAdmission.RATE_LIMITED;
+    }
+
+    private static String dedupKey(Long senderId, Long roomId) {
+        return KEY_PREFIX + "{" + senderId + "}:room:" + roomId;
+    }
+
+    private static String bucketKey(Long senderId) {
+        return KEY_PREFIX + "{" + senderId + "}:bucket";
+    }
+}
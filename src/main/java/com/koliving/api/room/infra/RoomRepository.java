@@ -16,4 +16,10 @@ public interface RoomRepository extends JpaRepository<Room, Long>, RoomRepositor
     @Query("select r from TB_ROOM r join fetch r.user u where r.id=:id")
     Optional<Room> findByIdWithUser(@Param("id") Long id);
 
+    @Query("select r.id from TB_ROOM r where r.user.id=:userId")
+    List<Long> findIdsByUserId(@Param("userId") Long userId);
+
+    @Query(value = "select furnishing_id from TB_ROOM_FURNISHINGS where room_id=:roomId order by furnishing_id", nativeQuery = true)
+    List<Long> findFurnishingIds(@Param("roomId") Long roomId);
+
 }
@@ -1,63 +1,295 @@
 package com.koliving.api.room.infra;
 
+import static com.koliving.api.location.domain.QLocation.location;
+import static com.koliving.api.room.domain.QFurnishing.furnishing;
 import static com.koliving.api.room.domain.QLike.like;
 import static com.koliving.api.room.domain.QRoom.room;
+import static com.koliving.api.user.domain.QUser.user;
 
-import com.koliving.api.room.application.dto.RoomResponse;
+import com.koliving.api.file.domain.QImageFile;
+import com.koliving.api.room.application.dto.RoomCursor;
+import com.koliving.api.room.application.dto.RoomCursorResponse;
+import com.koliving.api.room.application.dto.RoomCursorSort;
 import com.koliving.api.room.application.dto.RoomSearchCondition;
-import com.koliving.api.room.domain.Room;
+import com.koliving.api.room.application.dto.RoomSummary;
+import com.koliving.api.room.domain.QRoom;
 import com.koliving.api.room.domain.RoomType;
+import com.koliving.api.room.infra.search.RoomIndexEntry;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.JPQLQuery;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import java.time.LocalDate;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.util.CollectionUtils;
 
 @RequiredArgsConstructor
 public class RoomRepositoryImpl implements RoomRepositoryQueryDsl {
 
+    private static final QImageFile thumbnail = new QImageFile("thumbnail");
+
     private final JPAQueryFactory queryFactory;
 
     @Override
-    public Page<RoomResponse> search(Pageable pageable, RoomSearchCondition condition) {
-        List<Room> rooms = queryFactory.selectFrom(room)
-            .where(
-                filterByLocationIds(condition.locationIds()),
-                filterByDeposit(condition.minDeposit(), condition.maxDeposit()),
-                filterByMonthlyRent(condition.minMonthlyRent(), condition.maxMonthlyRent()),
-                filterByAvailableDate(condition.availableDate()),
-                filterByTypes(condition.types()),
-                filterByFurnishings(condition.furnishingTypes())
+    public List<RoomSummary> summaries() {
+        return selectSummary()
+            .orderBy(room.id.asc())
+            .fetch();
+    }
+
+    @Override
+    public List<RoomSummary> summariesByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<Long, RoomSummary> rooms = selectSummary()
+            .where(room.id.in(ids))
+            .fetch()
+            .stream()
+            .collect(Collectors.toMap(RoomSummary::id, Function.identity()));
+
+        return ids.stream()
+            .map(rooms::get)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<RoomIndexEntry> indexEntries() {
+        return indexEntries((Predicate) null);
+    }
+
+    @Override
+    public List<RoomIndexEntry> indexEntries(List<Long> ids) {
+        return indexEntries(room.id.in(ids));
+    }
+
+    private List<RoomIndexEntry> indexEntries(Predicate predicate) {
+        Map<Long, Set<Long>> furnishingIds = queryFactory.select(room.id, furnishing.id)
+            .from(room)
+            .join(room.furnishings, furnishing)
+            .where(predicate)
+            .fetch()
+            .stream()
+            .collect(Collectors.groupingBy(
+                tuple -> tuple.get(room.id),
+                Collectors.mapping(tuple -> tuple.get(furnishing.id), Collectors.toSet())
+            ));
+
+        return queryFactory.select(
+                room.id,
+                room.location.id,
+                room.roomInfo.roomType,
+                room.deposit.amount,
+                room.monthlyRent.amount,
+                room.availableDate
             )
+            .from(room)
+            .where(predicate)
+            .fetch()
+            .stream()
+            .map(tuple -> new RoomIndexEntry(
+                tuple.get(room.id),
+                tuple.get(room.location.id),
+                tuple.get(room.roomInfo.roomType),
+                furnishingIds.getOrDefault(tuple.get(room.id), Collections.emptySet()),
+                tuple.get(room.deposit.amount),
+                tuple.get(room.monthlyRent.amount),
+                tuple.get(room.availableDate)
+            ))
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public Page<RoomSummary> search(Pageable pageable, RoomSearchCondition condition) {
+        List<RoomSummary> rooms = selectSummary()
+            .where(searchFilters(condition))
+            .orderBy(room.id.asc())
             .offset(pageable.getOffset())
             .limit(pageable.getPageSize())
             .fetch();
 
-        long count = queryFactory.selectFrom(room)
-            .where(
-                filterByLocationIds(condition.locationIds()),
-                filterByDeposit(condition.minDeposit(), condition.maxDeposit()),
-                filterByMonthlyRent(condition.minMonthlyRent(), condition.maxMonthlyRent()),
-                filterByAvailableDate(condition.availableDate()),
-                filterByTypes(condition.types()),
-                filterByFurnishings(condition.furnishingTypes())
-            )
-            .fetch()
-            .size();
+        JPAQuery<Long> countQuery = queryFactory.select(room.id.countDistinct())
+            .from(room)
+            .where(searchFilters(condition));
+
+        return PageableExecutionUtils.getPage(rooms, pageable, countQuery::fetchOne);
+    }
+
+    @Override
+    public Slice<RoomSummary> searchSlice(Pageable pageable, RoomSearchCondition condition) {
+        List<RoomSummary> rooms = selectSummary()
+            .where(searchFilters(condition))
+            .orderBy(room.id.asc())
+            .offset(pageable.getOffset())
+            .limit(pageable.getPageSize() + 1L)
+            .fetch();
+
+        return toSlice(pageable, rooms);
+    }
 
-        return getRoomResponses(pageable, rooms, count);
+    @Override
+    public RoomCursorResponse searchByCursor(RoomSearchCondition condition, RoomCursor cursor, int size) {
+        List<RoomSummary> rooms = selectSummary()
+            .where(searchFilters(condition))
+            .where(seekAfter(cursor))
+            .orderBy(cursorOrders(cursor.sort()))
+            .limit(size + 1L)
+            .fetch();
+
+        return toCursorResponse(cursor, rooms, size);
     }
 
-    private Page<RoomResponse> getRoomResponses(Pageable pageable, List<Room> rooms, long count) {
-        return PageableExecutionUtils.getPage(rooms.stream()
-            .map(RoomResponse::valueOf)
-            .collect(Collectors.toList()), pageable, () -> count);
+    @Override
+    public Page<RoomSummary> likedRooms(Pageable pageable, Long userId) {
+        List<RoomSummary> rooms = selectSummary()
+            .where(likedBy(userId))
+            .orderBy(room.id.asc())
+            .offset(pageable.getOffset())
+            .limit(pageable.getPageSize())
+            .fetch();
+
+        JPAQuery<Long> countQuery = queryFactory.select(room.id.countDistinct())
+            .from(like)
+            .join(like.room, room)
+            .where(like.user.id.eq(userId));
+
+        return PageableExecutionUtils.getPage(rooms, pageable, countQuery::fetchOne);
+    }
+
+    @Override
+    public Slice<RoomSummary> likedRoomsSlice(Pageable pageable, Long userId) {
+        List<RoomSummary> rooms = selectSummary()
+            .where(likedBy(userId))
+            .orderBy(room.id.asc())
+            .offset(pageable.getOffset())
+            .limit(pageable.getPageSize() + 1L)
+            .fetch();
+
+        return toSlice(pageable, rooms);
+    }
+
+    @Override
+    public RoomCursorResponse likedRoomsByCursor(Long userId, RoomCursor cursor, int size) {
+        List<RoomSummary> rooms = selectSummary()
+            .where(likedBy(userId))
+            .where(seekAfter(cursor))
+            .orderBy(cursorOrders(cursor.sort()))
+            .limit(size + 1L)
+            .fetch();
+
+        return toCursorResponse(cursor, rooms, size);
+    }
+
+    private BooleanExpression seekAfter(RoomCursor cursor) {
+        if (cursor.isFirst()) {
+            return null;
+        }
+
+        return switch (cursor.sort()) {
+            case ID -> room.id.gt(cursor.id());
+            case MONTHLY_RENT -> room.monthlyRent.amount.gt(cursor.monthlyRent())
+                .or(room.monthlyRent.amount.eq(cursor.monthlyRent()).and(room.id.gt(cursor.id())));
+            case AVAILABLE_DATE -> room.availableDate.gt(cursor.availableDate())
+                .or(room.availableDate.eq(cursor.availableDate()).and(room.id.gt(cursor.id())));
+        };
+    }
+
+    private OrderSpecifier<?>[] cursorOrders(RoomCursorSort sort) {
+        return switch (sort) {
+            case ID -> new OrderSpecifier<?>[]{room.id.asc()};
+            case MONTHLY_RENT -> new OrderSpecifier<?>[]{room.monthlyRent.amount.asc(), room.id.asc()};
+            case AVAILABLE_DATE -> new OrderSpecifier<?>[]{room.availableDate.asc(), room.id.asc()};
+        };
+    }
+
+    /**
+     * 목록에 필요한 컬럼만 조회한다. 대표 이미지는 방 이미지 중 id 가 가장 작은 이미지의 경로이다.
+     * 엔티티를 로딩하지 않으므로 id 를 먼저 조회한 뒤 엔티티를 채우는 2단계 조회 없이, 필터/정렬/limit 을 적용한 한 번의 쿼리로 페이지를 만든다.
+     */
+    private JPAQuery<RoomSummary> selectSummary() {
+        return queryFactory.select(Projections.constructor(RoomSummary.class,
+                room.id,
+                location.name,
+                room.deposit.amount,
+                room.monthlyRent.amount,
+                room.roomInfo.roomType,
+                room.availableDate,
+                thumbnail.path,
+                user.firstName,
+                user.lastName
+            ))
+            .from(room)
+            .join(room.location, location)
+            .join(room.user, user)
+            .leftJoin(room.imageFiles, thumbnail).on(thumbnail.id.eq(firstImageId()));
+    }
+
+    private JPQLQuery<Long> firstImageId() {
+        QRoom imageRoom = new QRoom("imageRoom");
+        QImageFile image = new QImageFile("image");
+
+        return JPAExpressions.select(image.id.min())
+            .from(imageRoom)
+            .join(imageRoom.imageFiles, image)
+            .where(imageRoom.id.eq(room.id));
+    }
+
+    private BooleanExpression likedBy(Long userId) {
+        return room.id.in(
+            JPAExpressions.select(like.room.id)
+                .from(like)
+                .where(like.user.id.eq(userId))
+        );
+    }
+
+    private Predicate[] searchFilters(RoomSearchCondition condition) {
+        return new Predicate[]{
+            filterByLocationIds(condition.locationIds()),
+            filterByDeposit(condition.minDeposit(), condition.maxDeposit()),
+            filterByMonthlyRent(condition.minMonthlyRent(), condition.maxMonthlyRent()),
+            filterByAvailableDate(condition.availableDate()),
+            filterByTypes(condition.types()),
+            filterByFurnishings(condition.furnishingTypes())
+        };
+    }
+
+    /**
+     * pageSize + 1 건을 조회한 결과로 다음 페이지 존재 여부를 판단한다. count 쿼리를 실행하지 않는다.
+     */
+    private Slice<RoomSummary> toSlice(Pageable pageable, List<RoomSummary> rooms) {
+        boolean hasNext = rooms.size() > pageable.getPageSize();
+        List<RoomSummary> content = hasNext ? rooms.subList(0, pageable.getPageSize()) : rooms;
+
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    /**
+     * size + 1 건을 조회한 결과로 다음 페이지 존재 여부를 판단하고, 마지막 방의 정렬 키로 다음 커서를 만든다.
+     */
+    private RoomCursorResponse toCursorResponse(RoomCursor cursor, List<RoomSummary> rooms, int size) {
+        boolean hasNext = rooms.size() > size;
+        List<RoomSummary> content = hasNext ? rooms.subList(0, size) : rooms;
+        String nextCursor = hasNext ? RoomCursor.next(cursor.sort(), content.get(size - 1)).encode() : null;
+
+        return new RoomCursorResponse(content, nextCursor, hasNext);
     }
 
     private BooleanExpression filterByFurnishings(List<Long> furnishingTypes) {
@@ -113,31 +345,13 @@ public class RoomRepositoryImpl implements RoomRepositoryQueryDsl {
 
     private BooleanExpression filterByMonthlyRent(Integer minMonthlyRent, Integer maxMonthlyRent) {
         if (Objects.nonNull(minMonthlyRent) && Objects.nonNull(maxMonthlyRent)) {
-            return room.deposit.amount.between(minMonthlyRent, maxMonthlyRent);
+            return room.monthlyRent.amount.between(minMonthlyRent, maxMonthlyRent);
         } else if (Objects.nonNull(minMonthlyRent)) {
-            return room.deposit.amount.goe(minMonthlyRent);
+            return room.monthlyRent.amount.goe(minMonthlyRent);
         } else if (Objects.nonNull(maxMonthlyRent)) {
-            return room.deposit.amount.loe(maxMonthlyRent);
+            return room.monthlyRent.amount.loe(maxMonthlyRent);
         }
 
         return null;
     }
-
-    @Override
-    public Page<RoomResponse> likedRooms(Pageable pageable, Long userId) {
-        List<Room> rooms = queryFactory.select(like.room)
-            .from(like)
-            .where(like.user.id.eq(userId))
-            .offset(pageable.getOffset())
-            .limit(pageable.getPageSize())
-            .fetch();
-
-        long count = queryFactory.select(like.room)
-            .from(like)
-            .where(like.user.id.eq(userId))
-            .fetch()
-            .size();
-
-        return getRoomResponses(pageable, rooms, count);
-    }
 }
@@ -1,13 +1,34 @@
 package com.koliving.api.room.infra;
 
-import com.koliving.api.room.application.dto.RoomResponse;
+import com.koliving.api.room.application.dto.RoomCursor;
+import com.koliving.api.room.application.dto.RoomCursorResponse;
 import com.koliving.api.room.application.dto.RoomSearchCondition;
+import com.koliving.api.room.application.dto.RoomSummary;
+import com.koliving.api.room.infra.search.RoomIndexEntry;
+import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 public interface RoomRepositoryQueryDsl {
 
-    Page<RoomResponse> search(Pageable pageable, RoomSearchCondition condition);
+    List<RoomSummary> summaries();
 
-    Page<RoomResponse> likedRooms(Pageable pageable, Long userId);
+    List<RoomSummary> summariesByIds(List<Long> ids);
+
+    List<RoomIndexEntry> indexEntries();
+
+    List<RoomIndexEntry> indexEntries(List<Long> ids);
+
+    Page<RoomSummary> search(Pageable pageable, RoomSearchCondition condition);
+
+    Slice<RoomSummary> searchSlice(Pageable pageable, RoomSearchCondition condition);
+
+    RoomCursorResponse searchByCursor(RoomSearchCondition condition, RoomCursor cursor, int size);
+
+    Page<RoomSummary> likedRooms(Pageable pageable, Long userId);
+
+    Slice<RoomSummary> likedRoomsSlice(Pageable pageable, Long userId);
+
+    RoomCursorResponse likedRoomsByCursor(Long userId, RoomCursor cursor, int size);
 }
@@ -0,0 +1,14 @@
+package com.koliving.api.room.infra;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * author : haedoang date : 2023/10/07 description : 방 등록/수정 커밋 이후 발행되는 이벤트
+ */
+@Getter
+@AllArgsConstructor
+public class RoomSavedEvent {
+
+    private final Long roomId;
+}
@@ -0,0 +1,180 @@
+package com.koliving.api.room.infra.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.koliving.api.catalog.infra.CatalogChangedEvent;
+import com.koliving.api.properties.RoomCacheProperties;
+import com.koliving.api.room.application.dto.RoomResponse;
+import com.koliving.api.room.infra.RoomDeletedEvent;
+import com.koliving.api.room.infra.RoomRepository;
+import com.koliving.api.room.infra.RoomSavedEvent;
+import com.koliving.api.user.infra.UserProfileUpdatedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBucket;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.RedisException;
+import org.redisson.client.codec.LongCodec;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * author : haedoang date : 2023/10/08 description : 방 상세 조회 2단계 캐시. 로컬(Guava) -> Redis -> DB 순으로 조회한다.
+ * 무효화는 Redis 키 삭제 후 토픽으로 전파하여 다른 인스턴스의 로컬 캐시도 비운다.
+ * 상세 정보에 지역/가구 정보가 함께 들어 있으므로 카탈로그가 바뀌면 방 구분 없이 전체를 비운다.
+ */
+@Slf4j
+@Component
+public class RoomDetailCache {
+
+    private static final String KEY_PREFIX = "ROOM:DETAIL:";
+    private static final String INVALIDATION_TOPIC = "ROOM:DETAIL:INVALIDATION";
+    private static final String CLEAR_TOPIC = "ROOM:DETAIL:CLEAR";
+
+    private final RedissonClient redissonClient;
+    private final RoomRepository roomRepository;
+    private final ObjectMapper objectMapper;
+    private final RoomCacheProperties properties;
+    private final Cache<Long, RoomResponse> localCache;
+    private final Counter redisHits;
+    private final Counter redisMisses;
+    private final Counter redisErrors;
+
+    public RoomDetailCache(RedissonClient redissonClient, RoomRepository roomRepository, ObjectMapper objectMapper,
+        RoomCacheProperties properties, MeterRegistry meterRegistry) {
+        this.redissonClient = redissonClient;
+        this.roomRepository = roomRepository;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.localCache = CacheBuilder.newBuilder()
+            .maximumSize(properties.getLocalMaximumSize())
+            .expireAfterWrite(properties.getLocalTtl())
+            .recordStats()
+            .build();
+        this.redisHits = redisCounter(meterRegistry, "hit");
+        this.redisMisses = redisCounter(meterRegistry, "miss");
+        this.redisErrors = redisCounter(meterRegistry, "error");
+
+        GuavaCacheMetrics.monitor(meterRegistry, localCache, "room.detail.local");
+    }
+
+    private static Counter redisCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("room.detail.redis")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void subscribe() {
+        invalidationTopic().addListener(Long.class, (channel, roomId) -> localCache.invalidate(roomId));
+        clearTopic().addListener(String.class, (channel, source) -> localCache.invalidateAll());
+    }
+
+    public RoomResponse get(Long roomId, Function<Long, RoomResponse> loader) {
+        final RoomResponse cached = localCache.getIfPresent(roomId);
+        if (Objects.nonNull(cached)) {
+            return cached;
+        }
+
+        RoomResponse response = readRedis(roomId);
+        if (Objects.isNull(response)) {
+            response = loader.apply(roomId);
+            writeRedis(roomId, response);
+        }
+
+        localCache.put(roomId, response);
+        return response;
+    }
+
+    public void evict(Long roomId) {
+        localCache.invalidate(roomId);
+        try {
+            bucket(roomId).delete();
+            invalidationTopic().publish(roomId);
+        } catch (RedisException e) {
+            redisErrors.increment();
+            log.warn("room detail cache eviction failed. roomId={}", roomId, e);
+        }
+    }
+
+    public void clear(String source) {
+        localCache.invalidateAll();
+        try {
+            redissonClient.getKeys().deleteByPattern(KEY_PREFIX + "*");
+            clearTopic().publish(source);
+        } catch (RedisException e) {
+            redisErrors.increment();
+            log.warn("room detail cache clear failed. source={}", source, e);
+        }
+    }
+
+    @TransactionalEventListener(classes = RoomSavedEvent.class, phase = TransactionPhase.AFTER_COMMIT)
+    public void onRoomSaved(RoomSavedEvent event) {
+        evict(event.getRoomId());
+    }
+
+    @TransactionalEventListener(classes = RoomDeletedEvent.class, phase = TransactionPhase.AFTER_COMMIT)
+    public void onRoomDeleted(RoomDeletedEvent event) {
+        evict(event.getRoomId());
+    }
+
+    @TransactionalEventListener(classes = UserProfileUpdatedEvent.class, phase = TransactionPhase.AFTER_COMMIT)
+    public void onUserProfileUpdated(UserProfileUpdatedEvent event) {
+        roomRepository.findIdsByUserId(event.getUserId())
+            .forEach(this::evict);
+    }
+
+    @TransactionalEventListener(classes = CatalogChangedEvent.class, phase = TransactionPhase.AFTER_COMMIT)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        clear(event.getSource());
+    }
+
+    private RoomResponse readRedis(Long roomId) {
+        try {
+            final String json = bucket(roomId).get();
+            if (Objects.isNull(json)) {
+                redisMisses.increment();
+                return null;
+            }
+
+            redisHits.increment();
+            return objectMapper.readValue(json, RoomResponse.class);
+        } catch (RedisException | JsonProcessingException e) {
+            redisErrors.increment();
+            log.warn("room detail cache read failed. roomId={}", roomId, e);
+            return null;
+        }
+    }
+
+    private void writeRedis(Long roomId, RoomResponse response) {
+        try {
+            bucket(roomId).set(objectMapper.writeValueAsString(response), properties.getRedisTtl().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (RedisException | JsonProcessingException e) {
+            redisErrors.increment();
+            log.warn("room detail cache write failed. roomId={}", roomId, e);
+        }
+    }
+
+    private RBucket<String> bucket(Long roomId) {
+        return redissonClient.getBucket(KEY_PREFIX + roomId, StringCodec.INSTANCE);
+    }
+
+    private RTopic invalidationTopic() {
+        return redissonClient.getTopic(INVALIDATION_TOPIC, LongCodec.INSTANCE);
+    }
+
+    private RTopic clearTopic() {
+        return redissonClient.getTopic(CLEAR_TOPIC, StringCodec.INSTANCE);
+    }
+}
@@ -0,0 +1,33 @@
+package com.koliving.api.room.infra.search;
+
+import com.koliving.api.room.application.RoomSearcher;
+import com.koliving.api.room.application.dto.RoomSearchCondition;
+import com.koliving.api.room.application.dto.RoomSummary;
+import com.koliving.api.room.infra.RoomRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+/**
+ * author : haedoang date : 2023/10/07 description : QueryDSL 로 DB 에서 직접 검색한다. 기본 검색 엔진
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "room.search", name = "engine", havingValue = "database", matchIfMissing = true)
+public class DatabaseRoomSearcher implements RoomSearcher {
+
+    private final RoomRepository roomRepository;
+
+    @Override
+    public Page<RoomSummary> search(Pageable pageable, RoomSearchCondition condition) {
+        return roomRepository.search(pageable, condition);
+    }
+
+    @Override
+    public Slice<RoomSummary> searchSlice(Pageable pageable, RoomSearchCondition condition) {
+        return roomRepository.searchSlice(pageable, condition);
+    }
+}
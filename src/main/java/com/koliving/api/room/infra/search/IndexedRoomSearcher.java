@@ -0,0 +1,175 @@
+package com.koliving.api.room.infra.search;
+
+import com.koliving.api.room.application.RoomSearcher;
+import com.koliving.api.room.application.dto.RoomSearchCondition;
+import com.koliving.api.room.application.dto.RoomSummary;
+import com.koliving.api.room.infra.RoomDeletedEvent;
+import com.koliving.api.room.infra.RoomRepository;
+import com.koliving.api.room.infra.RoomSavedEvent;
+import jakarta.annotation.PostConstruct;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.RedisException;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * author : haedoang date : 2023/10/07 description : 인메모리 역색인으로 방 id 를 찾고, 목록 정보는 리파지토리에서 id 로 조회한다.
+ * 방 등록/삭제 이벤트로 항목을 갱신하고, 인덱스는 다음 검색 시점에 다시 만든다.
+ * 항목이 바뀔 때마다 버전을 올리고, 인덱스는 만들기 전에 읽은 버전과 함께 잠금 안에서 게시하므로 오래된 인덱스가 새 인덱스를 덮어쓰지 않는다.
+ * 이 노드에서 바뀐 방 id 는 Redis 토픽으로 다른 노드에 전파하고, 받은 노드는 해당 방의 항목을 다시 읽는다.
+ * 토픽 연결이 끊긴 동안 놓친 변경은 rebuild-interval(기본 10분)마다 전체 항목을 다시 읽어 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "room.search", name = "engine", havingValue = "index")
+public class IndexedRoomSearcher implements RoomSearcher {
+
+    private static final String CHANGED_TOPIC = "ROOM:INDEX:CHANGED";
+    private static final String MESSAGE_DELIMITER = ":";
+
+    private final RoomRepository roomRepository;
+    private final RedissonClient redissonClient;
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final Map<Long, RoomIndexEntry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
+    private final Object rebuildLock = new Object();
+    private volatile BuiltIndex built = new BuiltIndex(-1L, RoomSearchIndex.of(Collections.emptyList()));
+
+    @PostConstruct
+    void subscribe() {
+        changedTopic().addListener(String.class, (channel, message) -> {
+            final String[] source = message.split(MESSAGE_DELIMITER);
+            if (!instanceId.equals(source[0])) {
+                // Redisson 이벤트 스레드에서 DB 를 조회하지 않는다
+                CompletableFuture.runAsync(() -> refresh(Long.valueOf(source[1])));
+            }
+        });
+    }
+
+    /**
+     * 전체 항목을 다시 읽어 교체한다. 비우지 않고 덮어쓰므로 다시 읽는 동안의 검색도 이전 항목으로 응답한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        final Map<Long, RoomIndexEntry> loaded = new HashMap<>();
+        roomRepository.indexEntries()
+            .forEach(entry -> loaded.put(entry.id(), entry));
+        entries.putAll(loaded);
+        entries.keySet().retainAll(loaded.keySet());
+        version.incrementAndGet();
+
+        log.info("room search index loaded. size={}", entries.size());
+    }
+
+    @Scheduled(fixedDelayString = "${room.search.index.rebuild-interval:PT10M}",
+        initialDelayString = "${room.search.index.rebuild-interval:PT10M}")
+    public void rebuild() {
+        load();
+    }
+
+    @TransactionalEventListener(classes = RoomSavedEvent.class, phase = TransactionPhase.AFTER_COMMIT)
+    public void onRoomSaved(RoomSavedEvent event) {
+        refresh(event.getRoomId());
+        publish(event.getRoomId());
+    }
+
+    @TransactionalEventListener(classes = RoomDeletedEvent.class, phase = TransactionPhase.AFTER_COMMIT)
+    public void onRoomDeleted(RoomDeletedEvent event) {
+        entries.remove(event.getRoomId());
+        version.incrementAndGet();
+        publish(event.getRoomId());
+    }
+
+    /**
+     * 방 하나의 항목을 다시 읽는다. 삭제되었거나 검색 대상이 아니면 항목을 지운다.
+     */
+    void refresh(Long roomId) {
+        final List<RoomIndexEntry> loaded = roomRepository.indexEntries(List.of(roomId));
+        if (loaded.isEmpty()) {
+            entries.remove(roomId);
+        }
+        loaded.forEach(entry -> entries.put(entry.id(), entry));
+        version.incrementAndGet();
+    }
+
+    private void publish(Long roomId) {
+        try {
+            changedTopic().publish(instanceId + MESSAGE_DELIMITER + roomId);
+        } catch (RedisException e) {
+            log.warn("room index change broadcast failed. roomId={}", roomId, e);
+        }
+    }
+
+    private RTopic changedTopic() {
+        return redissonClient.getTopic(CHANGED_TOPIC, StringCodec.INSTANCE);
+    }
+
+    @Override
+    public Page<RoomSummary> search(Pageable pageable, RoomSearchCondition condition) {
+        final List<Long> ids = currentIndex().search(condition);
+
+        return new PageImpl<>(summaries(ids, pageable.getOffset(), pageable.getPageSize()), pageable, ids.size());
+    }
+
+    @Override
+    public Slice<RoomSummary> searchSlice(Pageable pageable, RoomSearchCondition condition) {
+        final List<Long> ids = currentIndex().search(condition);
+        final boolean hasNext = ids.size() > pageable.getOffset() + pageable.getPageSize();
+
+        return new SliceImpl<>(summaries(ids, pageable.getOffset(), pageable.getPageSize()), pageable, hasNext);
+    }
+
+    private List<RoomSummary> summaries(List<Long> ids, long offset, int size) {
+        if (offset >= ids.size()) {
+            return Collections.emptyList();
+        }
+
+        final int from = (int) offset;
+        return roomRepository.summariesByIds(ids.subList(from, Math.min(from + size, ids.size())));
+    }
+
+    private RoomSearchIndex currentIndex() {
+        final BuiltIndex current = built;
+        if (current.version() == version.get()) {
+            return current.index();
+        }
+
+        synchronized (rebuildLock) {
+            // 버전을 항목 스냅샷보다 먼저 읽는다. 그 사이의 변경은 스냅샷에 들어가거나 버전을 다시 올려 다음 검색에서 반영된다
+            final long target = version.get();
+            if (built.version() != target) {
+                built = new BuiltIndex(target, RoomSearchIndex.of(entries.values()));
+            }
+
+            return built.index();
+        }
+    }
+
+    private record BuiltIndex(long version, RoomSearchIndex index) {
+
+    }
+}
@@ -0,0 +1,20 @@
+package com.koliving.api.room.infra.search;
+
+import com.koliving.api.room.domain.RoomType;
+import java.time.LocalDate;
+import java.util.Set;
+
+/**
+ * author : haedoang date : 2023/10/07 description : 인메모리 검색 인덱스에 보관하는 방 한 건의 검색 조건 컬럼
+ */
+public record RoomIndexEntry(
+    Long id,
+    Long locationId,
+    RoomType roomType,
+    Set<Long> furnishingIds,
+    int deposit,
+    int monthlyRent,
+    LocalDate availableDate
+) {
+
+}
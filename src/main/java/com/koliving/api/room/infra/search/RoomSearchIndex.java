@@ -0,0 +1,172 @@
+package com.koliving.api.room.infra.search;
+
+import com.koliving.api.room.application.dto.RoomSearchCondition;
+import com.koliving.api.room.domain.RoomType;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.ToIntFunction;
+import org.springframework.util.CollectionUtils;
+
+/**
+ * author : haedoang date : 2023/10/07 description : 방 검색 조건의 불변 역색인.
+ * 방은 id 오름차순으로 0부터 시작하는 문서 번호를 갖고, 지역/룸 타입/가구는 문서 번호 비트맵, 금액과 입주 가능 일자는 정렬된 배열로 보관한다.
+ */
+final class RoomSearchIndex {
+
+    private final long[] ids;
+    private final Map<Long, BitSet> locations = new HashMap<>();
+    private final Map<RoomType, BitSet> types = new EnumMap<>(RoomType.class);
+    private final Map<Long, BitSet> furnishings = new HashMap<>();
+    private final SortedColumn deposits;
+    private final SortedColumn monthlyRents;
+    private final SortedColumn availableDates;
+
+    private RoomSearchIndex(List<RoomIndexEntry> entries) {
+        this.ids = new long[entries.size()];
+
+        for (int doc = 0; doc < entries.size(); doc++) {
+            final RoomIndexEntry entry = entries.get(doc);
+            ids[doc] = entry.id();
+            locations.computeIfAbsent(entry.locationId(), key -> new BitSet()).set(doc);
+            types.computeIfAbsent(entry.roomType(), key -> new BitSet()).set(doc);
+            for (Long furnishingId : entry.furnishingIds()) {
+                furnishings.computeIfAbsent(furnishingId, key -> new BitSet()).set(doc);
+            }
+        }
+
+        this.deposits = SortedColumn.of(entries, RoomIndexEntry::deposit);
+        this.monthlyRents = SortedColumn.of(entries, RoomIndexEntry::monthlyRent);
+        this.availableDates = SortedColumn.of(entries, entry -> (int) entry.availableDate().toEpochDay());
+    }
+
+    static RoomSearchIndex of(Collection<RoomIndexEntry> entries) {
+        final List<RoomIndexEntry> sorted = new ArrayList<>(entries);
+        sorted.sort(Comparator.comparing(RoomIndexEntry::id));
+
+        return new RoomSearchIndex(sorted);
+    }
+
+    int size() {
+        return ids.length;
+    }
+
+    /**
+     * 조건을 만족하는 방의 id 를 오름차순으로 반환한다. 조건 값이 비어 있으면 해당 조건은 적용하지 않는다.
+     */
+    List<Long> search(RoomSearchCondition condition) {
+        final BitSet result = new BitSet(ids.length);
+        result.set(0, ids.length);
+
+        intersect(result, anyOf(locations, condition.locationIds()));
+        intersect(result, deposits.range(condition.minDeposit(), condition.maxDeposit()));
+        intersect(result, monthlyRents.range(condition.minMonthlyRent(), condition.maxMonthlyRent()));
+        intersect(result, availableDates.equalTo(
+            Objects.isNull(condition.availableDate()) ? null : (int) condition.availableDate().toEpochDay()
+        ));
+        intersect(result, anyOf(types, condition.types()));
+        intersect(result, anyOf(furnishings, condition.furnishingTypes()));
+
+        final List<Long> matched = new ArrayList<>(result.cardinality());
+        for (int doc = result.nextSetBit(0); doc >= 0; doc = result.nextSetBit(doc + 1)) {
+            matched.add(ids[doc]);
+        }
+
+        return matched;
+    }
+
+    private static void intersect(BitSet result, BitSet filter) {
+        if (Objects.nonNull(filter)) {
+            result.and(filter);
+        }
+    }
+
+    private static <K> BitSet anyOf(Map<K, BitSet> postings, List<K> keys) {
+        if (CollectionUtils.isEmpty(keys)) {
+            return null;
+        }
+
+        final BitSet union = new BitSet();
+        for (K key : keys) {
+            final BitSet posting = postings.get(key);
+            if (Objects.nonNull(posting)) {
+                union.or(posting);
+            }
+        }
+
+        return union;
+    }
+
+    /**
+     * 값 오름차순으로 정렬된 (값, 문서 번호) 쌍. 범위 조건은 이진 탐색으로 구간을 찾는다.
+     */
+    private static final class SortedColumn {
+
+        private final int[] values;
+        private final int[] docs;
+
+        private SortedColumn(int[] values, int[] docs) {
+            this.values = values;
+            this.docs = docs;
+        }
+
+        static SortedColumn of(List<RoomIndexEntry> entries, ToIntFunction<RoomIndexEntry> valueOf) {
+            final long[] pairs = new long[entries.size()];
+            for (int doc = 0; doc < entries.size(); doc++) {
+                pairs[doc] = ((long) valueOf.applyAsInt(entries.get(doc)) << 32) | doc;
+            }
+            Arrays.sort(pairs);
+
+            final int[] values = new int[pairs.length];
+            final int[] docs = new int[pairs.length];
+            for (int i = 0; i < pairs.length; i++) {
+                values[i] = (int) (pairs[i] >> 32);
+                docs[i] = (int) pairs[i];
+            }
+
+            return new SortedColumn(values, docs);
+        }
+
+        BitSet equalTo(Integer value) {
+            return range(value, value);
+        }
+
+        BitSet range(Integer min, Integer max) {
+            if (Objects.isNull(min) && Objects.isNull(max)) {
+                return null;
+            }
+
+            final int from = Objects.isNull(min) ? 0 : lowerBound(min);
+            final int to = Objects.isNull(max) ? values.length : lowerBound((long) max + 1);
+
+            final BitSet matched = new BitSet();
+            for (int i = from; i < to; i++) {
+                matched.set(docs[i]);
+            }
+
+            return matched;
+        }
+
+        private int lowerBound(long value) {
+            int low = 0;
+            int high = values.length;
+            while (low < high) {
+                final int mid = (low + high) >>> 1;
+                if (values[mid] < value) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+
+            return low;
+        }
+    }
+}
@@ -1,13 +1,18 @@
 package com.koliving.api.room.ui;
 
+import com.koliving.api.auth.CurrentUser;
 import com.koliving.api.base.ErrorResponse;
 import com.koliving.api.room.application.RoomService;
 import com.koliving.api.room.application.dto.RoomContactRequest;
+import com.koliving.api.room.application.dto.RoomCursorResponse;
+import com.koliving.api.room.application.dto.RoomCursorSort;
 import com.koliving.api.room.application.dto.RoomResponse;
+import com.koliving.api.room.application.dto.RoomSummary;
 import com.koliving.api.room.application.dto.RoomSaveRequest;
 import com.koliving.api.room.application.dto.RoomSearchCondition;
 import com.koliving.api.user.domain.User;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -17,10 +22,10 @@ import lombok.RequiredArgsConstructor;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -28,6 +33,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @Tag(name = "방 API", description = "ROOM API")
@@ -53,7 +59,7 @@ public class RoomController {
             ),
         })
     @PostMapping
-    public ResponseEntity<Long> save(@RequestBody RoomSaveRequest request, @AuthenticationPrincipal User user) {
+    public ResponseEntity<Long> save(@RequestBody RoomSaveRequest request, @CurrentUser User user) {
         final Long id = roomService.save(request, user);
 
         return ResponseEntity.created(URI.create("api/v1/rooms/" + id))
@@ -75,12 +81,56 @@ public class RoomController {
             ),
         })
     @PostMapping("/search")
-    public ResponseEntity<Page<RoomResponse>> search(@ParameterObject @PageableDefault Pageable pageable,
+    public ResponseEntity<Page<RoomSummary>> search(@ParameterObject @PageableDefault Pageable pageable,
         @ParameterObject RoomSearchCondition condition) {
         return ResponseEntity.ok()
             .body(roomService.search(pageable, condition));
     }
 
+    @Operation(
+        summary = "방 검색 (전체 건수 미포함)",
+        description = "전체 건수 조회 없이 다음 페이지 존재 여부만 포함하여 방을 검색합니다.",
+        responses = {
+            @ApiResponse(
+                responseCode = "200",
+                description = "방 검색 성공"
+            ),
+            @ApiResponse(
+                responseCode = "400",
+                description = "방 검색 실패",
+                content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            ),
+        })
+    @PostMapping("/search/slice")
+    public ResponseEntity<Slice<RoomSummary>> searchSlice(@ParameterObject @PageableDefault Pageable pageable,
+        @ParameterObject RoomSearchCondition condition) {
+        return ResponseEntity.ok()
+            .body(roomService.searchSlice(pageable, condition));
+    }
+
+    @Operation(
+        summary = "방 검색 (커서 기반)",
+        description = "이전 응답의 커서 이후의 방을 검색합니다. 페이지 깊이와 무관하게 일정한 비용으로 조회합니다.",
+        responses = {
+            @ApiResponse(
+                responseCode = "200",
+                description = "방 검색 성공"
+            ),
+            @ApiResponse(
+                responseCode = "400",
+                description = "방 검색 실패",
+                content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            ),
+        })
+    @PostMapping("/search/cursor")
+    public ResponseEntity<RoomCursorResponse> searchByCursor(@ParameterObject RoomSearchCondition condition,
+        @Parameter(description = "이전 응답의 nextCursor. 첫 페이지는 생략") @RequestParam(required = false) String cursor,
+        @Parameter(description = "정렬 기준") @RequestParam(defaultValue = "ID") RoomCursorSort sort,
+        @Parameter(description = "조회 건수") @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok()
+            .body(roomService.searchByCursor(condition, cursor, sort, size));
+    }
+
     @Operation(
         summary = "방 조회",
         description = "방을 조회합니다.",
@@ -116,7 +166,7 @@ public class RoomController {
             ),
         })
     @DeleteMapping("{id}")
-    public ResponseEntity<Void> deleteById(Long id, @AuthenticationPrincipal User user) {
+    public ResponseEntity<Void> deleteById(Long id, @CurrentUser User user) {
         roomService.deleteRoomById(id, user);
         return ResponseEntity.noContent().build();
     }
@@ -137,7 +187,7 @@ public class RoomController {
             ),
         })
     @PutMapping("/{id}/liked")
-    public ResponseEntity<Void> likeRoom(@PathVariable Long id, @AuthenticationPrincipal User user) {
+    public ResponseEntity<Void> likeRoom(@PathVariable Long id, @CurrentUser User user) {
         roomService.likeRoom(id, user);
         return ResponseEntity.noContent()
             .build();
@@ -158,7 +208,7 @@ public class RoomController {
             ),
         })
     @PostMapping("/{id}/contact")
-    public ResponseEntity<Void> contactRoom(@RequestBody RoomContactRequest request, @AuthenticationPrincipal User user) {
+    public ResponseEntity<Void> contactRoom(@RequestBody RoomContactRequest request, @CurrentUser User user) {
         roomService.contact(request, user);
         return ResponseEntity.status(HttpStatus.CREATED)
             .build();
@@ -2,7 +2,7 @@ package com.koliving.api.room.ui;
 
 import com.koliving.api.base.ErrorResponse;
 import com.koliving.api.room.application.RoomService;
-import com.koliving.api.room.application.dto.RoomResponse;
+import com.koliving.api.room.application.dto.RoomSummary;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -38,8 +38,8 @@ public class RoomManageController {
             ),
         })
     @GetMapping
-    public ResponseEntity<List<RoomResponse>> list() {
-        List<RoomResponse> responses = roomService.list();
+    public ResponseEntity<List<RoomSummary>> list() {
+        List<RoomSummary> responses = roomService.list();
         return ResponseEntity.ok()
             .body(responses);
     }
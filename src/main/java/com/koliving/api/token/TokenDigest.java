@@ -0,0 +1,26 @@
+package com.koliving.api.token;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * author : haedoang date : 2023/10/14 description : Redis 에 토큰 원문 대신 저장하는 고정 길이(43자) SHA-256 다이제스트
+ */
+public final class TokenDigest {
+
+    private static final String ALGORITHM = "SHA-256";
+
+    private TokenDigest() {
+    }
+
+    public static String of(String token) {
+        try {
+            final byte[] digest = MessageDigest.getInstance(ALGORITHM).digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.koliving.api.token;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import org.redisson.api.BatchOptions;
+import org.redisson.api.RBatch;
+import org.redisson.api.RedissonClient;
+import org.springframework.stereotype.Component;
+
+/**
+ * author : haedoang date : 2023/10/16 description : 토큰 저장소의 Redis 명령을 RBatch 로 묶어 한 번의 왕복으로 보낸다.
+ * 실행할 때마다 token.redis.round-trips 카운터를 operation 태그별로 올린다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TokenRedisBatch {
+
+    private static final String ROUND_TRIPS = "token.redis.round-trips";
+
+    private final RedissonClient redissonClient;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * commands 가 batch 에 쌓은 명령을 한 번에 보내고 결과를 기다린다. Redis 예외는 감싸지 않고 그대로 던진다.
+     */
+    public <T> T execute(String operation, Function<RBatch, CompletionStage<T>> commands) {
+        try {
+            return executeAsync(operation, commands).toCompletableFuture().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    public <T> CompletionStage<T> executeAsync(String operation, Function<RBatch, CompletionStage<T>> commands) {
+        final RBatch batch = redissonClient.createBatch(BatchOptions.defaults());
+        final CompletionStage<T> result = commands.apply(batch);
+
+        roundTrips(operation).increment();
+        return batch.executeAsync()
+            .thenCompose(ignored -> result);
+    }
+
+    private Counter roundTrips(String operation) {
+        return Counter.builder(ROUND_TRIPS)
+            .tag("operation", operation)
+            .register(meterRegistry);
+    }
+}
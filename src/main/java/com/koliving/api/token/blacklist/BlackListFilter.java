@@ -0,0 +1,130 @@
+package com.koliving.api.token.blacklist;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+import com.koliving.api.properties.BlackListProperties;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.listener.BaseStatusListener;
+import org.redisson.client.RedisException;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * author : haedoang date : 2023/10/13 description : 블랙리스트 토큰 다이제스트의 노드별 Bloom filter.
+ * 필터에 없는 토큰은 블랙리스트가 아니므로 Redis 를 조회하지 않는다. 로그아웃 토큰은 저장소가 저장과 함께 토픽으로 전파하고, 기동 시 저장소로부터 다시 만든다.
+ * 필터를 만들기 전이나 재구성에 실패하면 항상 Redis 를 조회한다.
+ * 토픽 연결이 끊긴 동안 놓친 전파는 복구되지 않으므로, 토픽을 다시 구독하면 필터를 다시 만들고 rebuild-interval(기본 10분)마다도 다시 만든다.
+ * 따라서 전파를 놓친 노드가 로그아웃 토큰을 통과시키는 기간은 최대 rebuild-interval 이다. 재구성은 만료된 토큰을 필터에서 덜어내 오탐률도 되돌린다.
+ * 이전 노드가 단일 해시에 쓴 토큰은 전파되지 않으므로, blacklist.legacy.enabled 인 동안(롤링 배포 중)에는 필터를 거치지 않고 항상 Redis 를 조회한다.
+ */
+@Slf4j
+@Component
+public class BlackListFilter {
+
+    private final RedissonClient redissonClient;
+    private final BlackListRepository blackListRepository;
+    private final BlackListProperties properties;
+
+    private volatile BloomFilter<CharSequence> filter;
+    private volatile BloomFilter<CharSequence> building;
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+
+    public BlackListFilter(RedissonClient redissonClient, BlackListRepository blackListRepository,
+        BlackListProperties properties) {
+        this.redissonClient = redissonClient;
+        this.blackListRepository = blackListRepository;
+        this.properties = properties;
+    }
+
+    @PostConstruct
+    void subscribe() {
+        final RTopic topic = topic();
+        topic.addListener(String.class, (channel, digest) -> add(digest));
+        topic.addListener(new BaseStatusListener() {
+            @Override
+            public void onSubscribe(String channel) {
+                // 첫 구독은 기동 시 적재가 담당한다. 재구독은 Redisson 이벤트 스레드에서 알리므로 Redis 조회는 다른 스레드에서 한다
+                if (!subscribed.compareAndSet(false, true)) {
+                    log.info("blacklist topic resubscribed. rebuilding filter");
+                    CompletableFuture.runAsync(BlackListFilter.this::load);
+                }
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${blacklist.filter.rebuild-interval:PT10M}",
+        initialDelayString = "${blacklist.filter.rebuild-interval:PT10M}")
+    public void rebuild() {
+        load();
+    }
+
+    /**
+     * 저장소로부터 필터를 새로 만들어 교체한다. 만드는 동안 전파된 토큰은 새 필터에도 넣는다.
+     * 동시에 만든 필터가 서로를 덮어쓰지 않도록 한 번에 하나씩 만든다.
+     */
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void load() {
+        final BloomFilter<CharSequence> rebuilt = newFilter();
+        building = rebuilt;
+        try {
+            try (Stream<String> digests = blackListRepository.findAllDigests()) {
+                digests.forEach(rebuilt::put);
+            }
+            filter = rebuilt;
+            log.info("blacklist filter loaded. approximateSize={}", rebuilt.approximateElementCount());
+        } catch (DataAccessException | RedisException e) {
+            filter = null;
+            log.warn("blacklist filter load failed. falling back to redis lookups", e);
+        } finally {
+            building = null;
+        }
+    }
+
+    public boolean mightContain(String digest) {
+        if (blackListRepository.isLegacyEnabled()) {
+            return true;
+        }
+
+        final BloomFilter<CharSequence> current = filter;
+        return Objects.isNull(current) || current.mightContain(digest);
+    }
+
+    public void add(String digest) {
+        final BloomFilter<CharSequence> current = filter;
+        if (Objects.nonNull(current)) {
+            current.put(digest);
+        }
+
+        final BloomFilter<CharSequence> next = building;
+        if (Objects.nonNull(next)) {
+            next.put(digest);
+        }
+    }
+
+    private BloomFilter<CharSequence> newFilter() {
+        return BloomFilter.create(
+            Funnels.stringFunnel(StandardCharsets.UTF_8),
+            properties.getExpectedInsertions(),
+            properties.getFalsePositiveProbability()
+        );
+    }
+
+    private RTopic topic() {
+        return redissonClient.getTopic(BlackListRepository.ADDED_TOPIC, StringCodec.INSTANCE);
+    }
+}
@@ -1,32 +1,128 @@
 package com.koliving.api.token.blacklist;
 
-import jakarta.annotation.PostConstruct;
+import com.koliving.api.properties.BlackListLegacyProperties;
+import com.koliving.api.token.TokenDigest;
+import com.koliving.api.token.TokenRedisBatch;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.HashOperations;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.redisson.api.RBatch;
+import org.redisson.api.RBucketAsync;
+import org.redisson.api.RFuture;
+import org.redisson.api.RMapAsync;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.Codec;
+import org.redisson.client.codec.LongCodec;
+import org.redisson.client.codec.StringCodec;
+import org.redisson.codec.SerializationCodec;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.Date;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
+/**
+ * 블랙리스트 토큰마다 토큰 만료 시각에 사라지는 키(BLACKLIST:{digest})를 둔다.
+ * 저장과 다른 노드 필터로의 전파(BLACKLIST:ADDED)는 한 번의 왕복으로 보낸다.
+ * blacklist.legacy.enabled 인 동안에는 이전 노드가 읽고 쓰는 단일 해시(BlackAccessToken)에도 함께 저장해, 롤링 배포 중 양쪽 노드가 같은 블랙리스트를 본다.
+ */
 @Repository
 @RequiredArgsConstructor
 public class BlackListRepository {
 
-    private final static String BAT_HASH_KEY = "BlackAccessToken";
-    private static HashOperations<String, String, Date> hashOperations;
-    private final RedisTemplate redisTemplate;
+    static final String KEY_PREFIX = "BLACKLIST:";
+    static final String ADDED_TOPIC = "BLACKLIST:ADDED";
+    static final String LEGACY_HASH_KEY = "BlackAccessToken";
+    private static final int SCAN_COUNT = 1000;
+    // 이전 해시는 RedisTemplate 의 기본 해시 직렬화(JDK 직렬화)로 저장되어 있다
+    private static final Codec LEGACY_CODEC = new SerializationCodec();
 
-    @PostConstruct
-    private void init() {
-        hashOperations = redisTemplate.opsForHash();
-    }
+    private final RedissonClient redissonClient;
+    private final TokenRedisBatch tokenRedisBatch;
+    private final BlackListLegacyProperties legacyProperties;
 
     public void save(final BlackAccessToken blackAccessToken) {
-        hashOperations.put(BAT_HASH_KEY, blackAccessToken.accessToken(), blackAccessToken.expirationTime());
-        redisTemplate.expireAt(BAT_HASH_KEY, blackAccessToken.expirationTime());
+        final long ttl = ttlMillis(blackAccessToken);
+        if (ttl <= 0) {
+            return;
+        }
+
+        final String digest = TokenDigest.of(blackAccessToken.accessToken());
+        tokenRedisBatch.execute("blacklist.save", batch -> {
+            set(batch, digest, blackAccessToken.expirationTime().getTime(), ttl);
+            if (legacyProperties.isEnabled()) {
+                final RMapAsync<String, Date> legacy = legacy(batch);
+                legacy.fastPutAsync(blackAccessToken.accessToken(), blackAccessToken.expirationTime());
+                legacy.expireAsync(blackAccessToken.expirationTime().toInstant());
+            }
+            return batch.getTopic(ADDED_TOPIC, StringCodec.INSTANCE).publishAsync(digest);
+        });
+    }
+
+    /**
+     * 전파 없이 여러 토큰을 한 번에 저장한다. 기동 시 필터를 저장소로부터 다시 만들기 전에만 사용한다.
+     */
+    public void saveAll(final Collection<BlackAccessToken> blackAccessTokens) {
+        if (blackAccessTokens.isEmpty()) {
+            return;
+        }
+
+        tokenRedisBatch.execute("blacklist.save-all", batch -> {
+            for (BlackAccessToken blackAccessToken : blackAccessTokens) {
+                final long ttl = ttlMillis(blackAccessToken);
+                if (ttl > 0) {
+                    set(batch, TokenDigest.of(blackAccessToken.accessToken()), blackAccessToken.expirationTime().getTime(), ttl);
+                }
+            }
+            return CompletableFuture.completedFuture(null);
+        });
     }
 
+    /**
+     * blacklist.legacy.enabled 인 동안에는 이전 노드가 단일 해시에 쓴 토큰도 같은 왕복 안에서 함께 확인한다.
+     */
     public boolean existByToken(final String token) {
-        return hashOperations.hasKey(BAT_HASH_KEY, token);
+        return tokenRedisBatch.execute("blacklist.exists", batch -> exists(batch, token));
+    }
+
+    public CompletionStage<Boolean> existByTokenAsync(final String token) {
+        return tokenRedisBatch.executeAsync("blacklist.exists", batch -> exists(batch, token));
+    }
+
+    public Stream<String> findAllDigests() {
+        return redissonClient.getKeys()
+            .getKeysStreamByPattern(KEY_PREFIX + "*", SCAN_COUNT)
+            .map(key -> key.substring(KEY_PREFIX.length()));
+    }
+
+    private CompletionStage<Boolean> exists(RBatch batch, String token) {
+        final RFuture<Boolean> exists = bucket(batch, TokenDigest.of(token)).isExistsAsync();
+        if (!legacyProperties.isEnabled()) {
+            return exists;
+        }
+
+        final RFuture<Boolean> legacyExists = legacy(batch).containsKeyAsync(token);
+        return exists.thenCombine(legacyExists, (current, legacy) -> current || legacy);
+    }
+
+    private RFuture<Void> set(RBatch batch, String digest, long expirationTime, long ttl) {
+        return bucket(batch, digest).setAsync(expirationTime, ttl, TimeUnit.MILLISECONDS);
+    }
+
+    public boolean isLegacyEnabled() {
+        return legacyProperties.isEnabled();
+    }
+
+    private RMapAsync<String, Date> legacy(RBatch batch) {
+        return batch.getMap(LEGACY_HASH_KEY, LEGACY_CODEC);
+    }
+
+    private long ttlMillis(BlackAccessToken blackAccessToken) {
+        return blackAccessToken.expirationTime().getTime() - System.currentTimeMillis();
+    }
+
+    private RBucketAsync<Long> bucket(RBatch batch, String digest) {
+        return batch.getBucket(KEY_PREFIX + digest, LongCodec.INSTANCE);
     }
 }
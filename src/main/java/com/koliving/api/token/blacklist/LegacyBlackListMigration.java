@@ -0,0 +1,75 @@
+package com.koliving.api.token.blacklist;
+
+import jakarta.annotation.PostConstruct;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.client.RedisException;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.stereotype.Component;
+
+/**
+ * author : haedoang date : 2023/10/14 description : 단일 해시(BlackAccessToken)에 쌓인 블랙리스트를 토큰별 만료 키로 옮긴다.
+ * 기동 시 블랙리스트 필터를 만들기 전에 실행되며, 여러 노드에서 동시에 실행되어도 같은 결과가 된다.
+ * 롤링 배포 중에는 이전 노드가 해시를 계속 읽고 쓰므로 해시는 지우지 않는다. 해시는 이전 노드가 마지막으로 쓴 토큰의 만료 시각에 스스로 사라지고,
+ * 남은 해시는 blacklist.legacy.enabled 를 끄는 다음 릴리스에서 정리한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LegacyBlackListMigration {
+
+    static final String LEGACY_HASH_KEY = BlackListRepository.LEGACY_HASH_KEY;
+    private static final int SCAN_COUNT = 1000;
+
+    private final RedisTemplate redisTemplate;
+    private final BlackListRepository blackListRepository;
+
+    private HashOperations<String, String, Date> hashOperations;
+
+    @PostConstruct
+    void init() {
+        hashOperations = redisTemplate.opsForHash();
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        try {
+            if (!Boolean.TRUE.equals(redisTemplate.hasKey(LEGACY_HASH_KEY))) {
+                return;
+            }
+
+            long migrated = 0;
+            final List<BlackAccessToken> chunk = new ArrayList<>(SCAN_COUNT);
+            try (Cursor<Map.Entry<String, Date>> cursor = hashOperations.scan(LEGACY_HASH_KEY,
+                ScanOptions.scanOptions().count(SCAN_COUNT).build())) {
+                while (cursor.hasNext()) {
+                    final Map.Entry<String, Date> entry = cursor.next();
+                    chunk.add(new BlackAccessToken(entry.getKey(), entry.getValue()));
+                    migrated++;
+                    if (chunk.size() == SCAN_COUNT) {
+                        blackListRepository.saveAll(chunk);
+                        chunk.clear();
+                    }
+                }
+            }
+            blackListRepository.saveAll(chunk);
+
+            log.info("legacy blacklist copied. size={}", migrated);
+        } catch (DataAccessException | RedisException e) {
+            log.warn("legacy blacklist migration failed", e);
+        }
+    }
+}
@@ -1,7 +1,8 @@
 package com.koliving.api.token.refresh;
 
-import lombok.Builder;
-
-public record RefreshToken(String email, String token) {
+/**
+ * deviceId 는 로그인마다 발급되는 기기(세션) 식별자. 이전에 발급된 토큰은 deviceId 가 없다.
+ */
+public record RefreshToken(String email, String deviceId, String token) {
 
 }
@@ -1,44 +1,265 @@
 package com.koliving.api.token.refresh;
 
 import com.koliving.api.properties.JwtProperties;
-import jakarta.annotation.PostConstruct;
+import com.koliving.api.properties.RefreshTokenProperties;
+import com.koliving.api.token.TokenDigest;
+import com.koliving.api.token.TokenRedisBatch;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.HashOperations;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.redisson.api.RBatch;
+import org.redisson.api.RFuture;
+import org.redisson.api.RMapAsync;
+import org.redisson.api.RScript.Mode;
+import org.redisson.api.RScript.ReturnType;
+import org.redisson.api.RScriptAsync;
+import org.redisson.client.codec.ByteArrayCodec;
+import org.redisson.client.codec.Codec;
+import org.redisson.client.codec.StringCodec;
+import org.redisson.codec.SerializationCodec;
 import org.springframework.stereotype.Repository;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Objects;
 import java.util.concurrent.TimeUnit;
 
+/**
+ * 회원의 기기별 리프레시 토큰 다이제스트를 회원마다 고정된 세 개의 키에 저장한다.
+ * REFRESH:{email}:tokens  기기별 현재 토큰 다이제스트(field = deviceId)
+ * REFRESH:{email}:devices 기기 목록(score = 마지막 발급 시각). 발급 후 유효 기간이 지난 기기는 만료로 보고, 최대 기기 수를 넘으면 오래된 기기부터 만료시킨다
+ * REFRESH:{email}:used    교체된 토큰 다이제스트(score = 토큰 만료 시각). 다시 제시되면 탈취로 보고 회원의 모든 세션을 폐기한다.
+ *                         만료된 다이제스트는 교체할 때마다 덜어내므로 크기는 유효 기간 안의 교체 횟수로 제한된다
+ * 로그아웃은 해당 기기의 세션만 폐기한다.
+ * 키는 {email} 해시 태그로 같은 슬롯에 두고, 발급/교체/폐기는 Lua 스크립트로 원자적으로 처리한다. 스크립트가 다루는 키는 모두 KEYS 로 넘긴다.
+ * 함께 실행하는 명령은 TokenRedisBatch 로 묶어 연산마다 한 번의 왕복으로 보낸다.
+ */
 @Repository
 @RequiredArgsConstructor
 public class RefreshTokenRepository {
 
     private final static String RT_HASH_KEY = "RefreshToken";
-    private static HashOperations<String, String, String> hashOperations;
-    private final RedisTemplate redisTemplate;
-    private final JwtProperties jwtProperties;
+    private static final String KEY_PREFIX = "REFRESH:";
+    // 이전 해시는 RedisTemplate 의 기본 해시 직렬화(JDK 직렬화)로 저장되어 있다
+    private static final Codec LEGACY_CODEC = new SerializationCodec();
 
-    @PostConstruct
-    private void init() {
-        hashOperations = redisTemplate.opsForHash();
-    }
+    // ISSUE_SCRIPT 와 LEGACY_ROTATE_SCRIPT 가 함께 쓰는 발급 단계. 앞에서 digest, ttl, now, device, maxDevices 를 정한다
+    private static final String ISSUE = """
+        local function drop(members)
+            if #members > 0 then
+                redis.call('HDEL', KEYS[2], unpack(members))
+                redis.call('ZREM', KEYS[1], unpack(members))
+            end
+        end
+        drop(redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', now - ttl))
+        redis.call('HSET', KEYS[2], device, digest)
+        redis.call('ZADD', KEYS[1], now, device)
+        local overflow = redis.call('ZCARD', KEYS[1]) - maxDevices
+        if overflow > 0 then
+            drop(redis.call('ZRANGE', KEYS[1], 0, overflow - 1))
+        end
+        redis.call('PEXPIRE', KEYS[1], ttl)
+        redis.call('PEXPIRE', KEYS[2], ttl)
+        return 1
+        """;
 
-    public String findByEmail(String email) {
-        return hashOperations.get(RT_HASH_KEY, email);
-    }
+    private static final String ISSUE_SCRIPT = """
+        local digest, ttl, now, device, maxDevices = ARGV[1], tonumber(ARGV[2]), tonumber(ARGV[3]), ARGV[4], tonumber(ARGV[5])
+        """ + ISSUE;
 
-    public String save(final RefreshToken refreshToken) {
-        hashOperations.putIfAbsent(RT_HASH_KEY, refreshToken.email(), refreshToken.token());
-        redisTemplate.expire(RT_HASH_KEY, jwtProperties.getRefreshValidity(), TimeUnit.DAYS);
+    // 이전 해시의 값은 다이제스트(ARGV[2])이거나 토큰 원문(ARGV[3])이다. 비교와 이동을 한 스크립트에서 처리해 같은 토큰으로 두 번 옮길 수 없다
+    private static final String LEGACY_ROTATE_SCRIPT = """
+        local stored = redis.call('HGET', KEYS[3], ARGV[1])
+        if stored ~= ARGV[2] and stored ~= ARGV[3] then
+            return 0
+        end
+        redis.call('HDEL', KEYS[3], ARGV[1])
+        local digest, ttl, now, device, maxDevices = ARGV[4], tonumber(ARGV[5]), tonumber(ARGV[6]), ARGV[7], tonumber(ARGV[8])
+        """ + ISSUE;
+
+    private static final String ROTATE_SCRIPT = """
+        local ttl, now = tonumber(ARGV[3]), tonumber(ARGV[4])
+        redis.call('ZREMRANGEBYSCORE', KEYS[3], '-inf', now)
+        local issuedAt = redis.call('ZSCORE', KEYS[1], ARGV[5])
+        if issuedAt and tonumber(issuedAt) > now - ttl and redis.call('HGET', KEYS[2], ARGV[5]) == ARGV[1] then
+            redis.call('HSET', KEYS[2], ARGV[5], ARGV[2])
+            redis.call('ZADD', KEYS[1], now, ARGV[5])
+            redis.call('ZADD', KEYS[3], now + ttl, ARGV[1])
+            for _, key in ipairs(KEYS) do
+                redis.call('PEXPIRE', key, ttl)
+            end
+            return 1
+        end
+        if redis.call('ZSCORE', KEYS[3], ARGV[1]) then
+            redis.call('DEL', KEYS[1], KEYS[2], KEYS[3])
+            return -1
+        end
+        return 0
+        """;
+
+    private static final String REVOKE_DEVICE_SCRIPT = """
+        redis.call('ZREM', KEYS[1], ARGV[1])
+        return redis.call('HDEL', KEYS[2], ARGV[1])
+        """;
 
+    private final TokenRedisBatch tokenRedisBatch;
+    private final JwtProperties jwtProperties;
+    private final RefreshTokenProperties refreshTokenProperties;
+
+    public String save(final RefreshToken refreshToken) {
+        tokenRedisBatch.execute("refresh.issue", batch -> issue(batch, refreshToken));
         return refreshToken.token();
     }
 
+    /**
+     * 제시된 토큰이 기기의 현재 토큰이면 다음 토큰으로 교체한다. 이미 교체된 토큰이면 회원의 모든 세션을 폐기한다.
+     * 기기 식별자가 없는 이전 형식의 토큰은 이전 해시와 비교한 뒤 다음 토큰의 기기 세션으로 옮긴다.
+     */
+    public RefreshTokenRotation rotate(final RefreshToken presented, final RefreshToken next) {
+        if (Objects.isNull(presented.deviceId())) {
+            return rotation(tokenRedisBatch.execute("refresh.legacy.rotate", batch -> rotateLegacy(batch, presented, next)));
+        }
+
+        return rotation(tokenRedisBatch.execute("refresh.rotate", batch -> rotate(batch, presented, next)));
+    }
+
     public boolean existByEmail(final String email) {
-        return hashOperations.hasKey(RT_HASH_KEY, email);
+        return tokenRedisBatch.execute("refresh.exists", batch -> {
+            final RFuture<Long> devices = batch.getKeys().countExistsAsync(devicesKey(email));
+            final RFuture<Boolean> legacyExists = legacy(batch).containsKeyAsync(email);
+            return devices.thenCombine(legacyExists, (count, exists) -> count > 0 || exists);
+        });
     }
 
     public void delete(final String email) {
-        hashOperations.delete(RT_HASH_KEY, email);
+        tokenRedisBatch.execute("refresh.revoke", batch -> {
+            legacy(batch).fastRemoveAsync(email);
+            return batch.getKeys().deleteAsync(devicesKey(email), tokensKey(email), usedKey(email));
+        });
+    }
+
+    /**
+     * 한 기기의 리프레시 세션만 폐기한다. 다른 기기의 세션과 교체 이력은 그대로 둔다.
+     */
+    public void revoke(final String email, final String deviceId) {
+        tokenRedisBatch.execute("refresh.revoke.device", batch -> script(batch).evalAsync(
+            devicesKey(email),
+            Mode.READ_WRITE,
+            REVOKE_DEVICE_SCRIPT,
+            ReturnType.INTEGER,
+            List.<Object>of(devicesKey(email), tokensKey(email)),
+            deviceId
+        ));
+    }
+
+    /**
+     * 기기별 키 도입 전 단일 해시(RefreshToken)에 저장된 토큰과 비교하고, 같으면 해시에서 지우고 다음 토큰의 기기 세션으로 발급한다.
+     * 해시의 필드와 값은 JDK 직렬화되어 있으므로 인자도 같은 형식으로 직렬화해 바이트 그대로 비교한다.
+     * 이전 해시는 {email} 슬롯 밖에 있으므로 단일 노드 Redis 에서만 한 스크립트로 다룰 수 있다.
+     */
+    private RFuture<Long> rotateLegacy(RBatch batch, RefreshToken presented, RefreshToken next) {
+        final String email = next.email();
+        return batch.getScript(ByteArrayCodec.INSTANCE).evalAsync(
+            devicesKey(email),
+            Mode.READ_WRITE,
+            LEGACY_ROTATE_SCRIPT,
+            ReturnType.INTEGER,
+            List.<Object>of(devicesKey(email), tokensKey(email), RT_HASH_KEY),
+            legacyBytes(presented.email()),
+            legacyBytes(TokenDigest.of(presented.token())),
+            legacyBytes(presented.token()),
+            bytes(TokenDigest.of(next.token())),
+            bytes(String.valueOf(ttlMillis())),
+            bytes(String.valueOf(System.currentTimeMillis())),
+            bytes(next.deviceId()),
+            bytes(String.valueOf(refreshTokenProperties.getMaxDevices()))
+        );
+    }
+
+    private RFuture<Long> issue(RBatch batch, RefreshToken refreshToken) {
+        final String email = refreshToken.email();
+        return script(batch).evalAsync(
+            devicesKey(email),
+            Mode.READ_WRITE,
+            ISSUE_SCRIPT,
+            ReturnType.INTEGER,
+            List.<Object>of(devicesKey(email), tokensKey(email)),
+            TokenDigest.of(refreshToken.token()),
+            String.valueOf(ttlMillis()),
+            String.valueOf(System.currentTimeMillis()),
+            refreshToken.deviceId(),
+            String.valueOf(refreshTokenProperties.getMaxDevices())
+        );
+    }
+
+    private RFuture<Long> rotate(RBatch batch, RefreshToken presented, RefreshToken next) {
+        final String email = presented.email();
+        return script(batch).evalAsync(
+            devicesKey(email),
+            Mode.READ_WRITE,
+            ROTATE_SCRIPT,
+            ReturnType.INTEGER,
+            List.<Object>of(devicesKey(email), tokensKey(email), usedKey(email)),
+            TokenDigest.of(presented.token()),
+            TokenDigest.of(next.token()),
+            String.valueOf(ttlMillis()),
+            String.valueOf(System.currentTimeMillis()),
+            presented.deviceId()
+        );
+    }
+
+    private static RefreshTokenRotation rotation(Long result) {
+        if (Objects.equals(result, 1L)) {
+            return RefreshTokenRotation.ROTATED;
+        }
+
+        return Objects.equals(result, -1L) ? RefreshTokenRotation.REUSED : RefreshTokenRotation.NOT_FOUND;
+    }
+
+    private RScriptAsync script(RBatch batch) {
+        return batch.getScript(StringCodec.INSTANCE);
+    }
+
+    private RMapAsync<String, String> legacy(RBatch batch) {
+        return batch.getMap(RT_HASH_KEY, LEGACY_CODEC);
+    }
+
+    private long ttlMillis() {
+        return TimeUnit.DAYS.toMillis(jwtProperties.getRefreshValidity());
+    }
+
+    private String userKeyPrefix(String email) {
+        return KEY_PREFIX + "{" + email + "}:";
+    }
+
+    private String devicesKey(String email) {
+        return userKeyPrefix(email) + "devices";
+    }
+
+    private String usedKey(String email) {
+        return userKeyPrefix(email) + "used";
+    }
+
+    private String tokensKey(String email) {
+        return userKeyPrefix(email) + "tokens";
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] legacyBytes(String value) {
+        try {
+            final ByteBuf encoded = LEGACY_CODEC.getValueEncoder().encode(value);
+            try {
+                return ByteBufUtil.getBytes(encoded);
+            } finally {
+                encoded.release();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 }
@@ -0,0 +1,7 @@
+package com.koliving.api.token.refresh;
+
+public enum RefreshTokenRotation {
+    ROTATED,
+    NOT_FOUND,
+    REUSED
+}
@@ -0,0 +1,82 @@
+package com.koliving.api.user.application;
+
+import static com.koliving.api.base.ServiceError.UNAUTHORIZED;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.koliving.api.auth.jwt.JwtPrincipal;
+import com.koliving.api.base.exception.KolivingServiceException;
+import com.koliving.api.properties.UserCacheProperties;
+import com.koliving.api.user.domain.User;
+import com.koliving.api.user.infra.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import java.util.concurrent.ExecutionException;
+import org.springframework.stereotype.Component;
+
+/**
+ * author : haedoang date : 2023/10/12 description : 회원 엔티티가 필요한 요청을 위한 짧은 TTL 의 로컬 회원 캐시.
+ * 인증 주체는 토큰 클레임으로 만들고, 엔티티는 @CurrentUser 파라미터를 해석할 때만 조회한다.
+ * 엔티티는 요청 간에 공유하지 않도록 캐시하지 않는다. 회원이 존재한다는 사실만 캐시하고, 요청마다 현재 영속성 컨텍스트의 참조를 반환한다.
+ */
+@Component
+public class UserCache {
+
+    private final UserRepository userRepository;
+    private final Cache<Long, Boolean> cache;
+
+    public UserCache(UserRepository userRepository, UserCacheProperties properties, MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.cache = CacheBuilder.newBuilder()
+            .maximumSize(properties.getMaximumSize())
+            .expireAfterWrite(properties.getTtl())
+            .recordStats()
+            .build();
+
+        GuavaCacheMetrics.monitor(meterRegistry, cache, "user.principal");
+    }
+
+    /**
+     * 인증 주체를 회원 엔티티로 변환한다. 로그인/회원가입 요청처럼 주체가 이미 엔티티이면 그대로 반환한다.
+     */
+    public User resolve(Object principal) {
+        if (principal instanceof User user) {
+            return user;
+        }
+
+        if (principal instanceof JwtPrincipal jwtPrincipal) {
+            return get(jwtPrincipal.getId());
+        }
+
+        return null;
+    }
+
+    /**
+     * 요청의 영속성 컨텍스트에 묶인 참조를 반환한다. 식별자 외의 값은 처음 접근할 때 해당 요청에서 조회한다.
+     */
+    public User get(Long userId) {
+        verify(userId);
+        return userRepository.getReferenceById(userId);
+    }
+
+    private void verify(Long userId) {
+        try {
+            cache.get(userId, () -> {
+                if (!userRepository.existsById(userId)) {
+                    throw new KolivingServiceException(UNAUTHORIZED);
+                }
+                return Boolean.TRUE;
+            });
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    public void evict(Long userId) {
+        cache.invalidate(userId);
+    }
+}
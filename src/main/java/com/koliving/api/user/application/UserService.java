@@ -11,11 +11,13 @@ import com.koliving.api.user.domain.Notification;
 import com.koliving.api.user.domain.NotifyType;
 import com.koliving.api.user.domain.User;
 import com.koliving.api.user.infra.NotificationRepository;
+import com.koliving.api.user.infra.UserProfileUpdatedEvent;
 import com.koliving.api.user.infra.UserRepository;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -32,6 +34,7 @@ public class UserService implements IUserService, UserDetailsService {
     private final NotificationRepository notificationRepository;
     private final ImageFileRepository imageFileRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public UserDetails loadUserByUsername(String email) {
@@ -73,6 +76,7 @@ public class UserService implements IUserService, UserDetailsService {
         User user = userRepository.findById(userId)
             .orElseThrow(() -> new KolivingServiceException(ServiceError.RECORD_NOT_EXIST));
         user.update(updatable);
+        eventPublisher.publishEvent(new UserProfileUpdatedEvent(userId));
     }
 
     private ImageFile getImageFile(UserProfileUpdateRequest request) {
@@ -86,9 +90,9 @@ public class UserService implements IUserService, UserDetailsService {
         return UserResponse.valueOf(user);
     }
 
-    public List<NotificationResponse> getNotifications(User user) {
-        final List<Notification> receives = notificationRepository.findAllByReceiverId(user.getId());
-        final List<Notification> sent = notificationRepository.findAllBySenderId(user.getId());
+    public List<NotificationResponse> getNotifications(Long userId) {
+        final List<Notification> receives = notificationRepository.findAllByReceiverId(userId);
+        final List<Notification> sent = notificationRepository.findAllBySenderId(userId);
 
         return NotificationResponse.ofList(receives, sent);
     }
@@ -5,8 +5,10 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -19,6 +21,7 @@ import org.hibernate.annotations.DynamicUpdate;
  * author : haedoang date : 2023/11/05 description :
  */
 @Entity(name = "TB_NOTIFICATION")
+@Table(indexes = @Index(name = "idx_notification_receiver_created", columnList = "receiver_id, created_at"))
 @DynamicInsert
 @DynamicUpdate
 @Getter
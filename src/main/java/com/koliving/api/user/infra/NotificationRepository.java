@@ -1,6 +1,7 @@
 package com.koliving.api.user.infra;
 
 import com.koliving.api.user.domain.Notification;
+import java.time.LocalDateTime;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
 
@@ -13,4 +14,6 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
 
     List<Notification> findAllByReceiverId(Long senderId);
 
+    long countByReceiverIdAndCreatedAtAfter(Long receiverId, LocalDateTime createdAt);
+
 }
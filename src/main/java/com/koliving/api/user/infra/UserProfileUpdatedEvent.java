@@ -0,0 +1,14 @@
+package com.koliving.api.user.infra;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * author : haedoang date : 2023/10/08 description : 사용자 프로필 수정 커밋 이후 발행되는 이벤트
+ */
+@Getter
+@AllArgsConstructor
+public class UserProfileUpdatedEvent {
+
+    private final Long userId;
+}
@@ -10,6 +10,10 @@ INSERT INTO TB_LANGUAGE (LOCALE, MESSAGE_KEY, MESSAGE_PATTERN) VALUES
        ('ko', 'auth_email_subtitle','아래 링크를 클릭하셔서 인증을 진행하세요'),
        ('en', 'auth_email_link_guidance','If the button doesn''t work, copy and paste the link below into url'),
        ('ko', 'auth_email_link_guidance','버튼이 동작하지 않다면, 아래 링크를 url에 붙여 인증을 시도하세요'),
+       ('en', 'contact_digest_email_subject','You have new messages about your rooms'),
+       ('ko', 'contact_digest_email_subject','방에 새 문의가 도착했어요'),
+       ('en', 'contact_digest_email_subtitle','Here are the messages you received recently'),
+       ('ko', 'contact_digest_email_subtitle','최근에 받은 문의를 모아 보내드려요'),
        ('en', 'expired_confirmation_token','The confirmation token has expired'),
        ('ko', 'expired_confirmation_token','만료된 확인 토큰입니다'),
        ('en', 'authenticated_confirmation_token','The confirmation token already confirmed'),
@@ -0,0 +1,47 @@
+package com.koliving.api;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.redisson.Redisson;
+import org.redisson.api.RedissonClient;
+import org.redisson.config.Config;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * Lua 스크립트처럼 실제 Redis 에서만 검증할 수 있는 저장소 테스트의 기반 클래스. Docker 가 없으면 건너뛴다.
+ */
+@DisplayName("Redis 컨테이너 테스트 시 상속")
+@Testcontainers(disabledWithoutDocker = true)
+public abstract class BaseRedisTest {
+
+    private static final int REDIS_PORT = 6379;
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7.0-alpine"))
+        .withExposedPorts(REDIS_PORT);
+
+    protected static RedissonClient redissonClient;
+
+    @BeforeAll
+    static void connect() {
+        Config config = new Config();
+        config.useSingleServer()
+            .setAddress("redis://" + REDIS.getHost() + ":" + REDIS.getMappedPort(REDIS_PORT));
+        redissonClient = Redisson.create(config);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        redissonClient.shutdown();
+    }
+
+    @BeforeEach
+    void flush() {
+        redissonClient.getKeys().flushall();
+    }
+}
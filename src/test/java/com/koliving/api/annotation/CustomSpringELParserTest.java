@@ -0,0 +1,36 @@
+package com.koliving.api.annotation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Method;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("락 키 SpEL 파서 테스트")
+class CustomSpringELParserTest {
+
+    @Test
+    @DisplayName("파라미터 이름으로 키를 만들고, 파싱한 표현식을 다른 인자에도 재사용한다")
+    void getDynamicValue() throws NoSuchMethodException {
+        // given
+        Method method = LockTarget.class.getDeclaredMethod("like", Long.class, Member.class);
+
+        // when & then
+        assertThat(CustomSpringELParser.getDynamicValue(method, new Object[]{1L, new Member(2L)}, "'room:' + #roomId"))
+            .isEqualTo("room:1");
+        assertThat(CustomSpringELParser.getDynamicValue(method, new Object[]{1L, new Member(2L)}, "'room:' + #roomId"))
+            .isEqualTo("room:1");
+        assertThat(CustomSpringELParser.getDynamicValue(method, new Object[]{3L, new Member(2L)}, "'room:' + #roomId"))
+            .isEqualTo("room:3");
+    }
+
+    static class LockTarget {
+
+        void like(Long roomId, Member member) {
+        }
+    }
+
+    record Member(Long id) {
+
+    }
+}
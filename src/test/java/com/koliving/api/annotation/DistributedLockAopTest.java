@@ -0,0 +1,140 @@
+package com.koliving.api.annotation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.koliving.api.exception.LockAcquisitionException;
+import com.koliving.api.properties.LockProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.TimeUnit;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+
+@DisplayName("분산 락 AOP 테스트")
+@ExtendWith(MockitoExtension.class)
+class DistributedLockAopTest {
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private AopForTransaction aopForTransaction;
+
+    @Mock
+    private ProceedingJoinPoint joinPoint;
+
+    @Mock
+    private MethodSignature signature;
+
+    @Mock
+    private RLock rLock;
+
+    private SimpleMeterRegistry meterRegistry;
+    private LocalLocks localLocks;
+    private DistributedLockAop distributedLockAop;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        localLocks = new LocalLocks(new LockProperties(true, false));
+        distributedLockAop = new DistributedLockAop(redissonClient, aopForTransaction, localLocks, meterRegistry);
+        when(redissonClient.getLock("LOCK:room:1")).thenReturn(rLock);
+    }
+
+    @Test
+    @DisplayName("락을 얻지 못하면 예외를 던지고 락을 해제하지 않는다")
+    void acquireFailure() throws Throwable {
+        // given
+        given("leased");
+        when(rLock.tryLock(anyLong(), eq(3000L), eq(TimeUnit.MILLISECONDS))).thenReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> distributedLockAop.lock(joinPoint))
+            .isInstanceOf(LockAcquisitionException.class);
+        verify(aopForTransaction, never()).proceed(joinPoint);
+        verify(rLock, never()).unlock();
+        assertThat(meterRegistry.get("distributed.lock.acquire.failures").tag("stage", "redis").counter().count())
+            .isEqualTo(1);
+        assertThat(localLocks.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Redis 락을 얻으면 메서드를 실행하기 전에 로컬 락을 푼다")
+    void releaseLocalBeforeProceed() throws Throwable {
+        // given
+        given("leased");
+        when(rLock.tryLock(anyLong(), eq(3000L), eq(TimeUnit.MILLISECONDS))).thenReturn(true);
+        when(rLock.isHeldByCurrentThread()).thenReturn(true);
+        when(aopForTransaction.proceed(joinPoint)).thenAnswer(invocation -> localLocks.size());
+
+        // when
+        Object retainedDuringProceed = distributedLockAop.lock(joinPoint);
+
+        // then
+        assertThat(retainedDuringProceed).isEqualTo(0);
+        verify(rLock).unlock();
+    }
+
+    @Test
+    @DisplayName("leaseTime 이 -1 이면 watchdog 으로 락을 잡고, 보유 중인 락만 해제한다")
+    void watchdog() throws Throwable {
+        // given
+        given("watched");
+        when(rLock.tryLock(anyLong(), eq(TimeUnit.MILLISECONDS))).thenReturn(true);
+        when(aopForTransaction.proceed(joinPoint)).thenReturn("done");
+        when(rLock.isHeldByCurrentThread()).thenReturn(true);
+
+        // when
+        Object actual = distributedLockAop.lock(joinPoint);
+
+        // then
+        assertThat(actual).isEqualTo("done");
+        verify(rLock).unlock();
+    }
+
+    @Test
+    @DisplayName("실행 중에 만료된 락은 해제하지 않고 만료 횟수를 기록한다")
+    void leaseExpired() throws Throwable {
+        // given
+        given("leased");
+        when(rLock.tryLock(anyLong(), eq(3000L), eq(TimeUnit.MILLISECONDS))).thenReturn(true);
+        when(rLock.isHeldByCurrentThread()).thenReturn(false);
+
+        // when
+        distributedLockAop.lock(joinPoint);
+
+        // then
+        verify(rLock, never()).unlock();
+        assertThat(meterRegistry.get("distributed.lock.lease.expired").counter().count()).isEqualTo(1);
+    }
+
+    private void given(String methodName) throws NoSuchMethodException {
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(signature.getMethod()).thenReturn(LockTarget.class.getDeclaredMethod(methodName, Long.class));
+        when(joinPoint.getArgs()).thenReturn(new Object[]{1L});
+    }
+
+    static class LockTarget {
+
+        @DistributedLock(key = "'room:' + #roomId")
+        void leased(Long roomId) {
+        }
+
+        @DistributedLock(key = "'room:' + #roomId", leaseTime = DistributedLock.WATCHDOG)
+        void watched(Long roomId) {
+        }
+    }
+}
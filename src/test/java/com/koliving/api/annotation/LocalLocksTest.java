@@ -0,0 +1,78 @@
+package com.koliving.api.annotation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.koliving.api.properties.LockProperties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("분산 락 키별 로컬 락 테스트")
+class LocalLocksTest {
+
+    @Test
+    @DisplayName("참조 중인 같은 키는 같은 로컬 락을 사용하고, 다른 키는 다른 락을 사용한다")
+    void sameKey() {
+        // given
+        LocalLocks locks = new LocalLocks(new LockProperties(true, false));
+
+        // when
+        Lock first = locks.retain("LOCK:room:1");
+        Lock second = locks.retain("LOCK:room:1");
+        Lock other = locks.retain("LOCK:room:2");
+
+        // then
+        assertThat(first).isSameAs(second);
+        assertThat(first).isNotSameAs(other);
+    }
+
+    @Test
+    @DisplayName("마지막 참조를 돌려주면 키의 락을 지운다")
+    void release() {
+        // given
+        LocalLocks locks = new LocalLocks(new LockProperties(true, false));
+        Lock first = locks.retain("LOCK:room:1");
+        locks.retain("LOCK:room:1");
+
+        // when
+        locks.release("LOCK:room:1");
+        int retained = locks.size();
+        locks.release("LOCK:room:1");
+
+        // then
+        assertThat(retained).isEqualTo(1);
+        assertThat(locks.size()).isZero();
+        assertThat(locks.retain("LOCK:room:1")).isNotSameAs(first);
+    }
+
+    @Test
+    @DisplayName("로컬 락을 잡은 스레드가 있으면 같은 키의 다른 스레드는 기다린다")
+    void contention() throws Exception {
+        // given
+        LocalLocks locks = new LocalLocks(new LockProperties(true, true));
+        Lock lock = locks.retain("LOCK:room:1");
+        lock.lock();
+
+        try {
+            // when
+            boolean acquired = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return locks.retain("LOCK:room:1").tryLock(10, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                } finally {
+                    locks.release("LOCK:room:1");
+                }
+            }).get();
+
+            // then
+            assertThat(acquired).isFalse();
+        } finally {
+            lock.unlock();
+            locks.release("LOCK:room:1");
+        }
+    }
+}
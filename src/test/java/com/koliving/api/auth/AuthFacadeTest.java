@@ -0,0 +1,147 @@
+package com.koliving.api.auth;
+
+import com.koliving.api.auth.application.dto.TokenRefreshRequest;
+import com.koliving.api.auth.jwt.IJwtService;
+import com.koliving.api.auth.jwt.JwtProvider;
+import com.koliving.api.auth.jwt.JwtVo;
+import com.koliving.api.base.ServiceError;
+import com.koliving.api.base.exception.KolivingServiceException;
+import com.koliving.api.properties.JwtProperties;
+import com.koliving.api.token.confirmation.IConfirmationTokenService;
+import com.koliving.api.user.domain.User;
+import com.koliving.api.user.infra.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AuthFacadeTest {
+
+    private static final String EMAIL = "test@koliving.com";
+    private static final String DEVICE_ID = "device-1";
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private IConfirmationTokenService confirmationTokenService;
+
+    @Mock
+    private IJwtService jwtService;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private JwtProvider jwtProvider;
+    private AuthFacade authFacade;
+
+    @BeforeEach
+    void setUp() {
+        String secret = Base64.getEncoder()
+            .encodeToString("koliving-test-secret-key-for-hmac-sha256".getBytes(StandardCharsets.UTF_8));
+        jwtProvider = new JwtProvider(new JwtProperties("HS256", secret, 1, 14));
+        authFacade = new AuthFacade(userRepository, confirmationTokenService, jwtProvider, jwtService, passwordEncoder,
+            eventPublisher);
+    }
+
+    @Test
+    @DisplayName("logout() 성공 : 액세스 토큰을 블랙리스트에 올리고 같은 기기의 리프레시 세션만 폐기한다")
+    void logout() {
+        // given
+        String accessToken = accessToken(DEVICE_ID);
+
+        // when
+        authFacade.logout(accessToken);
+
+        // then
+        verify(jwtService).registerBlackList(eq(accessToken), any(Date.class));
+        verify(jwtService).revokeRefreshToken(EMAIL, DEVICE_ID);
+        verify(jwtService, never()).deleteRefreshToken(anyString());
+    }
+
+    @Test
+    @DisplayName("logout() 성공 : 기기 식별자가 없는 이전 토큰이면 회원의 모든 리프레시 세션을 폐기한다")
+    void logout_legacy_token() {
+        // given
+        String accessToken = accessToken(null);
+
+        // when
+        authFacade.logout(accessToken);
+
+        // then
+        verify(jwtService).registerBlackList(eq(accessToken), any(Date.class));
+        verify(jwtService).deleteRefreshToken(EMAIL);
+        verify(jwtService, never()).revokeRefreshToken(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("refreshTokens() 실패 : 비활성화된 회원은 리프레시 토큰을 교체하지 않는다")
+    void refreshTokens_fail_disabled() {
+        // given
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(User.builder().email(EMAIL).build()));
+
+        // when & then
+        assertThatThrownBy(() -> authFacade.refreshTokens(new TokenRefreshRequest(refreshToken())))
+            .isInstanceOf(KolivingServiceException.class)
+            .extracting("error")
+            .isEqualTo(ServiceError.INVALID_REFRESH_TOKEN);
+        verify(jwtService, never()).rotateRefreshToken(any(), any());
+    }
+
+    @Test
+    @DisplayName("refreshTokens() 실패 : 잠긴 회원은 리프레시 토큰을 교체하지 않는다")
+    void refreshTokens_fail_locked() {
+        // given
+        User user = User.builder().email(EMAIL).build();
+        user.completeSignUp();
+        ReflectionTestUtils.setField(user, "bLocked", true);
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+
+        // when & then
+        assertThatThrownBy(() -> authFacade.refreshTokens(new TokenRefreshRequest(refreshToken())))
+            .isInstanceOf(KolivingServiceException.class)
+            .extracting("error")
+            .isEqualTo(ServiceError.INVALID_REFRESH_TOKEN);
+        verify(jwtService, never()).rotateRefreshToken(any(), any());
+    }
+
+    private String accessToken(String deviceId) {
+        return jwtProvider.generateAccessToken(
+            JwtVo.builder()
+                .id(1L)
+                .email(EMAIL)
+                .roles(List.of(new SimpleGrantedAuthority("ROLE_USER")))
+                .enabled(true)
+                .deviceId(deviceId)
+                .build()
+        );
+    }
+
+    private String refreshToken() {
+        return jwtProvider.generateRefreshToken(JwtVo.builder().email(EMAIL).deviceId(DEVICE_ID).build());
+    }
+}
@@ -0,0 +1,120 @@
+package com.koliving.api.auth.jwt;
+
+import com.koliving.api.properties.JwtProperties;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtProviderTest {
+
+    private static final String EMAIL = "test@koliving.com";
+
+    private JwtProvider jwtProvider;
+
+    @BeforeEach
+    void setUp() {
+        jwtProvider = new JwtProvider(jwtProperties("koliving-test-secret-key-for-hmac-sha256"));
+    }
+
+    @Test
+    @DisplayName("verify() 성공 : 검증된 토큰에서 클레임을 재사용한다")
+    void verify_success() {
+        // given
+        String accessToken = jwtProvider.generateAccessToken(jwtVo());
+
+        // when
+        VerifiedToken verifiedToken = jwtProvider.verify(accessToken);
+
+        // then
+        assertThat(verifiedToken.getToken()).isEqualTo(accessToken);
+        assertThat(verifiedToken.getEmail()).isEqualTo(EMAIL);
+        assertThat(verifiedToken.getClaims().get("role")).isEqualTo("ROLE_USER");
+        assertThat(verifiedToken.getExpiration()).isInTheFuture();
+        assertThat(verifiedToken.hasPrincipal()).isFalse();
+    }
+
+    @Test
+    @DisplayName("generateAccessToken() 성공 : 회원 정보 클레임으로 인증 주체를 만든다")
+    void generateAccessToken_principal() {
+        // given
+        String accessToken = jwtProvider.generateAccessToken(
+            JwtVo.builder()
+                .id(1L)
+                .email(EMAIL)
+                .roles(List.of(new SimpleGrantedAuthority("ROLE_USER"), new SimpleGrantedAuthority("ROLE_ADMIN")))
+                .enabled(true)
+                .build()
+        );
+
+        // when
+        VerifiedToken verifiedToken = jwtProvider.verify(accessToken);
+
+        // then
+        assertThat(verifiedToken.hasPrincipal()).isTrue();
+        JwtPrincipal principal = verifiedToken.toPrincipal();
+        assertThat(principal.getId()).isEqualTo(1L);
+        assertThat(principal.getUsername()).isEqualTo(EMAIL);
+        assertThat(principal.getAuthorities()).extracting("authority").containsExactly("ROLE_USER", "ROLE_ADMIN");
+        assertThat(principal.isEnabled()).isTrue();
+        assertThat(principal.isAccountNonLocked()).isTrue();
+    }
+
+    @Test
+    @DisplayName("generateAccessToken() 성공 : 로그아웃할 기기를 알 수 있도록 기기 식별자를 싣는다")
+    void generateAccessToken_deviceId() {
+        // given
+        String accessToken = jwtProvider.generateAccessToken(
+            JwtVo.builder()
+                .email(EMAIL)
+                .roles(List.of(new SimpleGrantedAuthority("ROLE_USER")))
+                .deviceId("device-1")
+                .build()
+        );
+
+        // when & then
+        assertThat(jwtProvider.verify(accessToken).getDeviceId()).isEqualTo("device-1");
+        assertThat(jwtProvider.verify(jwtProvider.generateAccessToken(jwtVo())).getDeviceId()).isNull();
+    }
+
+    @Test
+    @DisplayName("verify() 실패 : 다른 키로 서명된 토큰")
+    void verify_fail_signature() {
+        // given
+        JwtProvider otherProvider = new JwtProvider(jwtProperties("another-secret-key-for-hmac-sha256-signing"));
+        String accessToken = otherProvider.generateAccessToken(jwtVo());
+
+        // when & then
+        assertThatThrownBy(() -> jwtProvider.verify(accessToken))
+            .isInstanceOf(JwtException.class)
+            .hasMessage("signature_invalid_token");
+    }
+
+    @Test
+    @DisplayName("verify() 실패 : 형식이 잘못된 토큰")
+    void verify_fail_malformed() {
+        assertThatThrownBy(() -> jwtProvider.verify("bm90LWpzb24.e30.c2ln"))
+            .isInstanceOf(JwtException.class)
+            .hasMessage("malformed_token");
+    }
+
+    private JwtProperties jwtProperties(String secret) {
+        String encoded = Base64.getEncoder().encodeToString(secret.getBytes(StandardCharsets.UTF_8));
+        return new JwtProperties("HS256", encoded, 1, 14);
+    }
+
+    private JwtVo jwtVo() {
+        return JwtVo.builder()
+            .email(EMAIL)
+            .roles(List.of(new SimpleGrantedAuthority("ROLE_USER")))
+            .build();
+    }
+}
@@ -0,0 +1,162 @@
+package com.koliving.api.auth.jwt;
+
+import com.koliving.api.properties.JwtProperties;
+import com.koliving.api.token.TokenDigest;
+import com.koliving.api.token.blacklist.BlackListFilter;
+import com.koliving.api.token.blacklist.BlackListRepository;
+import com.koliving.api.token.refresh.RefreshToken;
+import com.koliving.api.token.refresh.RefreshTokenRepository;
+import com.koliving.api.token.refresh.RefreshTokenRotation;
+import com.koliving.api.user.domain.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class JwtServiceTest {
+
+    private static final String EMAIL = "test@koliving.com";
+
+    @Mock
+    private UserDetailsService userService;
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Mock
+    private BlackListRepository blackListRepository;
+
+    @Mock
+    private BlackListFilter blackListFilter;
+
+    private JwtProvider jwtProvider;
+    private JwtService jwtService;
+
+    @BeforeEach
+    void setUp() {
+        String secret = Base64.getEncoder()
+            .encodeToString("koliving-test-secret-key-for-hmac-sha256".getBytes(StandardCharsets.UTF_8));
+        jwtProvider = new JwtProvider(new JwtProperties("HS256", secret, 1, 14));
+        jwtService = new JwtService(userService, refreshTokenRepository, blackListRepository, blackListFilter, jwtProvider);
+    }
+
+    @Test
+    @DisplayName("createAuthentication() 성공 : 토큰 클레임으로 인증 주체를 만들고 회원을 조회하지 않는다")
+    void createAuthentication_from_claims() {
+        // given
+        String accessToken = jwtProvider.generateAccessToken(
+            JwtVo.builder()
+                .id(1L)
+                .email(EMAIL)
+                .roles(List.of(new SimpleGrantedAuthority("ROLE_USER")))
+                .enabled(true)
+                .build()
+        );
+
+        // when
+        Authentication authentication = jwtService.createAuthentication(jwtProvider.verify(accessToken));
+
+        // then
+        assertThat(authentication.getPrincipal()).isInstanceOf(JwtPrincipal.class);
+        assertThat(((JwtPrincipal) authentication.getPrincipal()).getId()).isEqualTo(1L);
+        assertThat(authentication.getAuthorities()).extracting("authority").containsExactly("ROLE_USER");
+        verify(userService, never()).loadUserByUsername(anyString());
+    }
+
+    @Test
+    @DisplayName("createAuthentication() 성공 : 회원 정보 클레임이 없는 이전 토큰은 회원을 조회한다")
+    void createAuthentication_legacy_token() {
+        // given
+        User user = User.builder().email(EMAIL).build();
+        ReflectionTestUtils.setField(user, "id", 2L);
+        when(userService.loadUserByUsername(EMAIL)).thenReturn(user);
+
+        String accessToken = jwtProvider.generateAccessToken(
+            JwtVo.builder()
+                .email(EMAIL)
+                .roles(List.of(new SimpleGrantedAuthority("ROLE_USER")))
+                .build()
+        );
+
+        // when
+        Authentication authentication = jwtService.createAuthentication(jwtProvider.verify(accessToken));
+
+        // then
+        assertThat(((JwtPrincipal) authentication.getPrincipal()).getId()).isEqualTo(2L);
+        assertThat(authentication.getName()).isEqualTo(EMAIL);
+    }
+
+    @Test
+    @DisplayName("isBlackList() 성공 : 필터에 없는 토큰은 Redis 를 조회하지 않는다")
+    void isBlackList_filter_miss() {
+        // given
+        when(blackListFilter.mightContain(TokenDigest.of("token"))).thenReturn(false);
+
+        // when
+        boolean actual = jwtService.isBlackList("token");
+
+        // then
+        assertThat(actual).isFalse();
+        verify(blackListRepository, never()).existByToken(anyString());
+    }
+
+    @Test
+    @DisplayName("isBlackList() 성공 : 필터에 있으면 Redis 로 확인한다")
+    void isBlackList_filter_hit() {
+        // given
+        when(blackListFilter.mightContain(TokenDigest.of("token"))).thenReturn(true);
+        when(blackListRepository.existByToken("token")).thenReturn(true);
+
+        // when
+        boolean actual = jwtService.isBlackList("token");
+
+        // then
+        assertThat(actual).isTrue();
+    }
+
+    @Test
+    @DisplayName("isBlackListAsync() 성공 : 필터에 없는 토큰은 Redis 를 조회하지 않고 바로 완료한다")
+    void isBlackListAsync_filter_miss() {
+        // given
+        when(blackListFilter.mightContain(TokenDigest.of("token"))).thenReturn(false);
+
+        // when
+        boolean actual = jwtService.isBlackListAsync("token").toCompletableFuture().join();
+
+        // then
+        assertThat(actual).isFalse();
+        verify(blackListRepository, never()).existByTokenAsync(anyString());
+    }
+
+    @Test
+    @DisplayName("rotateRefreshToken() 성공 : 저장소의 교체 결과를 반환한다")
+    void rotateRefreshToken() {
+        // given
+        RefreshToken presented = new RefreshToken(EMAIL, "device-1", "old");
+        RefreshToken next = new RefreshToken(EMAIL, "device-1", "new");
+        when(refreshTokenRepository.rotate(presented, next)).thenReturn(RefreshTokenRotation.REUSED);
+
+        // when
+        RefreshTokenRotation actual = jwtService.rotateRefreshToken(presented, next);
+
+        // then
+        assertThat(actual).isEqualTo(RefreshTokenRotation.REUSED);
+    }
+}
@@ -0,0 +1,92 @@
+package com.koliving.api.catalog.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.koliving.api.location.application.dto.LocationResponse;
+import com.koliving.api.location.domain.Location;
+import com.koliving.api.location.domain.LocationType;
+import com.koliving.api.room.application.dto.FurnishingResponse;
+import com.koliving.api.room.domain.Furnishing;
+import com.koliving.api.room.domain.FurnishingType;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DisplayName("지역/가구 스냅샷 테스트")
+class CatalogSnapshotTest {
+
+    private CatalogSnapshot snapshot;
+
+    @BeforeEach
+    void setUp() {
+        final Location seongdong = location(1L, Location.valueOf("seongdong", LocationType.GU));
+        final Location seongsu = location(2L, Location.valueOf("seongsu", LocationType.DONG, seongdong));
+        final Location oksu = location(3L, Location.valueOf("oksu", LocationType.DONG, seongdong));
+        final Furnishing tv = furnishing(10L, Furnishing.valueOf(FurnishingType.TV));
+        final Furnishing bed = furnishing(11L, Furnishing.valueOf(FurnishingType.BED));
+
+        snapshot = CatalogSnapshot.of(7L, List.of(oksu, seongsu, seongdong), List.of(bed, tv));
+    }
+
+    @Test
+    @DisplayName("지역을 id 로 조회한다")
+    void findLocation() {
+        // when
+        LocationResponse actual = snapshot.findLocation(2L).orElseThrow();
+
+        // then
+        assertThat(actual.name()).isEqualTo("seongsu");
+        assertThat(actual.upperLocation().id()).isEqualTo(1L);
+        assertThat(snapshot.findLocation(99L)).isEmpty();
+        assertThat(snapshot.version()).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("상위 지역별 하위 지역 id 를 조회한다")
+    void childrenOf() {
+        assertThat(snapshot.childrenOf(1L)).containsExactly(2L, 3L);
+        assertThat(snapshot.childrenOf(2L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("상위 지역 id 는 하위 지역 id 를 포함하도록 확장된다")
+    void expandLocationIds() {
+        assertThat(snapshot.expandLocationIds(List.of(1L))).containsExactly(1L, 2L, 3L);
+        assertThat(snapshot.expandLocationIds(List.of(3L, 1L))).containsExactly(3L, 1L, 2L);
+        assertThat(snapshot.expandLocationIds(List.of(2L))).containsExactly(2L);
+        assertThat(snapshot.expandLocationIds(List.of(99L))).containsExactly(99L);
+    }
+
+    @Test
+    @DisplayName("목록은 id 순으로 정렬된다")
+    void sortedLists() {
+        assertThat(snapshot.locations()).extracting(LocationResponse::id).containsExactly(1L, 2L, 3L);
+        assertThat(snapshot.furnishings()).extracting(FurnishingResponse::id).containsExactly(10L, 11L);
+    }
+
+    @Test
+    @DisplayName("가구를 id 로 조회한다")
+    void findFurnishing() {
+        assertThat(snapshot.findFurnishing(10L)).map(FurnishingResponse::id).contains(10L);
+        assertThat(snapshot.findFurnishing(12L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("모든 가구 id 가 존재하는지 확인한다")
+    void containsFurnishings() {
+        assertThat(snapshot.containsFurnishings(List.of(10L, 11L))).isTrue();
+        assertThat(snapshot.containsFurnishings(List.of(10L, 12L))).isFalse();
+    }
+
+    private Location location(Long id, Location location) {
+        ReflectionTestUtils.setField(location, "id", id);
+        return location;
+    }
+
+    private Furnishing furnishing(Long id, Furnishing furnishing) {
+        ReflectionTestUtils.setField(furnishing, "id", id);
+        return furnishing;
+    }
+}
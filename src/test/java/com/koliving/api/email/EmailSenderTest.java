@@ -0,0 +1,68 @@
+package com.koliving.api.email;
+
+import com.koliving.api.properties.EmailProperties;
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mail.javamail.JavaMailSender;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.internal.verification.VerificationModeFactory.times;
+
+@ExtendWith(MockitoExtension.class)
+class EmailSenderTest {
+
+    @Mock
+    private JavaMailSender mailSender;
+
+    @Mock
+    private EmailTemplateUtil emailTemplateUtil;
+
+    @Mock
+    private EmailProperties emailProperties;
+
+    private EmailSender emailSender;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        emailSender = new EmailSender(mailSender, emailTemplateUtil, new EmailLogo(), emailProperties);
+    }
+
+    @Test
+    @DisplayName("sendEmail : 캐시된 템플릿과 미리 인코딩한 로고로 메일을 만들어 SMTP 서버에 요청한다")
+    public void sendEmail_success() throws Exception {
+        EmailTemplate template = EmailTemplate.compile(MailType.AUTH, "test subject", Map.of(),
+            model -> "<img src=\"cid:logo\"/>" + model.get("authEmailLink"));
+        Map<String, Object> variables = Map.of("authEmailLink", "testLink");
+
+        when(emailProperties.getUsername()).thenReturn("from@test.com");
+        when(mailSender.createMimeMessage()).thenReturn(new MimeMessage(Session.getInstance(new Properties())));
+        when(emailTemplateUtil.getTemplate(MailType.AUTH, Locale.KOREAN)).thenReturn(template);
+        when(emailTemplateUtil.render(template, variables)).thenReturn(template.render(variables));
+
+        emailSender.send(MailType.AUTH, "to@test.com", Locale.KOREAN, variables);
+
+        ArgumentCaptor<MimeMessage> captor = ArgumentCaptor.forClass(MimeMessage.class);
+        verify(mailSender, times(1)).send(captor.capture());
+        MimeMessage actual = captor.getValue();
+        ByteArrayOutputStream raw = new ByteArrayOutputStream();
+        actual.writeTo(raw);
+
+        assertThat(actual.getSubject()).isEqualTo("test subject");
+        assertThat(raw.toString()).contains("Content-ID: <logo>", "Content-Transfer-Encoding: base64", "testLink");
+    }
+}
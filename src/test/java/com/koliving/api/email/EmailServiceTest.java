@@ -1,60 +1,66 @@
 package com.koliving.api.email;
 
-import com.koliving.api.properties.EmailProperties;
-import jakarta.mail.Session;
-import jakarta.mail.internet.MimeMessage;
-import org.junit.jupiter.api.Disabled;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.koliving.api.clock.IClock;
+import com.koliving.api.email.outbox.EmailOutbox;
+import com.koliving.api.email.outbox.EmailOutboxRepository;
+import com.koliving.api.email.outbox.EmailOutboxStatus;
+import com.koliving.api.utils.HttpUtils;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.context.MessageSource;
-import org.springframework.mail.MailException;
-import org.springframework.mail.javamail.JavaMailSender;
 
-import java.util.Properties;
+import java.time.LocalDateTime;
+import java.util.Locale;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
-import static org.mockito.internal.verification.VerificationModeFactory.times;
 
 @ExtendWith(MockitoExtension.class)
 class EmailServiceTest {
 
     @Mock
-    private JavaMailSender mailSender;
+    private EmailOutboxRepository emailOutboxRepository;
 
     @Mock
-    private MessageSource messageSource;
+    private HttpUtils httpUtils;
 
     @Mock
-    private EmailTemplateUtil emailTemplateUtil;
+    private IClock clock;
 
-    @Mock
-    private EmailProperties emailProperties;
-
-    @InjectMocks
     private EmailService emailService;
 
-    @Disabled
-    @Test
-    @DisplayName("sendEmail : SMTP 서버 요청 성공여부 확인")
-    public void sendEmail_success() throws MailException {
-        Properties properties = new Properties();
-        Session session = Session.getDefaultInstance(properties, null);
-        MimeMessage mimeMessage = new MimeMessage(session);
+    @BeforeEach
+    void setUp() {
+        emailService = new EmailService(emailOutboxRepository, new ObjectMapper(), httpUtils, clock);
+    }
 
-        when(emailProperties.getUsername()).thenReturn("from@test.com");
-        when(mailSender.createMimeMessage()).thenReturn(mimeMessage);
-        when(messageSource.getMessage(anyString(), any(), any())).thenReturn("test");
-        when(emailTemplateUtil.generateEmail(any(), any())).thenReturn("test");
+    @Test
+    @DisplayName("send() 성공 : SMTP 로 바로 보내지 않고 아웃박스에 저장한다")
+    void send() {
+        // given
+        LocalDateTime now = LocalDateTime.of(2023, 10, 17, 12, 0);
+        when(httpUtils.getLocaleForLanguage(any())).thenReturn(Locale.KOREAN);
+        when(clock.now()).thenReturn(now);
 
+        // when
         emailService.send(MailType.AUTH, "to@test.com", "testLink");
 
-        verify(mailSender, times(1)).send(any(MimeMessage.class));
+        // then
+        ArgumentCaptor<EmailOutbox> captor = ArgumentCaptor.forClass(EmailOutbox.class);
+        verify(emailOutboxRepository).save(captor.capture());
+        EmailOutbox actual = captor.getValue();
+        assertThat(actual.getType()).isEqualTo(MailType.AUTH);
+        assertThat(actual.getRecipient()).isEqualTo("to@test.com");
+        assertThat(actual.toLocale()).isEqualTo(Locale.KOREAN);
+        assertThat(actual.getVariables()).isEqualTo("{\"authEmailLink\":\"testLink\"}");
+        assertThat(actual.getStatus()).isEqualTo(EmailOutboxStatus.PENDING);
+        assertThat(actual.getNextAttemptAt()).isEqualTo(now);
     }
 }
@@ -0,0 +1,123 @@
+package com.koliving.api.email;
+
+import com.koliving.api.properties.EmailTemplateProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.StaticMessageSource;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("메일 템플릿 캐시 테스트")
+class EmailTemplateUtilTest {
+
+    private StaticMessageSource messageSource;
+    private EmailTemplateUtil emailTemplateUtil;
+
+    @BeforeEach
+    void setUp() {
+        ClassLoaderTemplateResolver templateResolver = new ClassLoaderTemplateResolver();
+        templateResolver.setPrefix("templates/");
+        templateResolver.setSuffix(".html");
+        templateResolver.setTemplateMode(TemplateMode.HTML);
+        templateResolver.setCharacterEncoding("UTF-8");
+
+        SpringTemplateEngine templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(templateResolver);
+
+        messageSource = spy(new StaticMessageSource());
+        messageSource.addMessage("auth_email_subject", Locale.KOREAN, "이메일 인증을 완료하세요");
+        messageSource.addMessage("auth_email_subtitle", Locale.KOREAN, "아래 링크를 클릭하셔서 인증을 진행하세요");
+        messageSource.addMessage("auth_email_link_guidance", Locale.KOREAN, "버튼이 동작하지 않다면 <링크> 를 붙여 넣으세요");
+        messageSource.addMessage("contact_email_subject", Locale.ENGLISH, "You have a new message");
+        messageSource.addMessage("contact_email_subtitle", Locale.ENGLISH, "Someone is interested in your room");
+
+        emailTemplateUtil = new EmailTemplateUtil(templateEngine, messageSource,
+            new EmailTemplateProperties(100, Duration.ofMinutes(10)), new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("캐시된 조각으로 만든 인증 메일은 Thymeleaf 로 직접 렌더링한 결과와 같다")
+    void render_auth() {
+        // given
+        Map<String, Object> variables = Map.of("authEmailLink", "https://koliving.com/confirm?token=a&b=\"c\"");
+        EmailTemplate template = emailTemplateUtil.getTemplate(MailType.AUTH, Locale.KOREAN);
+
+        // when
+        String actual = emailTemplateUtil.render(template, variables);
+
+        // then
+        assertThat(template.getSubject()).isEqualTo("이메일 인증을 완료하세요");
+        assertThat(actual).isEqualTo(emailTemplateUtil.generateEmail(MailType.AUTH, template.model(variables)));
+    }
+
+    @Test
+    @DisplayName("캐시된 조각으로 만든 문의 메일은 Thymeleaf 로 직접 렌더링한 결과와 같다")
+    void render_contact() {
+        // given
+        Map<String, Object> variables = contactVariables();
+        EmailTemplate template = emailTemplateUtil.getTemplate(MailType.CONTACT, Locale.ENGLISH);
+
+        // when
+        String actual = emailTemplateUtil.render(template, variables);
+
+        // then
+        assertThat(actual).isEqualTo(emailTemplateUtil.generateEmail(MailType.CONTACT, template.model(variables)));
+        assertThat(actual).contains("&lt;script&gt;alert(&#39;hi&#39;)&lt;/script&gt;");
+    }
+
+    @Test
+    @DisplayName("값이 없는 변수가 있으면 Thymeleaf 로 직접 렌더링한다")
+    void render_fallback() {
+        // given
+        Map<String, Object> variables = contactVariables();
+        variables.put("userImageProfile", null);
+        EmailTemplate template = emailTemplateUtil.getTemplate(MailType.CONTACT, Locale.ENGLISH);
+
+        // when
+        String actual = emailTemplateUtil.render(template, variables);
+
+        // then
+        assertThat(template.isRenderable(variables)).isFalse();
+        assertThat(actual).isEqualTo(emailTemplateUtil.generateEmail(MailType.CONTACT, template.model(variables)));
+    }
+
+    @Test
+    @DisplayName("메일 종류와 언어별 문구는 한 번만 조회한다")
+    void getTemplate_cached() {
+        // when
+        EmailTemplate first = emailTemplateUtil.getTemplate(MailType.AUTH, Locale.KOREAN);
+        EmailTemplate second = emailTemplateUtil.getTemplate(MailType.AUTH, Locale.KOREAN);
+
+        // then
+        assertThat(second).isSameAs(first);
+        verify(messageSource, times(1)).getMessage(eq("auth_email_subject"), any(), any(Locale.class));
+    }
+
+    private Map<String, Object> contactVariables() {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("contact", "+82 10-0000-0000");
+        variables.put("message", "<script>alert('hi')</script> 방 보러 가도 될까요?");
+        variables.put("roomLink", "https://koliving.com/rooms/1?from=mail&lang=en");
+        variables.put("userName", "Tom & Jerry");
+        variables.put("userAge", 27);
+        variables.put("userImageProfile", "https://koliving.com/images/profile.png");
+        variables.put("userGender", "MALE");
+        variables.put("userDescription", "\"quiet\" tenant");
+        return variables;
+    }
+}
@@ -0,0 +1,82 @@
+package com.koliving.api.email.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.koliving.api.clock.IClock;
+import com.koliving.api.email.MailType;
+import com.koliving.api.properties.RoomContactProperties;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@DisplayName("방 연락 다이제스트 테스트")
+@ExtendWith(MockitoExtension.class)
+class ContactDigestJobTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2023, 10, 18, 12, 0);
+
+    @Mock
+    private EmailOutboxRepository emailOutboxRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private IClock clock;
+
+    @Test
+    @DisplayName("보류된 연락 메일을 수신자와 언어별로 묶어 다이제스트 메일을 만든다")
+    void digest() {
+        // given
+        EmailOutbox first = held("host@koliving.com", Locale.ENGLISH, "{\"message\":\"first\"}");
+        EmailOutbox second = held("other@koliving.com", Locale.KOREAN, "{\"message\":\"second\"}");
+        EmailOutbox third = held("host@koliving.com", Locale.ENGLISH, "{\"message\":\"third\"}");
+
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(clock.now()).thenReturn(NOW);
+        when(emailOutboxRepository.findDispatchable(eq(EmailOutboxStatus.HELD), eq(NOW), any()))
+            .thenReturn(List.of(first, second, third));
+
+        ContactDigestJob job = new ContactDigestJob(emailOutboxRepository, new TransactionTemplate(transactionManager),
+            new RoomContactProperties(Duration.ofSeconds(30), 5, Duration.ofMinutes(1), 3, Duration.ofHours(1), 500),
+            new ObjectMapper(), clock);
+
+        // when
+        job.digest();
+
+        // then
+        ArgumentCaptor<EmailOutbox> captor = ArgumentCaptor.forClass(EmailOutbox.class);
+        verify(emailOutboxRepository, times(2)).save(captor.capture());
+        List<EmailOutbox> digests = captor.getAllValues();
+
+        assertThat(digests).extracting(EmailOutbox::getType).containsOnly(MailType.CONTACT_DIGEST);
+        assertThat(digests).extracting(EmailOutbox::getStatus).containsOnly(EmailOutboxStatus.PENDING);
+        assertThat(digests.get(0).getRecipient()).isEqualTo("host@koliving.com");
+        assertThat(digests.get(0).getVariables())
+            .isEqualTo("{\"contacts\":[{\"message\":\"first\"},{\"message\":\"third\"}]}");
+        assertThat(digests.get(1).getRecipient()).isEqualTo("other@koliving.com");
+        assertThat(digests.get(1).toLocale()).isEqualTo(Locale.KOREAN);
+        assertThat(List.of(first, second, third)).extracting(EmailOutbox::getStatus)
+            .containsOnly(EmailOutboxStatus.DIGESTED);
+    }
+
+    private EmailOutbox held(String recipient, Locale locale, String variables) {
+        return EmailOutbox.held(MailType.CONTACT, recipient, locale, variables, NOW.minusMinutes(5));
+    }
+}
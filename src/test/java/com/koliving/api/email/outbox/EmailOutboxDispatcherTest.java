@@ -0,0 +1,95 @@
+package com.koliving.api.email.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.koliving.api.clock.IClock;
+import com.koliving.api.email.EmailSender;
+import com.koliving.api.email.MailType;
+import com.koliving.api.properties.EmailOutboxProperties;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mail.MailSendException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@DisplayName("메일 아웃박스 디스패처 테스트")
+@ExtendWith(MockitoExtension.class)
+class EmailOutboxDispatcherTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2023, 10, 17, 12, 0);
+
+    @Mock
+    private EmailOutboxRepository emailOutboxRepository;
+
+    @Mock
+    private EmailSender emailSender;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private IClock clock;
+
+    private EmailOutbox outbox;
+    private EmailOutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(clock.now()).thenReturn(NOW);
+
+        outbox = EmailOutbox.of(MailType.AUTH, "test@koliving.com", Locale.KOREAN, "{\"authEmailLink\":\"link\"}", NOW);
+        ReflectionTestUtils.setField(outbox, "id", 1L);
+        when(emailOutboxRepository.findDispatchable(eq(EmailOutboxStatus.PENDING), eq(NOW), any())).thenReturn(List.of(outbox));
+        when(emailOutboxRepository.findById(1L)).thenReturn(Optional.of(outbox));
+
+        dispatcher = new EmailOutboxDispatcher(emailOutboxRepository, emailSender, new TransactionTemplate(transactionManager),
+            Runnable::run, new EmailOutboxProperties(20, Duration.ofMinutes(5), 3, Duration.ofSeconds(30), Duration.ofHours(1)),
+            new ObjectMapper(), clock);
+    }
+
+    @Test
+    @DisplayName("선점한 메일을 발송하고 발송 완료로 기록한다")
+    void dispatch() {
+        // when
+        dispatcher.dispatch();
+
+        // then
+        verify(emailSender).send(MailType.AUTH, "test@koliving.com", Locale.KOREAN, Map.of("authEmailLink", "link"));
+        assertThat(outbox.getStatus()).isEqualTo(EmailOutboxStatus.SENT);
+    }
+
+    @Test
+    @DisplayName("발송에 실패하면 백오프 후 다시 시도하도록 기록한다")
+    void dispatch_failure() {
+        // given
+        doThrow(new MailSendException("smtp timeout")).when(emailSender).send(any(), any(), any(), any());
+
+        // when
+        dispatcher.dispatch();
+
+        // then
+        assertThat(outbox.getStatus()).isEqualTo(EmailOutboxStatus.PENDING);
+        assertThat(outbox.getAttempts()).isEqualTo(1);
+        assertThat(outbox.getNextAttemptAt()).isEqualTo(NOW.plusSeconds(30));
+        assertThat(outbox.getLastError()).contains("smtp timeout");
+    }
+}
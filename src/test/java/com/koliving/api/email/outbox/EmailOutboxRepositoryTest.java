@@ -0,0 +1,46 @@
+package com.koliving.api.email.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.koliving.api.BaseDataJpaTest;
+import com.koliving.api.email.MailType;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+
+@DisplayName("메일 아웃박스 리포지토리 테스트")
+class EmailOutboxRepositoryTest extends BaseDataJpaTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2023, 10, 17, 12, 0);
+
+    @Autowired
+    private EmailOutboxRepository emailOutboxRepository;
+
+    @Test
+    @DisplayName("발송 시각이 지난 대기 메일을 id 순서로 배치 크기만큼 조회한다")
+    void findDispatchable() {
+        // given
+        EmailOutbox first = emailOutboxRepository.save(outbox(NOW.minusMinutes(2)));
+        EmailOutbox second = emailOutboxRepository.save(outbox(NOW.minusMinutes(1)));
+        emailOutboxRepository.save(outbox(NOW.minusMinutes(1)));
+        emailOutboxRepository.save(outbox(NOW.plusMinutes(1)));
+
+        EmailOutbox sent = outbox(NOW.minusMinutes(3));
+        sent.sent(NOW);
+        emailOutboxRepository.save(sent);
+
+        // when
+        List<EmailOutbox> actual = emailOutboxRepository.findDispatchable(EmailOutboxStatus.PENDING, NOW, PageRequest.of(0, 2));
+
+        // then
+        assertThat(actual).containsExactly(first, second);
+    }
+
+    private EmailOutbox outbox(LocalDateTime nextAttemptAt) {
+        return EmailOutbox.of(MailType.AUTH, "test@koliving.com", Locale.KOREAN, "{\"authEmailLink\":\"link\"}", nextAttemptAt);
+    }
+}
@@ -0,0 +1,68 @@
+package com.koliving.api.email.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.koliving.api.email.MailType;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("메일 아웃박스 테스트")
+class EmailOutboxTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2023, 10, 17, 12, 0);
+
+    @Test
+    @DisplayName("실패할 때마다 재시도 간격을 두 배씩 늘리고 최대 간격을 넘지 않는다")
+    void failed_backoff() {
+        // given
+        EmailOutbox outbox = EmailOutbox.of(MailType.AUTH, "test@koliving.com", Locale.KOREAN, "{}", NOW);
+
+        // when & then
+        outbox.failed("timeout", NOW, 10, Duration.ofSeconds(30), Duration.ofMinutes(2));
+        assertThat(outbox.getNextAttemptAt()).isEqualTo(NOW.plusSeconds(30));
+
+        outbox.failed("timeout", NOW, 10, Duration.ofSeconds(30), Duration.ofMinutes(2));
+        assertThat(outbox.getNextAttemptAt()).isEqualTo(NOW.plusSeconds(60));
+
+        outbox.failed("timeout", NOW, 10, Duration.ofSeconds(30), Duration.ofMinutes(2));
+        outbox.failed("timeout", NOW, 10, Duration.ofSeconds(30), Duration.ofMinutes(2));
+        assertThat(outbox.getNextAttemptAt()).isEqualTo(NOW.plusMinutes(2));
+        assertThat(outbox.getAttempts()).isEqualTo(4);
+        assertThat(outbox.getStatus()).isEqualTo(EmailOutboxStatus.PENDING);
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수만큼 실패하면 발송을 포기한다")
+    void failed_exhausted() {
+        // given
+        EmailOutbox outbox = EmailOutbox.of(MailType.AUTH, "test@koliving.com", Locale.KOREAN, "{}", NOW);
+
+        // when
+        outbox.failed("timeout", NOW, 2, Duration.ofSeconds(30), Duration.ofMinutes(2));
+        outbox.failed("x".repeat(1000), NOW, 2, Duration.ofSeconds(30), Duration.ofMinutes(2));
+
+        // then
+        assertThat(outbox.getStatus()).isEqualTo(EmailOutboxStatus.FAILED);
+        assertThat(outbox.getLastError()).hasSize(500);
+    }
+
+    @Test
+    @DisplayName("발송에 성공하면 오류를 지우고 발송 시각을 기록한다")
+    void sent() {
+        // given
+        EmailOutbox outbox = EmailOutbox.of(MailType.CONTACT, "test@koliving.com", Locale.ENGLISH, "{}", NOW);
+        outbox.failed("timeout", NOW, 3, Duration.ofSeconds(30), Duration.ofMinutes(2));
+
+        // when
+        outbox.sent(NOW.plusMinutes(1));
+
+        // then
+        assertThat(outbox.getStatus()).isEqualTo(EmailOutboxStatus.SENT);
+        assertThat(outbox.getSentAt()).isEqualTo(NOW.plusMinutes(1));
+        assertThat(outbox.getLastError()).isNull();
+        assertThat(outbox.toLocale()).isEqualTo(Locale.ENGLISH);
+    }
+}
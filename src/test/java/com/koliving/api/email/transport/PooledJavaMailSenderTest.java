@@ -0,0 +1,145 @@
+package com.koliving.api.email.transport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.koliving.api.properties.MailTransportPoolProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.SimpleMailMessage;
+
+@DisplayName("SMTP 연결 풀 테스트")
+class PooledJavaMailSenderTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PooledJavaMailSender mailSender;
+
+    @AfterEach
+    void tearDown() {
+        mailSender.destroy();
+    }
+
+    @Test
+    @DisplayName("여러 메일을 보내도 연결을 한 번만 맺고 재사용한다")
+    void reuse() {
+        // given
+        mailSender = mailSender(2, Duration.ofHours(1));
+
+        // when
+        mailSender.send(message("first"));
+        mailSender.send(message("second"));
+        mailSender.send(message("third"), message("fourth"));
+
+        // then
+        assertThat(greenMail.getReceivedMessages()).hasSize(4);
+        assertThat(created()).isEqualTo(1);
+        assertThat(meterRegistry.get("mail.transport.pool.connections").tag("state", "idle").gauge().value())
+            .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("동시에 보내도 연결 수가 최대 연결 수를 넘지 않는다")
+    void maxConnections() throws Exception {
+        // given
+        mailSender = mailSender(2, Duration.ofHours(1));
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        // when
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            String subject = "message-" + i;
+            futures.add(executor.submit(() -> mailSender.send(message(subject))));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(greenMail.getReceivedMessages()).hasSize(20);
+        assertThat(created()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("오래 쉰 연결은 꺼낼 때 확인하고, 끊긴 연결은 버리고 새로 맺는다")
+    void stale() throws MessagingException {
+        // given
+        mailSender = mailSender(2, Duration.ZERO);
+        mailSender.send(message("before restart"));
+
+        // when
+        greenMail.reset();
+        mailSender.send(message("after restart"));
+
+        // then
+        assertThat(subjects()).contains("after restart");
+        assertThat(created()).isEqualTo(2);
+        assertThat(meterRegistry.get("mail.transport.pool.connections.closed").tag("reason", "stale").counter().count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("확인하지 않고 꺼낸 연결이 끊겨 있으면 새 연결로 한 번 다시 보낸다")
+    void broken() throws MessagingException {
+        // given
+        mailSender = mailSender(2, Duration.ofHours(1));
+        mailSender.send(message("before restart"));
+
+        // when
+        greenMail.reset();
+        mailSender.send(message("after restart"));
+
+        // then
+        assertThat(subjects()).contains("after restart");
+        assertThat(created()).isEqualTo(2);
+        assertThat(meterRegistry.get("mail.transport.pool.connections.closed").tag("reason", "broken").counter().count())
+            .isEqualTo(1);
+    }
+
+    private PooledJavaMailSender mailSender(int maxConnections, Duration validateAfterIdle) {
+        PooledJavaMailSender sender = new PooledJavaMailSender(
+            new MailTransportPoolProperties(true, maxConnections, 100, Duration.ofHours(1), validateAfterIdle, Duration.ofSeconds(10)),
+            meterRegistry
+        );
+        sender.setHost(ServerSetupTest.SMTP.getBindAddress());
+        sender.setPort(ServerSetupTest.SMTP.getPort());
+        return sender;
+    }
+
+    private SimpleMailMessage message(String subject) {
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setFrom("koliving@localhost");
+        message.setTo("user@localhost");
+        message.setSubject(subject);
+        message.setText(subject);
+        return message;
+    }
+
+    private double created() {
+        return meterRegistry.get("mail.transport.pool.connections.created").counter().count();
+    }
+
+    private List<String> subjects() throws MessagingException {
+        List<String> subjects = new ArrayList<>();
+        for (MimeMessage received : Arrays.asList(greenMail.getReceivedMessages())) {
+            subjects.add(received.getSubject());
+        }
+        return subjects;
+    }
+}
@@ -0,0 +1,90 @@
+package com.koliving.api.executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+
+@DisplayName("가상 스레드 실행기 테스트")
+class BoundedVirtualThreadExecutorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private BoundedVirtualThreadExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        executor = new BoundedVirtualThreadExecutor("mailExecutor", 2, Duration.ofMillis(200), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("작업을 가상 스레드에서 실행한다")
+    void execute() throws Exception {
+        // when
+        Future<Boolean> actual = executor.submit(() -> Thread.currentThread().isVirtual());
+
+        // then
+        assertThat(actual.get(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("동시 실행 수가 한도에 이르면 작업을 거절하고, 작업이 끝나면 다시 받는다")
+    void maxConcurrency() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        Future<?> first = executor.submit(() -> await(release));
+        Future<?> second = executor.submit(() -> await(release));
+
+        // when & then
+        assertThat(inFlight()).isEqualTo(2);
+        assertThatThrownBy(() -> executor.execute(() -> {
+        })).isInstanceOf(TaskRejectedException.class);
+        assertThat(meterRegistry.get("async.executor.rejected").tag("name", "mailExecutor").counter().count())
+            .isEqualTo(1);
+
+        release.countDown();
+        first.get(1, TimeUnit.SECONDS);
+        second.get(1, TimeUnit.SECONDS);
+        Future<Boolean> third = executor.submit(() -> true);
+        assertThat(third.get(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("작업이 예외로 끝나도 실행 자리를 돌려준다")
+    void releaseOnFailure() throws Exception {
+        // given
+        Future<?> failed = executor.submit((Runnable) () -> {
+            throw new IllegalStateException("boom");
+        });
+        Future<?> failedAgain = executor.submit((Runnable) () -> {
+            throw new IllegalStateException("boom");
+        });
+
+        // when
+        assertThatThrownBy(() -> failed.get(1, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> failedAgain.get(1, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class);
+
+        // then
+        assertThat(executor.submit(() -> true).get(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private double inFlight() {
+        return meterRegistry.get("async.executor.in-flight").tag("name", "mailExecutor").gauge().value();
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
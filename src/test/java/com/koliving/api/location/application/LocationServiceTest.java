@@ -1,5 +1,8 @@
 package com.koliving.api.location.application;
 
+import com.koliving.api.catalog.application.CatalogService;
+import com.koliving.api.catalog.application.CatalogSnapshot;
+import com.koliving.api.catalog.infra.CatalogChangedEvent;
 import com.koliving.api.location.application.dto.LocationResponse;
 import com.koliving.api.location.application.dto.LocationSaveRequest;
 import com.koliving.api.location.application.dto.LocationUpdateRequest;
@@ -12,12 +15,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.List;
 import java.util.Optional;
 
-import static com.koliving.api.fixtures.LocationFixture.성동구;
-import static com.koliving.api.fixtures.LocationFixture.성수동;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verify;
@@ -30,6 +33,12 @@ class LocationServiceTest {
     @Mock
     private LocationRepository locationRepository;
 
+    @Mock
+    private CatalogService catalogService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private LocationService locationService;
 
@@ -56,7 +65,11 @@ class LocationServiceTest {
     @DisplayName("지역을 조회할 수 있다")
     public void search() {
         // given
-        when(locationRepository.findAll()).thenReturn(List.of(성동구, 성수동));
+        final Location seongdong = Location.valueOf("seongdong", LocationType.GU);
+        final Location seongsu = Location.valueOf("seongsu", LocationType.DONG, seongdong);
+        ReflectionTestUtils.setField(seongdong, "id", 1L);
+        ReflectionTestUtils.setField(seongsu, "id", 2L);
+        when(catalogService.current()).thenReturn(CatalogSnapshot.of(1L, List.of(seongdong, seongsu), List.of()));
 
         // when
         final List<LocationResponse> actual = locationService.findAll();
@@ -88,5 +101,6 @@ class LocationServiceTest {
 
         // then
         verify(locationRepository).deleteById(1L);
+        verify(eventPublisher).publishEvent(any(CatalogChangedEvent.class));
     }
 }
\ No newline at end of file
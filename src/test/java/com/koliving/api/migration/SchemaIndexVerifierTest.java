@@ -0,0 +1,23 @@
+package com.koliving.api.migration;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+import com.koliving.api.BaseDataJpaTest;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+@DisplayName("마이그레이션 인덱스 확인 테스트")
+class SchemaIndexVerifierTest extends BaseDataJpaTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    @DisplayName("JPA 가 만든 스키마에 마이그레이션이 정의한 인덱스가 모두 있다")
+    void verify() {
+        assertThatCode(() -> new SchemaIndexVerifier(dataSource).verify())
+            .doesNotThrowAnyException();
+    }
+}
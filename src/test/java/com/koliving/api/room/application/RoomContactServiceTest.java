@@ -0,0 +1,138 @@
+package com.koliving.api.room.application;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.koliving.api.base.ServiceError;
+import com.koliving.api.base.exception.KolivingServiceException;
+import com.koliving.api.clock.IClock;
+import com.koliving.api.email.IEmailService;
+import com.koliving.api.properties.RoomContactProperties;
+import com.koliving.api.room.domain.Room;
+import com.koliving.api.room.infra.RoomContactAdmission;
+import com.koliving.api.room.infra.RoomContactLimiter;
+import com.koliving.api.user.domain.Notification;
+import com.koliving.api.user.domain.User;
+import com.koliving.api.user.infra.NotificationRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DisplayName("방 연락 서비스 테스트")
+@ExtendWith(MockitoExtension.class)
+class RoomContactServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2023, 10, 18, 12, 0);
+    private static final String ROOM_LINK = "https://koliving.com/room/1";
+
+    @Mock
+    private RoomContactLimiter roomContactLimiter;
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private IEmailService emailService;
+
+    @Mock
+    private IClock clock;
+
+    @Mock
+    private Room room;
+
+    private User sender;
+    private User host;
+    private RoomContactService roomContactService;
+
+    @BeforeEach
+    void setUp() {
+        sender = user(1L, "sender@koliving.com");
+        host = user(2L, "host@koliving.com");
+        when(room.getId()).thenReturn(10L);
+
+        roomContactService = new RoomContactService(roomContactLimiter, notificationRepository, emailService,
+            new RoomContactProperties(Duration.ofSeconds(30), 5, Duration.ofMinutes(1), 3, Duration.ofHours(1), 500), clock);
+    }
+
+    @Test
+    @DisplayName("중복 제거 시간 안에 같은 방에 다시 연락하면 알림과 메일을 만들지 않는다")
+    void contact_duplicate() {
+        // given
+        when(roomContactLimiter.admit(1L, 10L)).thenReturn(RoomContactAdmission.DUPLICATE);
+
+        // when
+        roomContactService.contact(room, sender, "01011112222", "방에 관심이 있어요", ROOM_LINK);
+
+        // then
+        verifyNoInteractions(notificationRepository, emailService);
+    }
+
+    @Test
+    @DisplayName("요청 수 제한을 넘으면 예외를 던진다")
+    void contact_rateLimited() {
+        // given
+        when(roomContactLimiter.admit(1L, 10L)).thenReturn(RoomContactAdmission.RATE_LIMITED);
+
+        // when & then
+        assertThatThrownBy(() -> roomContactService.contact(room, sender, "01011112222", "방에 관심이 있어요", ROOM_LINK))
+            .isInstanceOf(KolivingServiceException.class)
+            .extracting("error")
+            .isEqualTo(ServiceError.TOO_MANY_CONTACT_REQUESTS);
+        verifyNoInteractions(notificationRepository, emailService);
+    }
+
+    @Test
+    @DisplayName("알림을 바로 저장하고 메일을 보낸다")
+    void contact() {
+        // given
+        given(2L);
+
+        // when
+        roomContactService.contact(room, sender, "01011112222", "방에 관심이 있어요", ROOM_LINK);
+
+        // then
+        verify(notificationRepository).save(any(Notification.class));
+        verify(emailService).sendRoomContact("host@koliving.com", "01011112222", "방에 관심이 있어요", sender, ROOM_LINK);
+        verify(emailService, never()).holdRoomContact(anyString(), anyString(), anyString(), any(), anyString());
+    }
+
+    @Test
+    @DisplayName("최근에 연락을 많이 받은 호스트에게는 다이제스트 메일로 묶어 보낸다")
+    void contact_digest() {
+        // given
+        given(3L);
+
+        // when
+        roomContactService.contact(room, sender, "01011112222", "방에 관심이 있어요", ROOM_LINK);
+
+        // then
+        verify(notificationRepository).save(any(Notification.class));
+        verify(emailService).holdRoomContact("host@koliving.com", "01011112222", "방에 관심이 있어요", sender, ROOM_LINK);
+        verify(emailService, never()).sendRoomContact(anyString(), anyString(), anyString(), any(), anyString());
+    }
+
+    private void given(long recentContacts) {
+        when(roomContactLimiter.admit(1L, 10L)).thenReturn(RoomContactAdmission.ACCEPTED);
+        when(room.getUser()).thenReturn(host);
+        when(clock.now()).thenReturn(NOW);
+        when(notificationRepository.countByReceiverIdAndCreatedAtAfter(eq(2L), eq(NOW.minusHours(1)))).thenReturn(recentContacts);
+    }
+
+    private User user(Long id, String email) {
+        User user = User.builder().email(email).build();
+        ReflectionTestUtils.setField(user, "id", id);
+        return user;
+    }
+}
@@ -0,0 +1,62 @@
+package com.koliving.api.room.application.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.koliving.api.base.ServiceError;
+import com.koliving.api.base.exception.KolivingServiceException;
+import java.time.LocalDate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@DisplayName("방 커서 테스트")
+class RoomCursorTest {
+
+    @Test
+    @DisplayName("커서가 없으면 첫 페이지 커서를 반환한다")
+    void decodeEmpty() {
+        // when
+        RoomCursor cursor = RoomCursor.decode(null, RoomCursorSort.ID);
+
+        // then
+        assertThat(cursor.isFirst()).isTrue();
+        assertThat(cursor.sort()).isEqualTo(RoomCursorSort.ID);
+    }
+
+    @Test
+    @DisplayName("인코딩한 커서를 디코딩하면 같은 정렬 키를 반환한다")
+    void encodeAndDecode() {
+        // given
+        RoomCursor cursor = new RoomCursor(RoomCursorSort.AVAILABLE_DATE, "2023-09-01", 42L);
+
+        // when
+        RoomCursor actual = RoomCursor.decode(cursor.encode(), RoomCursorSort.AVAILABLE_DATE);
+
+        // then
+        assertThat(actual).isEqualTo(cursor);
+        assertThat(actual.availableDate()).isEqualTo(LocalDate.of(2023, 9, 1));
+    }
+
+    @Test
+    @DisplayName("요청한 정렬 기준과 커서의 정렬 기준이 다르면 예외가 발생한다")
+    void decodeWithDifferentSort() {
+        // given
+        String token = new RoomCursor(RoomCursorSort.MONTHLY_RENT, "100", 1L).encode();
+
+        // then
+        assertThatThrownBy(() -> RoomCursor.decode(token, RoomCursorSort.ID))
+            .isInstanceOf(KolivingServiceException.class)
+            .hasMessageContaining(ServiceError.INVALID_CURSOR.getMessage());
+    }
+
+    @DisplayName("유효하지 않은 커서는 예외가 발생한다")
+    @ParameterizedTest(name = "유효하지 않은 값: " + ParameterizedTest.ARGUMENTS_PLACEHOLDER)
+    @ValueSource(strings = {"!!!", "SUQ", "TU9OVEhMWV9SRU5UfGFiY3wx"})
+    void decodeInvalid(String token) {
+        assertThatThrownBy(() -> RoomCursor.decode(token, RoomCursorSort.MONTHLY_RENT))
+            .isInstanceOf(KolivingServiceException.class)
+            .hasMessageContaining(ServiceError.INVALID_CURSOR.getMessage());
+    }
+}
@@ -0,0 +1,49 @@
+package com.koliving.api.room.application.dto;
+
+import static com.koliving.api.fixtures.MaintenanceFixture.관리비_없음;
+import static com.koliving.api.fixtures.RoomInfoFixture.스튜디오_방0_욕실1_룸메1;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.koliving.api.catalog.application.CatalogSnapshot;
+import com.koliving.api.fixtures.UserFixture;
+import com.koliving.api.location.domain.Location;
+import com.koliving.api.location.domain.LocationType;
+import com.koliving.api.room.domain.Furnishing;
+import com.koliving.api.room.domain.FurnishingType;
+import com.koliving.api.room.domain.Money;
+import com.koliving.api.room.domain.Room;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DisplayName("방 조회 응답 변환 테스트")
+class RoomResponseTest {
+
+    @Test
+    @DisplayName("지역과 가구는 스냅샷에서 id 로 찾고, 스냅샷에 없는 가구는 제외한다")
+    void valueOf() {
+        // given
+        final Location seongdong = withId(Location.valueOf("seongdong", LocationType.GU), 1L);
+        final Location seongsu = withId(Location.valueOf("seongsu", LocationType.DONG, seongdong), 2L);
+        final Furnishing tv = withId(Furnishing.valueOf(FurnishingType.TV), 10L);
+        final CatalogSnapshot catalog = CatalogSnapshot.of(1L, List.of(seongdong, seongsu), List.of(tv));
+        final Room room = Room.valueOf(seongsu, 스튜디오_방0_욕실1_룸메1, Money.empty(), Money.empty(), 관리비_없음,
+            new HashSet<>(), LocalDate.of(2023, 9, 1), "설명이에요", Collections.emptySet()).by(UserFixture.createUser());
+
+        // when
+        RoomResponse actual = RoomResponse.valueOf(room, List.of(10L, 11L), catalog);
+
+        // then
+        assertThat(actual.location()).isSameAs(catalog.findLocation(2L).orElseThrow());
+        assertThat(actual.furnishings()).extracting(FurnishingResponse::id).containsExactly(10L);
+    }
+
+    private <T> T withId(T entity, Long id) {
+        ReflectionTestUtils.setField(entity, "id", id);
+        return entity;
+    }
+}
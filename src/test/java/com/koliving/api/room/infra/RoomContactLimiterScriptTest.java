@@ -0,0 +1,65 @@
+package com.koliving.api.room.infra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.koliving.api.BaseRedisTest;
+import com.koliving.api.properties.RoomContactProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("방 연락 요청 제한 Lua 스크립트 테스트")
+class RoomContactLimiterScriptTest extends BaseRedisTest {
+
+    @Test
+    @DisplayName("같은 방에 다시 보낸 연락은 중복으로 합치고 토큰을 쓰지 않는다")
+    void duplicate() {
+        // given
+        RoomContactLimiter limiter = limiter(2, Duration.ofMinutes(1));
+
+        // when & then
+        assertThat(limiter.admit(1L, 10L)).isEqualTo(RoomContactAdmission.ACCEPTED);
+        assertThat(limiter.admit(1L, 10L)).isEqualTo(RoomContactAdmission.DUPLICATE);
+        assertThat(limiter.admit(1L, 11L)).isEqualTo(RoomContactAdmission.ACCEPTED);
+        assertThat(limiter.admit(1L, 12L)).isEqualTo(RoomContactAdmission.RATE_LIMITED);
+    }
+
+    @Test
+    @DisplayName("토큰은 회원별로 쓰고, 다 쓴 토큰은 채워지는 시간이 지나면 다시 쓸 수 있다")
+    void refill() throws InterruptedException {
+        // given
+        RoomContactLimiter limiter = limiter(1, Duration.ofMillis(200));
+        assertThat(limiter.admit(1L, 10L)).isEqualTo(RoomContactAdmission.ACCEPTED);
+        assertThat(limiter.admit(1L, 11L)).isEqualTo(RoomContactAdmission.RATE_LIMITED);
+        assertThat(limiter.admit(2L, 11L)).isEqualTo(RoomContactAdmission.ACCEPTED);
+
+        // when
+        Thread.sleep(300);
+
+        // then
+        assertThat(limiter.admit(1L, 11L)).isEqualTo(RoomContactAdmission.ACCEPTED);
+    }
+
+    @Test
+    @DisplayName("거절된 연락은 중복 제거 키를 남기지 않고, 해제한 연락은 다시 보낼 수 있다")
+    void release() {
+        // given
+        RoomContactLimiter limiter = limiter(1, Duration.ofMinutes(1));
+        assertThat(limiter.admit(1L, 10L)).isEqualTo(RoomContactAdmission.ACCEPTED);
+        assertThat(limiter.admit(1L, 11L)).isEqualTo(RoomContactAdmission.RATE_LIMITED);
+
+        // when
+        limiter.release(1L, 10L);
+
+        // then
+        assertThat(limiter.admit(1L, 11L)).isEqualTo(RoomContactAdmission.RATE_LIMITED);
+        assertThat(limiter.admit(1L, 10L)).isEqualTo(RoomContactAdmission.RATE_LIMITED);
+    }
+
+    private RoomContactLimiter limiter(int rateCapacity, Duration rateRefillInterval) {
+        return new RoomContactLimiter(redissonClient,
+            new RoomContactProperties(Duration.ofSeconds(30), rateCapacity, rateRefillInterval, 3, Duration.ofHours(1), 500),
+            new SimpleMeterRegistry());
+    }
+}
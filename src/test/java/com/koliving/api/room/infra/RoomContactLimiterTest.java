@@ -0,0 +1,63 @@
+package com.koliving.api.room.infra;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import com.koliving.api.properties.RoomContactProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RScript;
+import org.redisson.api.RScript.Mode;
+import org.redisson.api.RScript.ReturnType;
+import org.redisson.api.RedissonClient;
+
+@DisplayName("방 연락 요청 제한 테스트")
+@ExtendWith(MockitoExtension.class)
+class RoomContactLimiterTest {
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private RScript script;
+
+    private SimpleMeterRegistry meterRegistry;
+    private RoomContactLimiter roomContactLimiter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        roomContactLimiter = new RoomContactLimiter(redissonClient,
+            new RoomContactProperties(Duration.ofSeconds(30), 5, Duration.ofMinutes(1), 3, Duration.ofHours(1), 500),
+            meterRegistry);
+        when(redissonClient.getScript(any())).thenReturn(script);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"1, ACCEPTED", "0, DUPLICATE", "-1, RATE_LIMITED"})
+    @DisplayName("스크립트 결과를 접수 결과로 바꾸고 결과별 요청 수를 기록한다")
+    void admit(long result, RoomContactAdmission expected) {
+        // given
+        when(script.eval(eq("CONTACT:{1}:bucket"), eq(Mode.READ_WRITE), anyString(), eq(ReturnType.INTEGER), anyList(),
+            eq("30000"), eq("5"), eq("60000"))).thenReturn(result);
+
+        // when
+        RoomContactAdmission actual = roomContactLimiter.admit(1L, 10L);
+
+        // then
+        assertThat(actual).isEqualTo(expected);
+        assertThat(meterRegistry.get("room.contact.requests").tag("result", expected.name().toLowerCase()).counter().count())
+            .isEqualTo(1);
+    }
+}
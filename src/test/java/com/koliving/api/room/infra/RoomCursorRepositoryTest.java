@@ -0,0 +1,141 @@
+package com.koliving.api.room.infra;
+
+import static com.koliving.api.fixtures.LocationFixture.성동구;
+import static com.koliving.api.fixtures.MaintenanceFixture.관리비_없음;
+import static com.koliving.api.fixtures.RoomInfoFixture.스튜디오_방0_욕실1_룸메1;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.koliving.api.BaseDataJpaTest;
+import com.koliving.api.fixtures.UserFixture;
+import com.koliving.api.location.domain.Location;
+import com.koliving.api.location.domain.LocationType;
+import com.koliving.api.location.infra.LocationRepository;
+import com.koliving.api.room.application.dto.RoomCursor;
+import com.koliving.api.room.application.dto.RoomCursorResponse;
+import com.koliving.api.room.application.dto.RoomCursorSort;
+import com.koliving.api.room.application.dto.RoomSearchCondition;
+import com.koliving.api.room.application.dto.RoomSummary;
+import com.koliving.api.room.domain.Like;
+import com.koliving.api.room.domain.Money;
+import com.koliving.api.room.domain.Room;
+import com.koliving.api.user.domain.User;
+import com.koliving.api.user.infra.UserRepository;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+
+@DisplayName("방 커서 페이징 리파지토리 테스트")
+class RoomCursorRepositoryTest extends BaseDataJpaTest {
+
+    private static final int PAGE_SIZE = 2;
+
+    @Autowired
+    private LocationRepository locationRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private LikeRepository likeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User user;
+    private List<Room> rooms;
+
+    @BeforeEach
+    void setUp() {
+        final Location location = locationRepository.save(
+            Location.valueOf("seongsu", LocationType.DONG, locationRepository.save(성동구))
+        );
+        user = userRepository.save(UserFixture.createUser());
+
+        // 같은 월세, 같은 입주일을 가진 방을 섞어 정렬 값이 같을 때 id 로 이어지는지 확인한다
+        final int[] monthlyRents = {300, 100, 200, 100, 300, 200, 100};
+        rooms = new ArrayList<>();
+        for (int i = 0; i < monthlyRents.length; i++) {
+            rooms.add(roomRepository.save(
+                Room.valueOf(
+                    location,
+                    스튜디오_방0_욕실1_룸메1,
+                    Money.empty(),
+                    Money.valueOf(monthlyRents[i]),
+                    관리비_없음,
+                    Collections.emptySet(),
+                    LocalDate.of(2023, 9, 1).plusDays(i % 3),
+                    "설명이에요",
+                    Collections.emptySet()
+                ).by(user)
+            ));
+        }
+        rooms.forEach(room -> likeRepository.save(Like.of(room, user)));
+        roomRepository.flush();
+    }
+
+    @ParameterizedTest
+    @EnumSource(RoomCursorSort.class)
+    @DisplayName("정렬 기준별로 커서를 따라가면 모든 방을 빠짐없이 정렬 순서대로 조회한다")
+    void searchByCursor(RoomCursorSort sort) {
+        // when
+        List<Long> actual = walk(sort, cursor -> roomRepository.searchByCursor(emptyCondition(), cursor, PAGE_SIZE));
+
+        // then
+        assertThat(actual).containsExactlyElementsOf(expectedIds(sort));
+    }
+
+    @ParameterizedTest
+    @EnumSource(RoomCursorSort.class)
+    @DisplayName("정렬 기준별로 좋아요한 방을 커서로 빠짐없이 정렬 순서대로 조회한다")
+    void likedRoomsByCursor(RoomCursorSort sort) {
+        // when
+        List<Long> actual = walk(sort, cursor -> roomRepository.likedRoomsByCursor(user.getId(), cursor, PAGE_SIZE));
+
+        // then
+        assertThat(actual).containsExactlyElementsOf(expectedIds(sort));
+    }
+
+    private List<Long> walk(RoomCursorSort sort, Function<RoomCursor, RoomCursorResponse> page) {
+        final List<Long> ids = new ArrayList<>();
+        RoomCursor cursor = RoomCursor.first(sort);
+        while (true) {
+            final RoomCursorResponse response = page.apply(cursor);
+            assertThat(response.contents()).hasSizeLessThanOrEqualTo(PAGE_SIZE);
+            response.contents().stream()
+                .map(RoomSummary::id)
+                .forEach(ids::add);
+
+            if (!response.hasNext()) {
+                assertThat(response.nextCursor()).isNull();
+                return ids;
+            }
+            cursor = RoomCursor.decode(response.nextCursor(), sort);
+        }
+    }
+
+    private List<Long> expectedIds(RoomCursorSort sort) {
+        final Comparator<Room> byId = Comparator.comparing(Room::getId);
+        final Comparator<Room> order = switch (sort) {
+            case ID -> byId;
+            case MONTHLY_RENT -> Comparator.comparing((Room room) -> room.getMonthlyRent().value()).thenComparing(byId);
+            case AVAILABLE_DATE -> Comparator.comparing(Room::getAvailableDate).thenComparing(byId);
+        };
+
+        return rooms.stream()
+            .sorted(order)
+            .map(Room::getId)
+            .toList();
+    }
+
+    private RoomSearchCondition emptyCondition() {
+        return new RoomSearchCondition(null, null, null, null, null, null, null, null);
+    }
+}
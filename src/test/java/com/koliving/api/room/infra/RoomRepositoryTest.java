@@ -10,6 +10,11 @@ import com.koliving.api.fixtures.UserFixture;
 import com.koliving.api.location.domain.Location;
 import com.koliving.api.location.domain.LocationType;
 import com.koliving.api.location.infra.LocationRepository;
+import com.koliving.api.room.application.dto.RoomCursor;
+import com.koliving.api.room.application.dto.RoomCursorResponse;
+import com.koliving.api.room.application.dto.RoomCursorSort;
+import com.koliving.api.room.application.dto.RoomSearchCondition;
+import com.koliving.api.room.application.dto.RoomSummary;
 import com.koliving.api.room.domain.Furnishing;
 import com.koliving.api.room.domain.FurnishingType;
 import com.koliving.api.room.domain.Money;
@@ -28,6 +33,9 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 
 
 @DisplayName("룸 리파지토리 테스트")
@@ -152,5 +160,110 @@ class RoomRepositoryTest extends BaseDataJpaTest {
         assertThat(actual.getFurnishings()).hasSize(2);
         assertThat(actual.getAvailableDate()).isEqualTo(LocalDate.of(2023, 8, 29));
         assertThat(actual.getDescription()).isEqualTo("설명이에요");
+        assertThat(roomRepository.findFurnishingIds(savedRoom.getId()))
+            .containsExactlyInAnyOrder(tv.getId(), airConditioner.getId());
+    }
+
+    @Test
+    @DisplayName("방 검색 시 전체 건수를 조회한다")
+    void search() {
+        // given
+        saveRoomsWithMonthlyRents(100, 200, 300);
+
+        // when
+        Page<RoomSummary> actual = roomRepository.search(PageRequest.of(0, 2), emptyCondition());
+
+        // then
+        assertThat(actual.getContent()).hasSize(2);
+        assertThat(actual.getTotalElements()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("전체 건수 없이 다음 페이지 존재 여부로 방을 검색한다")
+    void searchSlice() {
+        // given
+        saveRoomsWithMonthlyRents(100, 200, 300);
+
+        // when
+        Slice<RoomSummary> first = roomRepository.searchSlice(PageRequest.of(0, 2), emptyCondition());
+        Slice<RoomSummary> last = roomRepository.searchSlice(PageRequest.of(1, 2), emptyCondition());
+
+        // then
+        assertThat(first.getContent()).hasSize(2);
+        assertThat(first.hasNext()).isTrue();
+        assertThat(last.getContent()).hasSize(1);
+        assertThat(last.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("월세 조건으로 방을 검색한다")
+    void searchByMonthlyRent() {
+        // given
+        saveRoomsWithMonthlyRents(100, 200, 300);
+        RoomSearchCondition condition = new RoomSearchCondition(null, null, null, 150, 250, null, null, null);
+
+        // when
+        Page<RoomSummary> actual = roomRepository.search(PageRequest.of(0, 10), condition);
+
+        // then
+        assertThat(actual.getTotalElements()).isEqualTo(1);
+        assertThat(actual.getContent().get(0).monthlyRent()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("커서 이후의 방을 월세 순으로 검색한다")
+    void searchByCursor() {
+        // given
+        saveRoomsWithMonthlyRents(300, 100, 200);
+        RoomCursor first = RoomCursor.first(RoomCursorSort.MONTHLY_RENT);
+
+        // when
+        RoomCursorResponse firstPage = roomRepository.searchByCursor(emptyCondition(), first, 2);
+        RoomCursorResponse lastPage = roomRepository.searchByCursor(
+            emptyCondition(),
+            RoomCursor.decode(firstPage.nextCursor(), RoomCursorSort.MONTHLY_RENT),
+            2
+        );
+
+        // then
+        assertThat(firstPage.contents()).extracting(it -> it.monthlyRent()).containsExactly(100, 200);
+        assertThat(firstPage.hasNext()).isTrue();
+        assertThat(lastPage.contents()).extracting(it -> it.monthlyRent()).containsExactly(300);
+        assertThat(lastPage.hasNext()).isFalse();
+        assertThat(lastPage.nextCursor()).isNull();
+    }
+
+    private void saveRoomsWithMonthlyRents(int... monthlyRents) {
+        final Location location = locationRepository.save(
+            Location.valueOf(
+                "seongsu",
+                LocationType.DONG,
+                locationRepository.save(성동구)
+            )
+        );
+
+        User user = userRepository.save(UserFixture.createUser());
+
+        for (int monthlyRent : monthlyRents) {
+            roomRepository.save(
+                Room.valueOf(
+                    location,
+                    스튜디오_방0_욕실1_룸메1,
+                    Money.empty(),
+                    Money.valueOf(monthlyRent),
+                    관리비_없음,
+                    Sets.newHashSet(),
+                    LocalDate.of(2023, 8, 29),
+                    "설명이에요",
+                    Collections.emptySet()
+                ).by(user)
+            );
+        }
+
+        roomRepository.flush();
+    }
+
+    private RoomSearchCondition emptyCondition() {
+        return new RoomSearchCondition(null, null, null, null, null, null, null, null);
     }
 }
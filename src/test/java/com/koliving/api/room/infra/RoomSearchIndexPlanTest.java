@@ -0,0 +1,187 @@
+package com.koliving.api.room.infra;
+
+import static com.koliving.api.fixtures.LocationFixture.성동구;
+import static com.koliving.api.fixtures.MaintenanceFixture.관리비_없음;
+import static com.koliving.api.fixtures.RoomInfoFixture.스튜디오_방0_욕실1_룸메1;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.koliving.api.BaseDataJpaTest;
+import com.koliving.api.fixtures.UserFixture;
+import com.koliving.api.location.domain.Location;
+import com.koliving.api.location.domain.LocationType;
+import com.koliving.api.location.infra.LocationRepository;
+import com.koliving.api.room.application.dto.RoomCursor;
+import com.koliving.api.room.application.dto.RoomCursorSort;
+import com.koliving.api.room.application.dto.RoomSearchCondition;
+import com.koliving.api.room.domain.Furnishing;
+import com.koliving.api.room.domain.FurnishingType;
+import com.koliving.api.room.domain.Like;
+import com.koliving.api.room.domain.Money;
+import com.koliving.api.room.domain.Room;
+import com.koliving.api.room.domain.RoomType;
+import com.koliving.api.user.domain.User;
+import com.koliving.api.user.infra.UserRepository;
+import jakarta.persistence.EntityManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.hibernate.Session;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.TestPropertySource;
+
+@DisplayName("방 검색 인덱스 실행 계획 테스트")
+@TestPropertySource(properties =
+    "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.koliving.api.room.infra.RoomSearchIndexPlanTest$CapturedStatements")
+class RoomSearchIndexPlanTest extends BaseDataJpaTest {
+
+    private static final String FULL_SCAN = "tableScan";
+    private static final Pageable PAGE = PageRequest.of(0, 5);
+
+    @Autowired
+    private LocationRepository locationRepository;
+
+    @Autowired
+    private FurnishingRepository furnishingRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private LikeRepository likeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        final List<Furnishing> furnishings = furnishingRepository.saveAll(
+            Arrays.stream(FurnishingType.values())
+                .map(Furnishing::valueOf)
+                .collect(Collectors.toList())
+        );
+
+        final Location location = locationRepository.save(
+            Location.valueOf("seongsu", LocationType.DONG, locationRepository.save(성동구))
+        );
+        final User user = userRepository.save(UserFixture.createUser());
+
+        for (int i = 0; i < 10; i++) {
+            final Room room = roomRepository.save(
+                Room.valueOf(
+                    location,
+                    스튜디오_방0_욕실1_룸메1,
+                    Money.valueOf(1000 * i),
+                    Money.valueOf(100 * i),
+                    관리비_없음,
+                    new HashSet<>(furnishings.subList(0, i % 3)),
+                    LocalDate.of(2023, 9, 1).plusDays(i % 3),
+                    "설명이에요",
+                    new HashSet<>()
+                ).by(user)
+            );
+            likeRepository.save(Like.of(room, user));
+        }
+
+        entityManager.flush();
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("searchQueries")
+    @DisplayName("방 검색 쿼리는 Hibernate 가 만든 SQL 기준으로 조건 테이블을 전체 스캔하지 않는다")
+    void searchUsesIndex(String description, String table, Consumer<RoomRepository> search) {
+        // given
+        CapturedStatements.clear();
+
+        // when
+        search.accept(roomRepository);
+        final List<String> plans = CapturedStatements.get().stream()
+            .map(this::explain)
+            .toList();
+
+        // then
+        assertThat(plans).isNotEmpty();
+        assertThat(plans).allSatisfy(plan -> assertThat(plan).as(plan).doesNotContain(table + "." + FULL_SCAN));
+    }
+
+    static Stream<Arguments> searchQueries() {
+        return Stream.of(
+            Arguments.of("지역 + 월세", "TB_ROOM", search(condition(List.of(1L, 2L), null, null, 100, 500, null, null, null))),
+            Arguments.of("월세 커서", "TB_ROOM", (Consumer<RoomRepository>) repository -> repository.searchByCursor(
+                condition(null, null, null, 100, 500, null, null, null), RoomCursor.first(RoomCursorSort.MONTHLY_RENT), 5)),
+            Arguments.of("보증금", "TB_ROOM", search(condition(null, 1000, 5000, null, null, null, null, null))),
+            Arguments.of("입주 가능 일자", "TB_ROOM", search(condition(null, null, null, null, null, LocalDate.of(2023, 9, 2), null, null))),
+            Arguments.of("룸 타입", "TB_ROOM", search(condition(null, null, null, null, null, null, List.of(RoomType.STUDIO), null))),
+            Arguments.of("가구", "TB_ROOM_FURNISHINGS", search(condition(null, null, null, null, null, null, null, List.of(1L, 2L)))),
+            Arguments.of("좋아요", "TB_ROOM_LIKE", (Consumer<RoomRepository>) repository -> repository.likedRoomsSlice(PAGE, 1L))
+        );
+    }
+
+    private static Consumer<RoomRepository> search(RoomSearchCondition condition) {
+        return repository -> repository.searchSlice(PAGE, condition);
+    }
+
+    private static RoomSearchCondition condition(List<Long> locationIds, Integer minDeposit, Integer maxDeposit,
+        Integer minMonthlyRent, Integer maxMonthlyRent, LocalDate availableDate, List<RoomType> types,
+        List<Long> furnishingTypes) {
+        return new RoomSearchCondition(locationIds, minDeposit, maxDeposit, minMonthlyRent, maxMonthlyRent,
+            availableDate, types, furnishingTypes);
+    }
+
+    /**
+     * H2 는 prepare 시점에 실행 계획을 정하므로, 바인딩 값은 계획에 영향을 주지 않아 null 로 채운다.
+     */
+    private String explain(String sql) {
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+                for (int i = 1; i <= statement.getParameterMetaData().getParameterCount(); i++) {
+                    statement.setObject(i, null);
+                }
+
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    resultSet.next();
+                    return resultSet.getString(1);
+                }
+            }
+        });
+    }
+
+    /**
+     * Hibernate 가 실행하는 SQL 을 모은다. 테스트 하나가 실행하는 동안의 SQL 만 남도록 매번 비운다.
+     */
+    public static class CapturedStatements implements StatementInspector {
+
+        private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        static void clear() {
+            STATEMENTS.clear();
+        }
+
+        static List<String> get() {
+            return List.copyOf(STATEMENTS);
+        }
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
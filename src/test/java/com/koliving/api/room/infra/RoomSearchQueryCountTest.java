@@ -0,0 +1,168 @@
+package com.koliving.api.room.infra;
+
+import static com.koliving.api.fixtures.LocationFixture.성동구;
+import static com.koliving.api.fixtures.MaintenanceFixture.관리비_없음;
+import static com.koliving.api.fixtures.RoomInfoFixture.스튜디오_방0_욕실1_룸메1;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.koliving.api.BaseDataJpaTest;
+import com.koliving.api.file.domain.ImageFile;
+import com.koliving.api.file.infra.ImageFileRepository;
+import com.koliving.api.fixtures.UserFixture;
+import com.koliving.api.location.domain.Location;
+import com.koliving.api.location.domain.LocationType;
+import com.koliving.api.location.infra.LocationRepository;
+import com.koliving.api.room.application.dto.RoomSearchCondition;
+import com.koliving.api.room.application.dto.RoomSummary;
+import com.koliving.api.room.domain.Furnishing;
+import com.koliving.api.room.domain.FurnishingType;
+import com.koliving.api.room.domain.Money;
+import com.koliving.api.room.domain.Room;
+import com.koliving.api.user.domain.User;
+import com.koliving.api.user.infra.UserRepository;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.test.context.TestPropertySource;
+
+@DisplayName("방 검색 쿼리 수 테스트")
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class RoomSearchQueryCountTest extends BaseDataJpaTest {
+
+    private static final int ROOM_COUNT = 5;
+
+    @Autowired
+    private LocationRepository locationRepository;
+
+    @Autowired
+    private FurnishingRepository furnishingRepository;
+
+    @Autowired
+    private ImageFileRepository imageFileRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        final List<Furnishing> furnishings = furnishingRepository.saveAll(
+            Arrays.stream(FurnishingType.values())
+                .map(Furnishing::valueOf)
+                .collect(Collectors.toList())
+        );
+
+        final Location location = locationRepository.save(
+            Location.valueOf(
+                "seongsu",
+                LocationType.DONG,
+                locationRepository.save(성동구)
+            )
+        );
+
+        final User user = userRepository.save(UserFixture.createUser());
+
+        for (int i = 0; i < ROOM_COUNT; i++) {
+            final Set<ImageFile> images = new HashSet<>(imageFileRepository.saveAll(List.of(
+                ImageFile.valueOf("room-" + i + "-1.png", 100L),
+                ImageFile.valueOf("room-" + i + "-2.png", 100L)
+            )));
+
+            roomRepository.save(
+                Room.valueOf(
+                    location,
+                    스튜디오_방0_욕실1_룸메1,
+                    Money.empty(),
+                    Money.valueOf(100 * (i + 1)),
+                    관리비_없음,
+                    new HashSet<>(furnishings.subList(0, 2)),
+                    LocalDate.of(2023, 8, 29),
+                    "설명이에요",
+                    images
+                ).by(user)
+            );
+        }
+
+        entityManager.flush();
+        statistics = entityManager.getEntityManagerFactory()
+            .unwrap(SessionFactory.class)
+            .getStatistics();
+    }
+
+    @Test
+    @DisplayName("페이지 크기와 무관하게 검색 쿼리 수가 일정하다 : 목록 projection 한 번과 count 한 번")
+    void constantQueryCount() {
+        // when
+        final long smallPageQueryCount = queryCountOfSearch(2);
+        final long largePageQueryCount = queryCountOfSearch(4);
+
+        // then
+        assertThat(smallPageQueryCount).isEqualTo(largePageQueryCount);
+        assertThat(largePageQueryCount).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("슬라이스 검색은 count 없이 목록 projection 한 번만 실행한다")
+    void sliceQueryCount() {
+        // given
+        entityManager.clear();
+        statistics.clear();
+
+        // when
+        Slice<RoomSummary> actual = roomRepository.searchSlice(PageRequest.of(0, 2), emptyCondition());
+
+        // then
+        assertThat(actual.getContent()).hasSize(2);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("검색 결과는 id 순서로 첫번째 이미지를 대표 이미지로 포함한다")
+    void summaryWithThumbnail() {
+        // given
+        entityManager.clear();
+
+        // when
+        Page<RoomSummary> actual = roomRepository.search(PageRequest.of(0, ROOM_COUNT), emptyCondition());
+
+        // then
+        assertThat(actual.getContent()).extracting(RoomSummary::id).isSorted();
+        assertThat(actual.getContent()).extracting(RoomSummary::thumbnail)
+            .containsExactly("room-0-1.png", "room-1-1.png", "room-2-1.png", "room-3-1.png", "room-4-1.png");
+        assertThat(actual.getContent()).extracting(RoomSummary::locationName).containsOnly("seongsu");
+    }
+
+    private long queryCountOfSearch(int pageSize) {
+        entityManager.clear();
+        statistics.clear();
+
+        Page<RoomSummary> responses = roomRepository.search(PageRequest.of(0, pageSize), emptyCondition());
+
+        assertThat(responses.getContent()).hasSize(pageSize);
+        return statistics.getPrepareStatementCount();
+    }
+
+    private RoomSearchCondition emptyCondition() {
+        return new RoomSearchCondition(null, null, null, null, null, null, null, null);
+    }
+}
@@ -0,0 +1,162 @@
+package com.koliving.api.room.infra.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.koliving.api.catalog.infra.CatalogChangedEvent;
+import com.koliving.api.properties.RoomCacheProperties;
+import com.koliving.api.room.application.dto.RoomResponse;
+import com.koliving.api.room.domain.Money;
+import com.koliving.api.room.infra.RoomRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RBucket;
+import org.redisson.api.RKeys;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.Codec;
+
+@DisplayName("방 상세 캐시 테스트")
+@ExtendWith(MockitoExtension.class)
+class RoomDetailCacheTest {
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private RoomRepository roomRepository;
+
+    @Mock
+    private RBucket<String> bucket;
+
+    @Mock
+    private RTopic topic;
+
+    @Mock
+    private RKeys keys;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger loadCount = new AtomicInteger();
+    private final Function<Long, RoomResponse> loader = id -> {
+        loadCount.incrementAndGet();
+        return roomResponse(id);
+    };
+
+    private RoomDetailCache roomDetailCache;
+
+    @BeforeEach
+    void setUp() {
+        roomDetailCache = new RoomDetailCache(
+            redissonClient,
+            roomRepository,
+            objectMapper,
+            new RoomCacheProperties(100, Duration.ofMinutes(1), Duration.ofMinutes(10)),
+            meterRegistry
+        );
+        doReturn(bucket).when(redissonClient).getBucket(anyString(), any(Codec.class));
+    }
+
+    @Test
+    @DisplayName("로컬 캐시에 있으면 Redis 와 DB 를 조회하지 않는다")
+    void localHit() {
+        // when
+        roomDetailCache.get(1L, loader);
+        RoomResponse actual = roomDetailCache.get(1L, loader);
+
+        // then
+        assertThat(actual.id()).isEqualTo(1L);
+        assertThat(loadCount.get()).isEqualTo(1);
+        verify(bucket).get();
+        verify(bucket).set(anyString(), anyLong(), eq(TimeUnit.MILLISECONDS));
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "room.detail.local").tag("result", "hit").functionCounter().count())
+            .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Redis 에 있으면 DB 를 조회하지 않는다")
+    void redisHit() throws Exception {
+        // given
+        when(bucket.get()).thenReturn(objectMapper.writeValueAsString(roomResponse(1L)));
+
+        // when
+        RoomResponse actual = roomDetailCache.get(1L, loader);
+
+        // then
+        assertThat(actual.id()).isEqualTo(1L);
+        assertThat(actual.monthlyRent().value()).isEqualTo(50);
+        assertThat(loadCount.get()).isEqualTo(0);
+        assertThat(meterRegistry.get("room.detail.redis").tag("result", "hit").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("무효화하면 Redis 키를 삭제하고 다른 인스턴스에 전파한 뒤 다시 로딩한다")
+    void evict() {
+        // given
+        when(redissonClient.getTopic(anyString(), any(Codec.class))).thenReturn(topic);
+        roomDetailCache.get(1L, loader);
+
+        // when
+        roomDetailCache.evict(1L);
+        roomDetailCache.get(1L, loader);
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(2);
+        verify(bucket).delete();
+        verify(topic).publish(1L);
+    }
+
+    @Test
+    @DisplayName("지역/가구 정보가 바뀌면 모든 방의 로컬 캐시와 Redis 키를 비우고 다른 인스턴스에 전파한다")
+    void catalogChanged() {
+        // given
+        when(redissonClient.getTopic(anyString(), any(Codec.class))).thenReturn(topic);
+        when(redissonClient.getKeys()).thenReturn(keys);
+        roomDetailCache.get(1L, loader);
+        roomDetailCache.get(2L, loader);
+
+        // when
+        roomDetailCache.onCatalogChanged(new CatalogChangedEvent("location"));
+        roomDetailCache.get(1L, loader);
+        roomDetailCache.get(2L, loader);
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(4);
+        verify(keys).deleteByPattern("ROOM:DETAIL:*");
+        verify(topic).publish("location");
+    }
+
+    private RoomResponse roomResponse(Long id) {
+        return new RoomResponse(
+            id,
+            null,
+            Money.valueOf(1000),
+            Money.valueOf(50),
+            null,
+            null,
+            Collections.emptyList(),
+            LocalDate.of(2023, 9, 1),
+            "설명이에요",
+            null,
+            Collections.emptySet()
+        );
+    }
+}
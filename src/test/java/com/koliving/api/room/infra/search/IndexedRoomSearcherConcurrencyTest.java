@@ -0,0 +1,115 @@
+package com.koliving.api.room.infra.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+import com.koliving.api.room.application.dto.RoomSearchCondition;
+import com.koliving.api.room.application.dto.RoomSummary;
+import com.koliving.api.room.domain.RoomType;
+import com.koliving.api.room.infra.RoomRepository;
+import com.koliving.api.room.infra.RoomSavedEvent;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.Codec;
+import org.springframework.data.domain.PageRequest;
+
+@DisplayName("인메모리 방 검색 인덱스 동시성 테스트")
+@ExtendWith(MockitoExtension.class)
+class IndexedRoomSearcherConcurrencyTest {
+
+    private static final int ROOMS = 2_000;
+    private static final RoomSearchCondition ALL = new RoomSearchCondition(null, null, null, null, null, null, null, null);
+
+    @Mock
+    private RoomRepository roomRepository;
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private RTopic topic;
+
+    @Test
+    @DisplayName("검색 중 인덱스를 다시 만드는 동안 등록된 방도 모든 등록이 끝난 뒤의 검색에 포함된다")
+    void rebuildDuringSaves() throws Exception {
+        // given
+        when(roomRepository.indexEntries()).thenReturn(Collections.emptyList());
+        when(roomRepository.indexEntries(anyList())).thenAnswer(invocation -> {
+            final List<Long> ids = invocation.getArgument(0);
+            return ids.stream().map(this::entry).toList();
+        });
+        when(roomRepository.summariesByIds(anyList())).thenAnswer(invocation -> {
+            final List<Long> ids = invocation.getArgument(0);
+            return ids.stream().map(this::summary).toList();
+        });
+
+        when(redissonClient.getTopic(anyString(), any(Codec.class))).thenReturn(topic);
+
+        final IndexedRoomSearcher searcher = new IndexedRoomSearcher(roomRepository, redissonClient);
+        searcher.load();
+
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        final CountDownLatch start = new CountDownLatch(1);
+
+        // when
+        try {
+            final List<Future<?>> writers = IntStream.range(0, 4)
+                .mapToObj(writer -> executor.submit(() -> {
+                    start.await();
+                    LongStream.range(0, ROOMS)
+                        .filter(id -> id % 4 == writer)
+                        .forEach(id -> searcher.onRoomSaved(new RoomSavedEvent(id)));
+                    return null;
+                }))
+                .collect(Collectors.toList());
+            final List<Future<?>> readers = IntStream.range(0, 4)
+                .mapToObj(reader -> executor.submit(() -> {
+                    start.await();
+                    while (writers.stream().anyMatch(writer -> !writer.isDone())) {
+                        searcher.searchSlice(PageRequest.of(0, 10), ALL);
+                    }
+                    return null;
+                }))
+                .collect(Collectors.toList());
+
+            start.countDown();
+            for (Future<?> future : writers) {
+                future.get();
+            }
+            for (Future<?> future : readers) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // then
+        assertThat(searcher.search(PageRequest.of(0, 10), ALL).getTotalElements()).isEqualTo(ROOMS);
+    }
+
+    private RoomIndexEntry entry(Long id) {
+        return new RoomIndexEntry(id, 1L, RoomType.STUDIO, Collections.emptySet(), 0, 0, LocalDate.of(2023, 9, 1));
+    }
+
+    private RoomSummary summary(Long id) {
+        return new RoomSummary(id, "seongsu", 0, 0, RoomType.STUDIO, LocalDate.of(2023, 9, 1), null, "", "");
+    }
+}
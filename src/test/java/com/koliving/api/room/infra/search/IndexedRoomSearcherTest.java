@@ -0,0 +1,183 @@
+package com.koliving.api.room.infra.search;
+
+import static com.koliving.api.fixtures.MaintenanceFixture.관리비_없음;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.koliving.api.BaseDataJpaTest;
+import com.koliving.api.fixtures.UserFixture;
+import com.koliving.api.location.domain.Location;
+import com.koliving.api.location.domain.LocationType;
+import com.koliving.api.location.infra.LocationRepository;
+import com.koliving.api.room.application.dto.RoomSearchCondition;
+import com.koliving.api.room.application.dto.RoomSummary;
+import com.koliving.api.room.domain.Furnishing;
+import com.koliving.api.room.domain.FurnishingType;
+import com.koliving.api.room.domain.Money;
+import com.koliving.api.room.domain.Room;
+import com.koliving.api.room.domain.RoomType;
+import com.koliving.api.room.domain.info.RoomInfo;
+import com.koliving.api.room.infra.FurnishingRepository;
+import com.koliving.api.room.infra.RoomRepository;
+import com.koliving.api.user.domain.User;
+import com.koliving.api.user.infra.UserRepository;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+@DisplayName("인메모리 방 검색 인덱스 테스트")
+class IndexedRoomSearcherTest extends BaseDataJpaTest {
+
+    private static final Pageable ALL = PageRequest.of(0, 100);
+
+    @Autowired
+    private LocationRepository locationRepository;
+
+    @Autowired
+    private FurnishingRepository furnishingRepository;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private IndexedRoomSearcher searcher;
+    private User user;
+    private Location seongsu;
+    private Location oksu;
+    private List<Furnishing> furnishings;
+
+    @BeforeEach
+    void setUp() {
+        furnishings = furnishingRepository.saveAll(
+            Arrays.stream(FurnishingType.values())
+                .map(Furnishing::valueOf)
+                .collect(Collectors.toList())
+        );
+
+        final Location seongdong = locationRepository.save(Location.valueOf("seongdong", LocationType.GU));
+        seongsu = locationRepository.save(Location.valueOf("seongsu", LocationType.DONG, seongdong));
+        oksu = locationRepository.save(Location.valueOf("oksu", LocationType.DONG, seongdong));
+
+        user = userRepository.save(UserFixture.createUser());
+
+        for (int i = 0; i < 12; i++) {
+            roomRepository.save(room(i));
+        }
+
+        roomRepository.flush();
+
+        searcher = new IndexedRoomSearcher(roomRepository, mock(RedissonClient.class));
+        searcher.load();
+    }
+
+    @Test
+    @DisplayName("검색 조건별 결과가 QueryDSL 검색 결과와 같다")
+    void consistentWithQueryDsl() {
+        Stream.of(
+            condition(null, null, null, null, null, null, null, null),
+            condition(List.of(seongsu.getId()), null, null, null, null, null, null, null),
+            condition(List.of(seongsu.getId(), oksu.getId()), 1000, 2000, null, null, null, null, null),
+            condition(null, null, 1000, 100, null, null, null, null),
+            condition(null, null, null, 200, 300, LocalDate.of(2023, 9, 2), null, null),
+            condition(null, null, null, null, null, null, List.of(RoomType.STUDIO), null),
+            condition(null, null, null, null, null, null, null, List.of(furnishings.get(1).getId())),
+            condition(List.of(oksu.getId()), null, null, null, 400, null, List.of(RoomType.ONE_BED_FLATS),
+                List.of(furnishings.get(0).getId(), furnishings.get(1).getId())),
+            condition(List.of(-1L), null, null, null, null, null, null, null)
+        ).forEach(condition ->
+            assertThat(ids(searcher.search(ALL, condition).getContent()))
+                .as(condition.toString())
+                .isEqualTo(ids(roomRepository.search(ALL, condition).getContent()))
+        );
+    }
+
+    @Test
+    @DisplayName("전체 건수와 페이지 내용을 반환한다")
+    void page() {
+        // when
+        Page<RoomSummary> actual = searcher.search(PageRequest.of(1, 5), condition(null, null, null, null, null, null, null, null));
+
+        // then
+        assertThat(actual.getTotalElements()).isEqualTo(12);
+        assertThat(actual.getContent()).hasSize(5);
+        assertThat(ids(actual.getContent()))
+            .isEqualTo(ids(roomRepository.search(PageRequest.of(1, 5), condition(null, null, null, null, null, null, null, null)).getContent()));
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 바뀐 방은 전파받은 id 로 항목을 다시 읽어 반영한다")
+    void refresh() {
+        // given
+        final Room saved = roomRepository.save(room(12));
+        final Room deleted = roomRepository.findAll().get(0);
+        roomRepository.delete(deleted);
+        roomRepository.flush();
+
+        // when
+        searcher.refresh(saved.getId());
+        searcher.refresh(deleted.getId());
+
+        // then
+        assertThat(ids(searcher.search(ALL, condition(null, null, null, null, null, null, null, null)).getContent()))
+            .contains(saved.getId())
+            .doesNotContain(deleted.getId())
+            .hasSize(12);
+    }
+
+    @Test
+    @DisplayName("전파를 놓친 변경은 주기적으로 전체 항목을 다시 읽어 반영한다")
+    void rebuild() {
+        // given
+        final Room missed = roomRepository.save(room(12));
+        roomRepository.flush();
+
+        // when
+        searcher.rebuild();
+
+        // then
+        assertThat(ids(searcher.search(ALL, condition(null, null, null, null, null, null, null, null)).getContent()))
+            .isEqualTo(ids(roomRepository.search(ALL, condition(null, null, null, null, null, null, null, null)).getContent()))
+            .contains(missed.getId());
+    }
+
+    private Room room(int i) {
+        return Room.valueOf(
+            i % 2 == 0 ? seongsu : oksu,
+            i % 3 == 0 ? RoomInfo.valueOf(RoomType.STUDIO, 0, 1, 1) : RoomInfo.valueOf(RoomType.ONE_BED_FLATS, 1, 1, 1),
+            Money.valueOf(1000 * (i % 4)),
+            Money.valueOf(100 * (i % 5)),
+            관리비_없음,
+            new HashSet<>(furnishings.subList(0, i % 3)),
+            LocalDate.of(2023, 9, 1).plusDays(i % 2),
+            "설명이에요",
+            Collections.emptySet()
+        ).by(user);
+    }
+
+    private RoomSearchCondition condition(List<Long> locationIds, Integer minDeposit, Integer maxDeposit,
+        Integer minMonthlyRent, Integer maxMonthlyRent, LocalDate availableDate, List<RoomType> types,
+        List<Long> furnishingTypes) {
+        return new RoomSearchCondition(locationIds, minDeposit, maxDeposit, minMonthlyRent, maxMonthlyRent,
+            availableDate, types, furnishingTypes);
+    }
+
+    private List<Long> ids(List<RoomSummary> rooms) {
+        return rooms.stream()
+            .map(RoomSummary::id)
+            .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,169 @@
+package com.koliving.api.token.blacklist;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.koliving.api.properties.BlackListProperties;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.listener.MessageListener;
+import org.redisson.api.listener.StatusListener;
+import org.redisson.client.codec.Codec;
+import org.springframework.dao.QueryTimeoutException;
+
+@DisplayName("블랙리스트 Bloom filter 테스트")
+@ExtendWith(MockitoExtension.class)
+class BlackListFilterTest {
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private BlackListRepository blackListRepository;
+
+    @Mock
+    private RTopic topic;
+
+    @Captor
+    private ArgumentCaptor<MessageListener<String>> listener;
+
+    @Captor
+    private ArgumentCaptor<StatusListener> statusListener;
+
+    private BlackListFilter blackListFilter;
+
+    @BeforeEach
+    void setUp() {
+        blackListFilter = new BlackListFilter(redissonClient, blackListRepository, new BlackListProperties(1000, 0.001));
+    }
+
+    @Test
+    @DisplayName("필터를 만들기 전에는 모든 토큰을 Redis 로 확인한다")
+    void notLoaded() {
+        assertThat(blackListFilter.mightContain("token")).isTrue();
+    }
+
+    @Test
+    @DisplayName("롤링 배포 중에는 필터를 거치지 않고 모든 토큰을 Redis 로 확인한다")
+    void legacyEnabled() {
+        // given
+        when(blackListRepository.findAllDigests()).thenReturn(Stream.of("logout-1"));
+        blackListFilter.load();
+        when(blackListRepository.isLegacyEnabled()).thenReturn(true);
+
+        // when
+        boolean actual = blackListFilter.mightContain("active");
+
+        // then
+        assertThat(actual).isTrue();
+    }
+
+    @Test
+    @DisplayName("기동 시 저장된 블랙리스트 토큰으로 필터를 만든다")
+    void load() {
+        // given
+        when(blackListRepository.findAllDigests()).thenReturn(Stream.of("logout-1", "logout-2"));
+
+        // when
+        blackListFilter.load();
+
+        // then
+        assertThat(blackListFilter.mightContain("logout-1")).isTrue();
+        assertThat(blackListFilter.mightContain("logout-2")).isTrue();
+        assertThat(blackListFilter.mightContain("active")).isFalse();
+    }
+
+    @Test
+    @DisplayName("로그아웃 토큰을 필터에 추가한다")
+    void add() {
+        // given
+        when(blackListRepository.findAllDigests()).thenReturn(Stream.empty());
+        blackListFilter.load();
+
+        // when
+        blackListFilter.add("logout");
+
+        // then
+        assertThat(blackListFilter.mightContain("logout")).isTrue();
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 전파된 로그아웃 토큰을 필터에 추가한다")
+    void subscribe() {
+        // given
+        when(blackListRepository.findAllDigests()).thenReturn(Stream.empty());
+        doReturn(topic).when(redissonClient).getTopic(anyString(), any(Codec.class));
+        blackListFilter.subscribe();
+        blackListFilter.load();
+        verify(topic).addListener(eq(String.class), listener.capture());
+
+        // when
+        listener.getValue().onMessage(BlackListRepository.ADDED_TOPIC, "logout");
+
+        // then
+        assertThat(blackListFilter.mightContain("logout")).isTrue();
+    }
+
+    @Test
+    @DisplayName("주기적으로 필터를 다시 만들어 만료된 토큰을 덜어낸다")
+    void rebuild() {
+        // given
+        when(blackListRepository.findAllDigests())
+            .thenReturn(Stream.of("expired", "logout"))
+            .thenReturn(Stream.of("logout"));
+        blackListFilter.load();
+
+        // when
+        blackListFilter.rebuild();
+
+        // then
+        assertThat(blackListFilter.mightContain("logout")).isTrue();
+        assertThat(blackListFilter.mightContain("expired")).isFalse();
+    }
+
+    @Test
+    @DisplayName("토픽을 다시 구독하면 놓친 전파를 복구하도록 필터를 다시 만든다")
+    void resubscribe() {
+        // given
+        when(blackListRepository.findAllDigests()).thenReturn(Stream.empty(), Stream.empty());
+        doReturn(topic).when(redissonClient).getTopic(anyString(), any(Codec.class));
+        blackListFilter.subscribe();
+        blackListFilter.load();
+        verify(topic).addListener(statusListener.capture());
+        statusListener.getValue().onSubscribe(BlackListRepository.ADDED_TOPIC);
+
+        // when
+        statusListener.getValue().onSubscribe(BlackListRepository.ADDED_TOPIC);
+
+        // then
+        verify(blackListRepository, timeout(1000).times(2)).findAllDigests();
+    }
+
+    @Test
+    @DisplayName("저장소 조회에 실패하면 Redis 조회로 대체한다")
+    void loadFailure() {
+        // given
+        when(blackListRepository.findAllDigests()).thenThrow(new QueryTimeoutException("timeout"));
+
+        // when
+        blackListFilter.load();
+
+        // then
+        assertThat(blackListFilter.mightContain("active")).isTrue();
+    }
+}
@@ -0,0 +1,79 @@
+package com.koliving.api.token.blacklist;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.koliving.api.BaseRedisTest;
+import com.koliving.api.properties.BlackListLegacyProperties;
+import com.koliving.api.token.TokenRedisBatch;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RMap;
+import org.redisson.codec.SerializationCodec;
+
+@DisplayName("블랙리스트 저장소 테스트")
+class BlackListRepositoryTest extends BaseRedisTest {
+
+    private static final Date EXPIRATION = Date.from(Instant.now().plus(1, ChronoUnit.HOURS));
+
+    @Test
+    @DisplayName("기동 후 이전 노드가 단일 해시에 쓴 토큰도 블랙리스트로 판정한다")
+    void existByToken_legacy() {
+        // given
+        BlackListRepository blackListRepository = repository(true);
+        legacyHash().fastPut("legacy-token", EXPIRATION);
+
+        // when
+        boolean actual = blackListRepository.existByToken("legacy-token");
+        boolean actualAsync = blackListRepository.existByTokenAsync("legacy-token").toCompletableFuture().join();
+
+        // then
+        assertThat(actual).isTrue();
+        assertThat(actualAsync).isTrue();
+        assertThat(blackListRepository.existByToken("active-token")).isFalse();
+    }
+
+    @Test
+    @DisplayName("저장한 토큰은 다이제스트 키와 이전 노드가 읽는 단일 해시에 함께 남는다")
+    void save_legacy() {
+        // given
+        BlackListRepository blackListRepository = repository(true);
+
+        // when
+        blackListRepository.save(new BlackAccessToken("logout-token", EXPIRATION));
+
+        // then
+        assertThat(blackListRepository.existByToken("logout-token")).isTrue();
+        assertThat(blackListRepository.findAllDigests()).hasSize(1);
+        assertThat(legacyHash().get("logout-token")).isEqualTo(EXPIRATION);
+    }
+
+    @Test
+    @DisplayName("롤링 배포가 끝나면 단일 해시를 읽거나 쓰지 않는다")
+    void legacyDisabled() {
+        // given
+        BlackListRepository blackListRepository = repository(false);
+        legacyHash().fastPut("legacy-token", EXPIRATION);
+
+        // when
+        blackListRepository.save(new BlackAccessToken("logout-token", EXPIRATION));
+
+        // then
+        assertThat(blackListRepository.existByToken("legacy-token")).isFalse();
+        assertThat(blackListRepository.existByToken("logout-token")).isTrue();
+        assertThat(legacyHash().containsKey("logout-token")).isFalse();
+    }
+
+    private BlackListRepository repository(boolean legacyEnabled) {
+        return new BlackListRepository(redissonClient, new TokenRedisBatch(redissonClient, new SimpleMeterRegistry()),
+            new BlackListLegacyProperties(legacyEnabled));
+    }
+
+    // 이전 노드의 RedisTemplate 은 해시 필드와 값을 JDK 직렬화로 저장한다
+    private RMap<String, Date> legacyHash() {
+        return redissonClient.getMap(BlackListRepository.LEGACY_HASH_KEY, new SerializationCodec());
+    }
+}
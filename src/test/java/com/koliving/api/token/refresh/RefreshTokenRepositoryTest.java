@@ -0,0 +1,194 @@
+package com.koliving.api.token.refresh;
+
+import com.koliving.api.properties.JwtProperties;
+import com.koliving.api.properties.RefreshTokenProperties;
+import com.koliving.api.token.TokenDigest;
+import com.koliving.api.token.TokenRedisBatch;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.BatchOptions;
+import org.redisson.api.BatchResult;
+import org.redisson.api.RBatch;
+import org.redisson.api.RFuture;
+import org.redisson.api.RKeysAsync;
+import org.redisson.api.RMapAsync;
+import org.redisson.api.RScript;
+import org.redisson.api.RScriptAsync;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.ByteArrayCodec;
+import org.redisson.client.codec.Codec;
+import org.redisson.misc.CompletableFutureWrapper;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenRepositoryTest {
+
+    private static final String EMAIL = "test@koliving.com";
+    private static final String DEVICE_ID = "device-1";
+    private static final String REFRESH_TOKEN = "eyJ0eXAiOiJKV1QiLCJhbGciOiJIUzI1NiJ9.eyJlbWFpbCI6InRlc3RAa29saXZpbmcuY29tIn0.signature";
+    private static final String NEXT_TOKEN = REFRESH_TOKEN + "next";
+    private static final String DEVICES_KEY = "REFRESH:{" + EMAIL + "}:devices";
+    private static final String TOKENS_KEY = "REFRESH:{" + EMAIL + "}:tokens";
+    private static final String USED_KEY = "REFRESH:{" + EMAIL + "}:used";
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private RBatch batch;
+
+    @Mock
+    private RScriptAsync script;
+
+    @Mock
+    private RMapAsync<String, String> legacy;
+
+    @Mock
+    private RKeysAsync keys;
+
+    private SimpleMeterRegistry meterRegistry;
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        when(redissonClient.createBatch(any(BatchOptions.class))).thenReturn(batch);
+        doReturn(completed(new BatchResult<>(List.of(), 0))).when(batch).executeAsync();
+        refreshTokenRepository = new RefreshTokenRepository(new TokenRedisBatch(redissonClient, meterRegistry),
+            new JwtProperties("HS256", "c2VjcmV0", 1, 14), new RefreshTokenProperties(5));
+    }
+
+    @Test
+    @DisplayName("save() 성공 : 기기별 토큰 해시에 토큰 원문 대신 다이제스트를 한 번의 왕복으로 저장한다")
+    void save() {
+        // given
+        doReturn(script).when(batch).getScript(any(Codec.class));
+        doReturn(completed(1L)).when(script).evalAsync(anyString(), any(), anyString(), any(), anyList(), any());
+
+        // when
+        refreshTokenRepository.save(new RefreshToken(EMAIL, DEVICE_ID, REFRESH_TOKEN));
+
+        // then
+        verify(script).evalAsync(
+            eq(DEVICES_KEY), eq(RScript.Mode.READ_WRITE), anyString(), eq(RScript.ReturnType.INTEGER),
+            eq(List.<Object>of(DEVICES_KEY, TOKENS_KEY)),
+            eq(TokenDigest.of(REFRESH_TOKEN)), anyString(), anyString(), eq(DEVICE_ID), eq("5")
+        );
+        assertThat(TokenDigest.of(REFRESH_TOKEN)).hasSize(43);
+        assertThat(roundTrips("refresh.issue")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("rotate() 성공 : 스크립트 결과를 교체 결과로 변환하고, 교체마다 한 번 왕복한다")
+    void rotate() {
+        // given
+        doReturn(script).when(batch).getScript(any(Codec.class));
+        doReturn(completed(1L), completed(0L), completed(-1L))
+            .when(script).evalAsync(anyString(), any(), anyString(), any(), anyList(), any());
+        final RefreshToken presented = new RefreshToken(EMAIL, DEVICE_ID, REFRESH_TOKEN);
+        final RefreshToken next = new RefreshToken(EMAIL, DEVICE_ID, NEXT_TOKEN);
+
+        // when & then
+        assertThat(refreshTokenRepository.rotate(presented, next)).isEqualTo(RefreshTokenRotation.ROTATED);
+        assertThat(refreshTokenRepository.rotate(presented, next)).isEqualTo(RefreshTokenRotation.NOT_FOUND);
+        assertThat(refreshTokenRepository.rotate(presented, next)).isEqualTo(RefreshTokenRotation.REUSED);
+        assertThat(roundTrips("refresh.rotate")).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("rotate() 성공 : 기기 식별자가 없는 이전 토큰은 이전 해시와 함께 한 스크립트로 교체한다")
+    void rotate_legacy() {
+        // given
+        doReturn(script).when(batch).getScript(ByteArrayCodec.INSTANCE);
+        doReturn(completed(1L), completed(0L)).when(script).evalAsync(anyString(), any(), anyString(), any(), anyList(), any());
+        final RefreshToken presented = new RefreshToken(EMAIL, null, REFRESH_TOKEN);
+        final RefreshToken next = new RefreshToken(EMAIL, DEVICE_ID, NEXT_TOKEN);
+
+        // when & then
+        assertThat(refreshTokenRepository.rotate(presented, next)).isEqualTo(RefreshTokenRotation.ROTATED);
+        assertThat(refreshTokenRepository.rotate(presented, next)).isEqualTo(RefreshTokenRotation.NOT_FOUND);
+        verify(script, times(2)).evalAsync(
+            eq(DEVICES_KEY), eq(RScript.Mode.READ_WRITE), anyString(), eq(RScript.ReturnType.INTEGER),
+            eq(List.<Object>of(DEVICES_KEY, TOKENS_KEY, "RefreshToken")),
+            any(), any(), any(), any(), any(), any(), any(), any()
+        );
+        assertThat(roundTrips("refresh.legacy.rotate")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("existByEmail() 성공 : 기기 목록과 이전 해시를 한 번의 왕복으로 확인한다")
+    void existByEmail() {
+        // given
+        doReturn(keys).when(batch).getKeys();
+        doReturn(legacy).when(batch).getMap(eq("RefreshToken"), any(Codec.class));
+        when(keys.countExistsAsync(DEVICES_KEY)).thenReturn(completed(0L));
+        when(legacy.containsKeyAsync(EMAIL)).thenReturn(completed(true));
+
+        // when & then
+        assertThat(refreshTokenRepository.existByEmail(EMAIL)).isTrue();
+        assertThat(roundTrips("refresh.exists")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("delete() 성공 : 기기 세션과 이전 해시를 한 번의 왕복으로 폐기한다")
+    void delete() {
+        // given
+        doReturn(legacy).when(batch).getMap(eq("RefreshToken"), any(Codec.class));
+        doReturn(keys).when(batch).getKeys();
+        when(keys.deleteAsync(DEVICES_KEY, TOKENS_KEY, USED_KEY)).thenReturn(completed(3L));
+
+        // when
+        refreshTokenRepository.delete(EMAIL);
+
+        // then
+        verify(legacy).fastRemoveAsync(EMAIL);
+        verify(keys).deleteAsync(DEVICES_KEY, TOKENS_KEY, USED_KEY);
+        assertThat(roundTrips("refresh.revoke")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("revoke() 성공 : 한 기기의 세션만 한 번의 왕복으로 폐기한다")
+    void revoke() {
+        // given
+        doReturn(script).when(batch).getScript(any(Codec.class));
+        doReturn(completed(1L)).when(script).evalAsync(anyString(), any(), anyString(), any(), anyList(), any());
+
+        // when
+        refreshTokenRepository.revoke(EMAIL, DEVICE_ID);
+
+        // then
+        verify(script).evalAsync(
+            eq(DEVICES_KEY), eq(RScript.Mode.READ_WRITE), anyString(), eq(RScript.ReturnType.INTEGER),
+            eq(List.<Object>of(DEVICES_KEY, TOKENS_KEY)),
+            eq(DEVICE_ID)
+        );
+        assertThat(roundTrips("refresh.revoke.device")).isEqualTo(1);
+    }
+
+    private double roundTrips(String operation) {
+        return meterRegistry.get("token.redis.round-trips")
+            .tag("operation", operation)
+            .counter()
+            .count();
+    }
+
+    private static <T> RFuture<T> completed(T value) {
+        return new CompletableFutureWrapper<>(value);
+    }
+}
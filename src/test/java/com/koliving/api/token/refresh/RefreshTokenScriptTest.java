@@ -0,0 +1,201 @@
+package com.koliving.api.token.refresh;
+
+import com.koliving.api.BaseRedisTest;
+import com.koliving.api.properties.JwtProperties;
+import com.koliving.api.properties.RefreshTokenProperties;
+import com.koliving.api.token.TokenDigest;
+import com.koliving.api.token.TokenRedisBatch;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.redisson.api.RMap;
+import org.redisson.client.codec.StringCodec;
+import org.redisson.codec.SerializationCodec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("리프레시 토큰 Lua 스크립트 테스트")
+class RefreshTokenScriptTest extends BaseRedisTest {
+
+    private static final String EMAIL = "test@koliving.com";
+    private static final String OTHER_EMAIL = "other@koliving.com";
+    private static final String DEVICES_KEY = "REFRESH:{" + EMAIL + "}:devices";
+    private static final String USED_KEY = "REFRESH:{" + EMAIL + "}:used";
+
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenRepository = new RefreshTokenRepository(new TokenRedisBatch(redissonClient, new SimpleMeterRegistry()),
+            new JwtProperties("HS256", "c2VjcmV0", 1, 14), new RefreshTokenProperties(2));
+    }
+
+    @Test
+    @DisplayName("교체한 토큰은 다음 교체에 쓸 수 없고, 새 토큰으로 다시 교체할 수 있다")
+    void rotate() {
+        // given
+        refreshTokenRepository.save(token("device-1", "first"));
+
+        // when & then
+        assertThat(refreshTokenRepository.rotate(token("device-1", "first"), token("device-1", "second")))
+            .isEqualTo(RefreshTokenRotation.ROTATED);
+        assertThat(refreshTokenRepository.rotate(token("device-1", "second"), token("device-1", "third")))
+            .isEqualTo(RefreshTokenRotation.ROTATED);
+        assertThat(refreshTokenRepository.rotate(token("device-1", "unknown"), token("device-1", "fourth")))
+            .isEqualTo(RefreshTokenRotation.NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("이미 교체된 토큰이 다시 제시되면 회원의 모든 기기 세션을 폐기한다")
+    void rotate_reused() {
+        // given
+        refreshTokenRepository.save(token("device-1", "first"));
+        refreshTokenRepository.save(token("device-2", "other"));
+        refreshTokenRepository.rotate(token("device-1", "first"), token("device-1", "second"));
+
+        // when
+        RefreshTokenRotation actual = refreshTokenRepository.rotate(token("device-1", "first"), token("device-1", "stolen"));
+
+        // then
+        assertThat(actual).isEqualTo(RefreshTokenRotation.REUSED);
+        assertThat(refreshTokenRepository.rotate(token("device-1", "second"), token("device-1", "third")))
+            .isEqualTo(RefreshTokenRotation.NOT_FOUND);
+        assertThat(refreshTokenRepository.rotate(token("device-2", "other"), token("device-2", "next")))
+            .isEqualTo(RefreshTokenRotation.NOT_FOUND);
+        assertThat(refreshTokenRepository.existByEmail(EMAIL)).isFalse();
+    }
+
+    @Test
+    @DisplayName("만료된 교체 이력은 다음 교체 때 덜어낸다")
+    void rotate_used_expired() {
+        // given
+        refreshTokenRepository.save(token("device-1", "first"));
+        refreshTokenRepository.rotate(token("device-1", "first"), token("device-1", "second"));
+        redissonClient.getScoredSortedSet(USED_KEY, StringCodec.INSTANCE).add(0, "expired");
+
+        // when
+        refreshTokenRepository.rotate(token("device-1", "second"), token("device-1", "third"));
+
+        // then
+        assertThat(redissonClient.getScoredSortedSet(USED_KEY, StringCodec.INSTANCE).readAll())
+            .containsExactlyInAnyOrder(TokenDigest.of("first"), TokenDigest.of("second"));
+    }
+
+    @Test
+    @DisplayName("최대 기기 수를 넘으면 가장 오래된 기기의 세션을 만료시킨다")
+    void save_overflow() throws InterruptedException {
+        // given
+        refreshTokenRepository.save(token("device-1", "first"));
+        Thread.sleep(5);
+        refreshTokenRepository.save(token("device-2", "second"));
+        Thread.sleep(5);
+
+        // when
+        refreshTokenRepository.save(token("device-3", "third"));
+
+        // then
+        assertThat(redissonClient.getScoredSortedSet(DEVICES_KEY, StringCodec.INSTANCE).readAll())
+            .containsExactlyInAnyOrder("device-2", "device-3");
+        assertThat(refreshTokenRepository.rotate(token("device-1", "first"), token("device-1", "next")))
+            .isEqualTo(RefreshTokenRotation.NOT_FOUND);
+        assertThat(refreshTokenRepository.rotate(token("device-2", "second"), token("device-2", "next")))
+            .isEqualTo(RefreshTokenRotation.ROTATED);
+    }
+
+    @Test
+    @DisplayName("마지막 발급 후 유효 기간이 지난 기기는 해시에 남아 있어도 교체할 수 없다")
+    void rotate_device_expired() {
+        // given
+        refreshTokenRepository.save(token("device-1", "first"));
+        refreshTokenRepository.save(token("device-2", "second"));
+        redissonClient.getScoredSortedSet(DEVICES_KEY, StringCodec.INSTANCE).add(0, "device-1");
+
+        // when
+        RefreshTokenRotation actual = refreshTokenRepository.rotate(token("device-1", "first"), token("device-1", "next"));
+
+        // then
+        assertThat(actual).isEqualTo(RefreshTokenRotation.NOT_FOUND);
+        assertThat(refreshTokenRepository.rotate(token("device-2", "second"), token("device-2", "next")))
+            .isEqualTo(RefreshTokenRotation.ROTATED);
+    }
+
+    @Test
+    @DisplayName("이전 해시에 다이제스트나 원문으로 저장된 토큰은 한 번만 새 기기 세션으로 옮긴다")
+    void rotate_legacy() {
+        // given
+        legacyHash().fastPut(EMAIL, TokenDigest.of("legacy"));
+        legacyHash().fastPut(OTHER_EMAIL, "other-legacy");
+
+        // when & then
+        assertThat(refreshTokenRepository.rotate(new RefreshToken(EMAIL, null, "legacy"), token("device-1", "next")))
+            .isEqualTo(RefreshTokenRotation.ROTATED);
+        assertThat(refreshTokenRepository.rotate(new RefreshToken(EMAIL, null, "legacy"), token("device-1", "again")))
+            .isEqualTo(RefreshTokenRotation.NOT_FOUND);
+        assertThat(refreshTokenRepository.rotate(token("device-1", "next"), token("device-1", "third")))
+            .isEqualTo(RefreshTokenRotation.ROTATED);
+        assertThat(refreshTokenRepository.rotate(new RefreshToken(OTHER_EMAIL, null, "other-legacy"),
+            new RefreshToken(OTHER_EMAIL, "device-1", "other-next"))).isEqualTo(RefreshTokenRotation.ROTATED);
+        assertThat(legacyHash().isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("이전 해시의 토큰과 다르면 옮기지 않는다")
+    void rotate_legacy_not_found() {
+        // given
+        legacyHash().fastPut(EMAIL, TokenDigest.of("legacy"));
+
+        // when
+        RefreshTokenRotation actual = refreshTokenRepository.rotate(new RefreshToken(EMAIL, null, "forged"), token("device-1", "next"));
+
+        // then
+        assertThat(actual).isEqualTo(RefreshTokenRotation.NOT_FOUND);
+        assertThat(legacyHash().get(EMAIL)).isEqualTo(TokenDigest.of("legacy"));
+        assertThat(refreshTokenRepository.rotate(token("device-1", "next"), token("device-1", "third")))
+            .isEqualTo(RefreshTokenRotation.NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("로그아웃한 기기의 세션만 폐기하고 다른 기기는 그대로 둔다")
+    void revoke() {
+        // given
+        refreshTokenRepository.save(token("device-1", "first"));
+        refreshTokenRepository.save(token("device-2", "second"));
+
+        // when
+        refreshTokenRepository.revoke(EMAIL, "device-1");
+
+        // then
+        assertThat(refreshTokenRepository.rotate(token("device-1", "first"), token("device-1", "next")))
+            .isEqualTo(RefreshTokenRotation.NOT_FOUND);
+        assertThat(refreshTokenRepository.rotate(token("device-2", "second"), token("device-2", "next")))
+            .isEqualTo(RefreshTokenRotation.ROTATED);
+        assertThat(redissonClient.getScoredSortedSet(DEVICES_KEY, StringCodec.INSTANCE).readAll())
+            .containsExactly("device-2");
+    }
+
+    @Test
+    @DisplayName("회원의 모든 세션을 폐기한다")
+    void delete() {
+        // given
+        refreshTokenRepository.save(token("device-1", "first"));
+        refreshTokenRepository.save(token("device-2", "second"));
+
+        // when
+        refreshTokenRepository.delete(EMAIL);
+
+        // then
+        assertThat(refreshTokenRepository.existByEmail(EMAIL)).isFalse();
+        assertThat(refreshTokenRepository.rotate(token("device-2", "second"), token("device-2", "next")))
+            .isEqualTo(RefreshTokenRotation.NOT_FOUND);
+    }
+
+    private RefreshToken token(String deviceId, String token) {
+        return new RefreshToken(EMAIL, deviceId, token);
+    }
+
+    // 이전 노드의 RedisTemplate 은 해시 필드와 값을 JDK 직렬화로 저장한다
+    private RMap<String, String> legacyHash() {
+        return redissonClient.getMap("RefreshToken", new SerializationCodec());
+    }
+}
@@ -0,0 +1,75 @@
+package com.koliving.api.user;
+
+import static com.koliving.api.user.UserUtils.createUser;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.koliving.api.base.ServiceError;
+import com.koliving.api.base.exception.KolivingServiceException;
+import com.koliving.api.properties.UserCacheProperties;
+import com.koliving.api.user.application.UserCache;
+import com.koliving.api.user.domain.User;
+import com.koliving.api.user.infra.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@DisplayName("회원 캐시 테스트")
+@ExtendWith(MockitoExtension.class)
+class UserCacheTest {
+
+    @Mock
+    UserRepository userRepository;
+
+    UserCache userCache;
+
+    @BeforeEach
+    void setUp() {
+        userCache = new UserCache(userRepository, new UserCacheProperties(100, Duration.ofSeconds(30)),
+            new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("존재 여부만 캐시하고 요청마다 새 참조를 반환한다")
+    void get() {
+        // given
+        final User first = createUser("test@koliving.com", "KolivingPwd!@");
+        final User second = createUser("test@koliving.com", "KolivingPwd!@");
+        when(userRepository.existsById(1L)).thenReturn(true);
+        when(userRepository.getReferenceById(1L)).thenReturn(first, second);
+
+        // when
+        User actual = userCache.get(1L);
+        User next = userCache.get(1L);
+
+        // then
+        assertThat(actual).isSameAs(first);
+        assertThat(next).isSameAs(second);
+        verify(userRepository, times(1)).existsById(1L);
+        verify(userRepository, times(2)).getReferenceById(1L);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 회원이면 예외를 던지고 캐시하지 않는다")
+    void get_notFound() {
+        // given
+        when(userRepository.existsById(1L)).thenReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> userCache.get(1L))
+            .isInstanceOf(KolivingServiceException.class)
+            .extracting("error")
+            .isEqualTo(ServiceError.UNAUTHORIZED);
+        assertThatThrownBy(() -> userCache.get(1L))
+            .isInstanceOf(KolivingServiceException.class);
+        verify(userRepository, times(2)).existsById(1L);
+    }
+}